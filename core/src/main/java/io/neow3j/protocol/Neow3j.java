@@ -1,14 +1,24 @@
 package io.neow3j.protocol;
 
+import io.neow3j.protocol.core.BatchRequest;
 import io.neow3j.protocol.core.JsonRpc2_0Neow3j;
 import io.neow3j.protocol.core.Neo;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.polling.ChainHeadTracker;
+import io.neow3j.protocol.core.polling.TransactionTracker;
 import io.neow3j.protocol.core.response.NeoGetVersion;
 import io.neow3j.protocol.core.response.NeoGetVersion.NeoVersion.Protocol;
 import io.neow3j.protocol.exceptions.Neow3jBuildException;
+import io.neow3j.protocol.notifications.Notification;
 import io.neow3j.protocol.rx.Neow3jRx;
+import io.neow3j.transaction.NetworkFeeCalculator;
 import io.neow3j.types.Hash160;
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.Observable;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 
@@ -20,9 +30,18 @@ import static io.neow3j.protocol.Neow3jConfig.defaultNeow3jConfig;
 public abstract class Neow3j implements Neo, Neow3jRx {
 
     private final Neow3jConfig config;
+    private final ChainHeadTracker chainHeadTracker;
+    private final TransactionTracker transactionTracker;
+    private final NetworkFeeCalculator networkFeeCalculator;
+    private final Object protocolLock = new Object();
+    private volatile Protocol protocol;
+    private volatile long protocolFetchTime;
 
     protected Neow3j(Neow3jConfig config) {
         this.config = config;
+        this.chainHeadTracker = new ChainHeadTracker(this);
+        this.transactionTracker = new TransactionTracker(this);
+        this.networkFeeCalculator = new NetworkFeeCalculator(this);
     }
 
     /**
@@ -73,18 +92,20 @@ public abstract class Neow3j implements Neo, Neow3jRx {
      * @throws IOException if something goes wrong when communicating with the Neo node.
      */
     protected void setConfigFromNodeProtocol() throws IOException {
-        NeoGetVersion.NeoVersion.Protocol protocol = this.getVersion().send().getVersion().getProtocol();
-        setConfigFromProtocol(protocol);
+        setConfigFromProtocol(fetchProtocol());
     }
 
     /**
      * Sets Neow3j's configuration based on the provided protocol. This does not overwrite any configuration that was
      * set manually.
+     * <p>
+     * The protocol is cached and returned by {@link #getProtocol()}.
      *
      * @param protocol the protocol to set the configuration from.
      */
     protected void setConfigFromProtocol(NeoGetVersion.NeoVersion.Protocol protocol) {
         this.config.setConfigFromProtocol(protocol);
+        cacheProtocol(protocol);
     }
 
     /**
@@ -92,6 +113,19 @@ public abstract class Neow3j implements Neo, Neow3jRx {
      */
     public abstract void shutdown();
 
+    /**
+     * Creates a new empty batch request. Requests created by this instance can be added to the batch and are then
+     * sent to the Neo node in a single call.
+     * <p>
+     * This implementation is meant for extending classes that do not support batches. The requests of the returned
+     * batch are sent one after the other, each with the service it was created with.
+     *
+     * @return the new batch request.
+     */
+    public BatchRequest newBatch() {
+        return new BatchRequest(new RequestForwardingService());
+    }
+
     /**
      * @return true if transmission is allowed when the provided script leads to a
      * {@link io.neow3j.types.NeoVMStateType#FAULT}. False, otherwise.
@@ -141,6 +175,131 @@ public abstract class Neow3j implements Neo, Neow3jRx {
         return config.getPollingInterval();
     }
 
+    /**
+     * Gets whether the polling for new blocks is timed by the expected arrival of the next block instead of the fixed
+     * polling interval.
+     *
+     * @return true if adaptive polling is enabled. False, otherwise.
+     * @see Neow3jConfig#setAdaptivePolling(boolean)
+     */
+    public boolean isAdaptivePolling() {
+        return config.isAdaptivePolling();
+    }
+
+    /**
+     * Gets the maximum age in milliseconds of a block count that is used without fetching it again from the Neo node.
+     *
+     * @return the maximum age in milliseconds.
+     */
+    public long getBlockCountMaxAge() {
+        return config.getBlockCountMaxAge();
+    }
+
+    /**
+     * Gets the maximum number of blocks fetched concurrently when replaying blocks.
+     * <p>
+     * Defaults to {@link Neow3jConfig#DEFAULT_BLOCK_REPLAY_PARALLELISM}, i.e., blocks are fetched one after the other.
+     *
+     * @return the block replay parallelism.
+     */
+    public int getBlockReplayParallelism() {
+        return config.getBlockReplayParallelism();
+    }
+
+    /**
+     * Gets the maximum number of blocks fetched ahead of the block that is emitted next when replaying blocks.
+     *
+     * @return the block replay window.
+     */
+    public int getBlockReplayWindow() {
+        return config.getBlockReplayWindow();
+    }
+
+    /**
+     * Gets the maximum number of blocks whose application logs are fetched ahead of the block that is emitted next.
+     *
+     * @return the application log prefetch.
+     */
+    public int getApplicationLogPrefetch() {
+        return config.getApplicationLogPrefetch();
+    }
+
+    /**
+     * Gets whether the network fee of transactions with only account signers is calculated locally.
+     *
+     * @return true if the network fee is calculated locally. False, otherwise.
+     * @see Neow3jConfig#setLocalNetworkFee(boolean)
+     */
+    public boolean isLocalNetworkFee() {
+        return config.isLocalNetworkFee();
+    }
+
+    /**
+     * Gets the maximum age in milliseconds of the PolicyContract values used to calculate network fees locally.
+     *
+     * @return the maximum age in milliseconds.
+     */
+    public long getPolicyCacheMaxAge() {
+        return config.getPolicyCacheMaxAge();
+    }
+
+    /**
+     * Gets the maximum number of transactions that are fetched concurrently when observing the transactions that are
+     * added to the mempool.
+     *
+     * @return the mempool fetch parallelism.
+     */
+    public int getMemPoolFetchParallelism() {
+        return config.getMemPoolFetchParallelism();
+    }
+
+    /**
+     * Gets the strategy applied by the {@code Flowable}s of this instance if their downstream does not keep up.
+     *
+     * @return the overflow strategy, or null if the {@code Flowable}s only fetch as far as the downstream requested.
+     */
+    public BackpressureOverflowStrategy getBackpressureOverflowStrategy() {
+        return config.getBackpressureOverflowStrategy();
+    }
+
+    /**
+     * Gets the number of items the {@code Flowable}s of this instance buffer before the overflow strategy applies.
+     *
+     * @return the buffer size.
+     */
+    public long getBackpressureBufferSize() {
+        return config.getBackpressureBufferSize();
+    }
+
+    /**
+     * Gets the tracker that provides the block count of the connected Neo node to all code paths of this instance that
+     * depend on it.
+     *
+     * @return the chain head tracker.
+     */
+    public ChainHeadTracker getChainHeadTracker() {
+        return chainHeadTracker;
+    }
+
+    /**
+     * Gets the tracker that all transactions sent with this instance share to wait for their inclusion in a block.
+     *
+     * @return the transaction tracker.
+     */
+    public TransactionTracker getTransactionTracker() {
+        return transactionTracker;
+    }
+
+    /**
+     * Gets the calculator that transactions built with this instance use to calculate their network fee locally.
+     *
+     * @return the network fee calculator.
+     * @see #isLocalNetworkFee()
+     */
+    public NetworkFeeCalculator getNetworkFeeCalculator() {
+        return networkFeeCalculator;
+    }
+
     /**
      * @return the NeoNameService resolver script hash that is configured in the {@link Neow3jConfig}.
      */
@@ -182,8 +341,84 @@ public abstract class Neow3j implements Neo, Neow3jRx {
         return getProtocol().getMaxValidUntilBlockIncrement();
     }
 
-    private NeoGetVersion.NeoVersion.Protocol getProtocol() throws IOException {
-        return getVersion().send().getVersion().getProtocol();
+    /**
+     * Gets the protocol of the connected Neo node.
+     * <p>
+     * The protocol is fetched once when this instance is built and cached afterwards, so that, e.g., signing a
+     * transaction does not require a request to the Neo node. If a protocol time-to-live is configured (see
+     * {@link Neow3jConfig#setProtocolTtl(long)}), the protocol is fetched again once it expired.
+     *
+     * @return the protocol.
+     * @throws IOException if there was a problem fetching the protocol from the Neo node.
+     */
+    public Protocol getProtocol() throws IOException {
+        Protocol cached = protocol;
+        if (cached != null && !isProtocolExpired()) {
+            return cached;
+        }
+        synchronized (protocolLock) {
+            cached = protocol;
+            if (cached != null && !isProtocolExpired()) {
+                return cached;
+            }
+            return fetchProtocol();
+        }
+    }
+
+    /**
+     * Fetches the protocol from the connected Neo node and replaces the cached protocol.
+     * <p>
+     * The configuration of this instance is not changed.
+     *
+     * @return the protocol.
+     * @throws IOException if there was a problem fetching the protocol from the Neo node.
+     */
+    public Protocol refreshProtocol() throws IOException {
+        synchronized (protocolLock) {
+            return fetchProtocol();
+        }
+    }
+
+    private Protocol fetchProtocol() throws IOException {
+        Protocol fetched = getVersion().send().getVersion().getProtocol();
+        cacheProtocol(fetched);
+        return fetched;
+    }
+
+    private void cacheProtocol(Protocol protocol) {
+        this.protocolFetchTime = System.currentTimeMillis();
+        this.protocol = protocol;
+    }
+
+    private boolean isProtocolExpired() {
+        Long ttl = config.getProtocolTtl();
+        return ttl != null && System.currentTimeMillis() - protocolFetchTime >= ttl;
+    }
+
+    // Sends each request with its own service, so that batches can be sent without knowing the service of this
+    // instance.
+    private static class RequestForwardingService implements Neow3jService {
+
+        @Override
+        public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+            return responseType.cast(((Request<?, ?>) request).send());
+        }
+
+        @Override
+        public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+            return ((Request<?, ?>) request).sendAsync().thenApply(responseType::cast);
+        }
+
+        @Override
+        public <T extends Notification<?>> Observable<T> subscribe(Request request, String unsubscribeMethod,
+                Class<T> responseType) {
+            throw new UnsupportedOperationException("Subscriptions are not supported by batches.");
+        }
+
+        @Override
+        public void close() {
+        }
+
     }
 
 }
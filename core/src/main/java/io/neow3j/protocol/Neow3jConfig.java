@@ -1,9 +1,16 @@
 package io.neow3j.protocol;
 
+import io.neow3j.protocol.cache.ResponseCache;
+import io.neow3j.protocol.coalescing.CoalescingService;
 import io.neow3j.protocol.core.response.NeoGetVersion;
+import io.neow3j.protocol.limit.RequestLimiter;
+import io.neow3j.protocol.retry.RetryPolicy;
 import io.neow3j.types.Hash160;
 import io.neow3j.utils.Async;
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.Flowable;
 
+import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 
 /**
@@ -15,6 +22,11 @@ public class Neow3jConfig {
     private static final Hash160 MAINNET_NNS_CONTRACT_HASH = new Hash160("0x50ac1c37690cc2cfc594472833cf57505d5f46de");
 
     public static final byte DEFAULT_ADDRESS_VERSION = 0x35;
+    public static final long DEFAULT_BLOCK_COUNT_MAX_AGE = 0;
+    public static final int DEFAULT_APPLICATION_LOG_PREFETCH = 4;
+    public static final long DEFAULT_POLICY_CACHE_MAX_AGE = 60_000;
+    public static final int DEFAULT_MEM_POOL_FETCH_PARALLELISM = 4;
+    public static final int DEFAULT_BLOCK_REPLAY_PARALLELISM = 1;
 
     // Static configuration
     private static byte staticAddressVersion = DEFAULT_ADDRESS_VERSION;
@@ -41,6 +53,74 @@ public class Neow3jConfig {
      * If set to true, allows the transmission of scripts that lead to a {@link io.neow3j.types.NeoVMStateType#FAULT}.
      */
     private boolean allowTransmissionOnFault = false;
+    /**
+     * The limiter that all requests of a {@link Neow3j} instance pass through. If null, requests are not limited.
+     */
+    private RequestLimiter requestLimiter = null;
+    /**
+     * The policy by which failed requests of a {@link Neow3j} instance are retried. If null, requests are not retried.
+     */
+    private RetryPolicy retryPolicy = null;
+    /**
+     * The cache for the responses of requests whose result never changes. If null, responses are not cached.
+     */
+    private ResponseCache responseCache = null;
+    /**
+     * The methods whose identical requests in flight at the same time are coalesced. If null, requests are not
+     * coalesced.
+     */
+    private Set<String> coalescedMethods = null;
+    /**
+     * The time in milliseconds for which the protocol of the connected Neo node is cached. If null, it is cached until
+     * it is refreshed explicitly.
+     */
+    private Long protocolTtl = null;
+    /**
+     * The maximum age in milliseconds of a block count that is used without fetching it again from the Neo node. Zero
+     * to always fetch it.
+     */
+    private long blockCountMaxAge = DEFAULT_BLOCK_COUNT_MAX_AGE;
+    /**
+     * The maximum number of blocks fetched concurrently when replaying blocks.
+     */
+    private int blockReplayParallelism = DEFAULT_BLOCK_REPLAY_PARALLELISM;
+    /**
+     * The maximum number of blocks fetched ahead when replaying blocks. If null, it is equal to the parallelism.
+     */
+    private Integer blockReplayWindow = null;
+    /**
+     * The strategy applied by the {@code Flowable}s of a {@link Neow3j} instance if their downstream does not keep up.
+     * If null, they only fetch as far as the downstream requested.
+     */
+    private BackpressureOverflowStrategy backpressureOverflowStrategy = null;
+    /**
+     * The number of items the {@code Flowable}s of a {@link Neow3j} instance buffer before the overflow strategy
+     * applies.
+     */
+    private long backpressureBufferSize = Flowable.bufferSize();
+    /**
+     * If set to true, the polling for new blocks is timed by the expected arrival of the next block instead of a fixed
+     * polling interval.
+     */
+    private boolean adaptivePolling = false;
+    /**
+     * The maximum number of blocks whose application logs are fetched ahead of the block that is emitted next.
+     */
+    private int applicationLogPrefetch = DEFAULT_APPLICATION_LOG_PREFETCH;
+    /**
+     * Whether the network fee of transactions with only account signers is calculated locally instead of with the
+     * {@code calculatenetworkfee} RPC method.
+     */
+    private boolean localNetworkFee = false;
+    /**
+     * The maximum age in milliseconds of the PolicyContract values used to calculate network fees locally.
+     */
+    private long policyCacheMaxAge = DEFAULT_POLICY_CACHE_MAX_AGE;
+    /**
+     * The maximum number of transactions that are fetched concurrently when observing the transactions that are added
+     * to the mempool.
+     */
+    private int memPoolFetchParallelism = DEFAULT_MEM_POOL_FETCH_PARALLELISM;
 
     private Neow3jConfig() {
     }
@@ -199,6 +279,387 @@ public class Neow3jConfig {
         return this;
     }
 
+    /**
+     * @return the limiter that all requests pass through, or null if requests are not limited.
+     */
+    public RequestLimiter getRequestLimiter() {
+        return requestLimiter;
+    }
+
+    /**
+     * Sets the limiter that all requests (synchronous, asynchronous and the ones of observables) of the
+     * {@link Neow3j} instance built with this configuration pass through.
+     * <p>
+     * The limiter bounds the number of requests in flight and optionally the request rate, e.g., to prevent that
+     * replaying many blocks overloads the Neo node. By default, requests are not limited.
+     *
+     * @param requestLimiter the request limiter.
+     * @return this.
+     */
+    public Neow3jConfig setRequestLimiter(RequestLimiter requestLimiter) {
+        this.requestLimiter = requestLimiter;
+        return this;
+    }
+
+    /**
+     * @return the retry policy.
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Sets the policy by which failed requests of the {@link Neow3j} instance built with this configuration are
+     * retried.
+     * <p>
+     * Only requests with idempotent methods and {@code sendrawtransaction} requests whose transaction is unknown to
+     * the node are retried. By default, requests are not retried.
+     *
+     * @param retryPolicy the retry policy.
+     * @return this.
+     */
+    public Neow3jConfig setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        return this;
+    }
+
+    /**
+     * @return the response cache.
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Sets the cache for the responses of requests whose result never changes, e.g., requesting a block by its hash or
+     * the application log of a transaction.
+     * <p>
+     * Cached responses are served without sending a request to the Neo node. By default, responses are not cached.
+     *
+     * @param responseCache the response cache.
+     * @return this.
+     */
+    public Neow3jConfig setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+        return this;
+    }
+
+    /**
+     * @return the methods whose identical requests are coalesced.
+     */
+    public Set<String> getCoalescedMethods() {
+        return coalescedMethods;
+    }
+
+    /**
+     * Sets the methods whose identical requests are coalesced if they are in flight at the same time, i.e., they share
+     * one call to the Neo node and its response.
+     * <p>
+     * {@link CoalescingService#DEFAULT_COALESCED_METHODS} contains all methods without side effects. By default,
+     * requests are not coalesced.
+     *
+     * @param coalescedMethods the names of the methods.
+     * @return this.
+     */
+    public Neow3jConfig setCoalescedMethods(Set<String> coalescedMethods) {
+        this.coalescedMethods = coalescedMethods;
+        return this;
+    }
+
+    /**
+     * @return the time in milliseconds for which the protocol of the connected Neo node is cached, or null if it is
+     * cached until it is refreshed explicitly.
+     * @see Neow3j#getProtocol()
+     */
+    public Long getProtocolTtl() {
+        return protocolTtl;
+    }
+
+    /**
+     * Sets the time for which the protocol of the connected Neo node is cached.
+     * <p>
+     * The protocol contains, e.g., the network magic number, which is needed to sign transactions. By default, it is
+     * fetched once and cached until {@link Neow3j#refreshProtocol()} is called.
+     *
+     * @param protocolTtl the time-to-live in milliseconds. Zero to fetch the protocol every time it is needed.
+     * @return this.
+     */
+    public Neow3jConfig setProtocolTtl(long protocolTtl) {
+        if (protocolTtl < 0) {
+            throw new IllegalArgumentException("The protocol time-to-live must not be negative.");
+        }
+        this.protocolTtl = protocolTtl;
+        return this;
+    }
+
+    /**
+     * @return the maximum age in milliseconds of a block count that is used without fetching it again.
+     * @see io.neow3j.protocol.core.polling.ChainHeadTracker
+     */
+    public long getBlockCountMaxAge() {
+        return blockCountMaxAge;
+    }
+
+    /**
+     * Sets the maximum age of a block count that is used without fetching it again from the Neo node.
+     * <p>
+     * The block count is needed, e.g., for every transaction that is built or sent, when awaiting blocks and when
+     * polling for new blocks. Within this time, all of them share one {@code getblockcount} request. Note that a
+     * transaction's {@code validUntilBlock} is then based on a block count that may be outdated by up to this time.
+     * <p>
+     * Defaults to {@link #DEFAULT_BLOCK_COUNT_MAX_AGE}, i.e., the block count is fetched every time it is needed.
+     *
+     * @param blockCountMaxAge the maximum age in milliseconds. Zero to fetch the block count every time it is needed.
+     * @return this.
+     */
+    public Neow3jConfig setBlockCountMaxAge(long blockCountMaxAge) {
+        if (blockCountMaxAge < 0) {
+            throw new IllegalArgumentException("The block count max age must not be negative.");
+        }
+        this.blockCountMaxAge = blockCountMaxAge;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of blocks fetched concurrently when replaying blocks.
+     */
+    public int getBlockReplayParallelism() {
+        return blockReplayParallelism;
+    }
+
+    /**
+     * Sets the maximum number of blocks fetched concurrently when replaying blocks, e.g., with
+     * {@link Neow3j#replayBlocksObservable(java.math.BigInteger, java.math.BigInteger, boolean)} or
+     * {@link Neow3j#catchUpToLatestBlockObservable(java.math.BigInteger, boolean)}.
+     * <p>
+     * The blocks are emitted in order regardless of the parallelism. Defaults to
+     * {@link #DEFAULT_BLOCK_REPLAY_PARALLELISM}, i.e., blocks are fetched one after the other, each with a request
+     * that is only sent when the previous block was received. Replaying a long range of blocks is therefore bound by
+     * the round-trip time to the Neo node. Set a higher parallelism to fetch multiple blocks concurrently.
+     *
+     * @param blockReplayParallelism the maximum number of blocks fetched concurrently.
+     * @return this.
+     */
+    public Neow3jConfig setBlockReplayParallelism(int blockReplayParallelism) {
+        if (blockReplayParallelism < 1) {
+            throw new IllegalArgumentException("The block replay parallelism must be positive.");
+        }
+        this.blockReplayParallelism = blockReplayParallelism;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of blocks fetched ahead when replaying blocks.
+     */
+    public int getBlockReplayWindow() {
+        if (blockReplayWindow == null) {
+            return blockReplayParallelism;
+        }
+        return Math.max(blockReplayWindow, blockReplayParallelism);
+    }
+
+    /**
+     * Sets the maximum number of blocks fetched ahead of the block that is emitted next when replaying blocks.
+     * <p>
+     * A window larger than the parallelism keeps the requests going while a slow block is awaited or processed, at
+     * the cost of holding more blocks in memory. The window is never smaller than the parallelism. By default, it is
+     * equal to the parallelism.
+     *
+     * @param blockReplayWindow the maximum number of blocks fetched ahead.
+     * @return this.
+     */
+    public Neow3jConfig setBlockReplayWindow(int blockReplayWindow) {
+        if (blockReplayWindow < 1) {
+            throw new IllegalArgumentException("The block replay window must be positive.");
+        }
+        this.blockReplayWindow = blockReplayWindow;
+        return this;
+    }
+
+    /**
+     * @return the strategy applied by the {@code Flowable}s if their downstream does not keep up, or null if they only
+     * fetch as far as the downstream requested.
+     */
+    public BackpressureOverflowStrategy getBackpressureOverflowStrategy() {
+        return backpressureOverflowStrategy;
+    }
+
+    /**
+     * Sets the strategy applied by the {@code Flowable}s (e.g., {@link Neow3j#blockFlowable(boolean)}) if their
+     * downstream does not keep up.
+     * <p>
+     * By default, no strategy is set and the {@code Flowable}s only poll the Neo node and fetch blocks as far as the
+     * downstream requested. A slow downstream then lags behind the blockchain but never causes unbounded buffering.
+     * If a strategy is set, the {@code Flowable}s fetch eagerly and buffer up to
+     * {@link #getBackpressureBufferSize()} items. Once the buffer is full, the strategy decides whether the oldest or
+     * latest items are dropped or the {@code Flowable} fails.
+     *
+     * @param backpressureOverflowStrategy the overflow strategy, or null to only fetch on demand.
+     * @return this.
+     */
+    public Neow3jConfig setBackpressureOverflowStrategy(BackpressureOverflowStrategy backpressureOverflowStrategy) {
+        this.backpressureOverflowStrategy = backpressureOverflowStrategy;
+        return this;
+    }
+
+    /**
+     * @return the number of items the {@code Flowable}s buffer before the overflow strategy applies.
+     */
+    public long getBackpressureBufferSize() {
+        return backpressureBufferSize;
+    }
+
+    /**
+     * Sets the number of items the {@code Flowable}s buffer before the overflow strategy applies. This has no effect
+     * if no overflow strategy is set.
+     * <p>
+     * Defaults to {@link Flowable#bufferSize()}.
+     *
+     * @param backpressureBufferSize the buffer size.
+     * @return this.
+     */
+    public Neow3jConfig setBackpressureBufferSize(long backpressureBufferSize) {
+        if (backpressureBufferSize < 1) {
+            throw new IllegalArgumentException("The backpressure buffer size must be positive.");
+        }
+        this.backpressureBufferSize = backpressureBufferSize;
+        return this;
+    }
+
+    /**
+     * @return true if the polling for new blocks is timed by the expected arrival of the next block. False, if it
+     * polls in the fixed polling interval.
+     */
+    public boolean isAdaptivePolling() {
+        return adaptivePolling;
+    }
+
+    /**
+     * Sets whether the polling for new blocks is timed by the expected arrival of the next block.
+     * <p>
+     * With adaptive polling, the next block is expected one block time (see
+     * {@link io.neow3j.protocol.core.response.NeoGetVersion.NeoVersion.Protocol#getMilliSecondsPerBlock()}) after the
+     * timestamp of the latest block. The Neo node is not polled before that, polled in short intervals around the
+     * expected arrival and then less and less frequently, up to the polling interval, if the block is late. This
+     * detects new blocks sooner than polling in a fixed interval, with fewer requests.
+     * <p>
+     * Defaults to false.
+     *
+     * @param adaptivePolling true, to enable adaptive polling.
+     * @return this.
+     */
+    public Neow3jConfig setAdaptivePolling(boolean adaptivePolling) {
+        this.adaptivePolling = adaptivePolling;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of blocks whose application logs are fetched ahead of the block that is emitted next.
+     */
+    public int getApplicationLogPrefetch() {
+        return applicationLogPrefetch;
+    }
+
+    /**
+     * Sets the maximum number of blocks whose application logs are fetched ahead of the block that is emitted next,
+     * e.g., by {@link Neow3j#blockWithLogsFlowable()} or
+     * {@link Neow3j#notificationObservable(io.neow3j.protocol.rx.NotificationFilter)}.
+     * <p>
+     * The application logs of these blocks are fetched concurrently while the downstream processes the current
+     * block. This bounds the number of blocks that are held ahead of the downstream, not their size in bytes. A block
+     * with many transactions or large application logs takes correspondingly more memory. Defaults to
+     * {@link #DEFAULT_APPLICATION_LOG_PREFETCH}.
+     *
+     * @param applicationLogPrefetch the maximum number of blocks.
+     * @return this.
+     */
+    public Neow3jConfig setApplicationLogPrefetch(int applicationLogPrefetch) {
+        if (applicationLogPrefetch < 1) {
+            throw new IllegalArgumentException("The application log prefetch must be positive.");
+        }
+        this.applicationLogPrefetch = applicationLogPrefetch;
+        return this;
+    }
+
+    /**
+     * @return true if the network fee of transactions with only account signers is calculated locally. False, if it
+     * is calculated by the Neo node.
+     */
+    public boolean isLocalNetworkFee() {
+        return localNetworkFee;
+    }
+
+    /**
+     * Sets whether the network fee of transactions with only account signers is calculated locally instead of with
+     * the {@code calculatenetworkfee} RPC method.
+     * <p>
+     * The network fee of single-sig and multi-sig witnesses only depends on the transaction and a few PolicyContract
+     * values, which are cached (see {@link #setPolicyCacheMaxAge(long)}). This saves a request for every transaction
+     * that is built. The network fee of transactions with a contract signer is still calculated by the Neo node,
+     * because it depends on the contract's {@code verify} method.
+     * <p>
+     * Defaults to false.
+     *
+     * @param localNetworkFee true, to calculate the network fee locally.
+     * @return this.
+     * @see io.neow3j.transaction.NetworkFeeCalculator
+     */
+    public Neow3jConfig setLocalNetworkFee(boolean localNetworkFee) {
+        this.localNetworkFee = localNetworkFee;
+        return this;
+    }
+
+    /**
+     * @return the maximum age in milliseconds of the PolicyContract values used to calculate network fees locally.
+     */
+    public long getPolicyCacheMaxAge() {
+        return policyCacheMaxAge;
+    }
+
+    /**
+     * Sets the maximum age of the PolicyContract values (fee per byte, execution fee factor and attribute fees) that
+     * are used to calculate network fees locally without fetching them again from the Neo node.
+     * <p>
+     * The values only change with a committee decision. Transactions built within this time after such a change might
+     * be rejected because of an insufficient network fee. Defaults to {@link #DEFAULT_POLICY_CACHE_MAX_AGE}.
+     *
+     * @param policyCacheMaxAge the maximum age in milliseconds. Zero to fetch the values for every transaction.
+     * @return this.
+     */
+    public Neow3jConfig setPolicyCacheMaxAge(long policyCacheMaxAge) {
+        if (policyCacheMaxAge < 0) {
+            throw new IllegalArgumentException("The policy cache max age must not be negative.");
+        }
+        this.policyCacheMaxAge = policyCacheMaxAge;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of transactions that are fetched concurrently when observing the transactions that
+     * are added to the mempool.
+     */
+    public int getMemPoolFetchParallelism() {
+        return memPoolFetchParallelism;
+    }
+
+    /**
+     * Sets the maximum number of transactions that are fetched concurrently by
+     * {@link Neow3j#memPoolTransactionObservable()}.
+     * <p>
+     * The transactions are still emitted in the order in which they were added to the mempool. Defaults to
+     * {@link #DEFAULT_MEM_POOL_FETCH_PARALLELISM}.
+     *
+     * @param memPoolFetchParallelism the maximum number of transactions fetched concurrently.
+     * @return this.
+     */
+    public Neow3jConfig setMemPoolFetchParallelism(int memPoolFetchParallelism) {
+        if (memPoolFetchParallelism < 1) {
+            throw new IllegalArgumentException("The mempool fetch parallelism must be positive.");
+        }
+        this.memPoolFetchParallelism = memPoolFetchParallelism;
+        return this;
+    }
+
     // endregion
 
 }
@@ -1,11 +1,15 @@
 package io.neow3j.protocol;
 
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
 import io.neow3j.protocol.notifications.Notification;
 import io.reactivex.Observable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -34,6 +38,51 @@ public interface Neow3jService {
      */
     <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType);
 
+    /**
+     * Performs a synchronous JSON-RPC batch request.
+     * <p>
+     * All requests of the batch are sent in a single call as one JSON array. The responses are matched back to the
+     * requests by their id.
+     * <p>
+     * The default implementation is meant for services that do not support batches. It sends the requests one after
+     * the other with {@link #send(Request, Class)}.
+     *
+     * @param batchRequest the batch request to perform.
+     * @return the deserialized JSON-RPC responses.
+     * @throws IOException if the batch request could not be performed.
+     */
+    default BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        List<Request<?, ?>> requests = batchRequest.getRequests();
+        List<Response<?>> responses = new ArrayList<>(requests.size());
+        for (Request<?, ?> request : requests) {
+            responses.add((Response<?>) send(request, request.getResponseType()));
+        }
+        return new BatchResponse(requests, responses);
+    }
+
+    /**
+     * Performs an asynchronous JSON-RPC batch request.
+     * <p>
+     * The default implementation is meant for services that do not support batches. It sends the requests
+     * individually with {@link #sendAsync(Request, Class)} and completes when all of them are completed.
+     *
+     * @param batchRequest the batch request to perform.
+     * @return a CompletableFuture that will be completed when the responses are returned or the batch request has
+     * failed.
+     */
+    default CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<Request<?, ?>> requests = batchRequest.getRequests();
+        List<CompletableFuture<?>> futures = new ArrayList<>(requests.size());
+        for (Request<?, ?> request : requests) {
+            futures.add(sendAsync(request, request.getResponseType()));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+            List<Response<?>> responses = new ArrayList<>(futures.size());
+            futures.forEach(f -> responses.add((Response<?>) f.join()));
+            return new BatchResponse(requests, responses);
+        });
+    }
+
     /**
      * Subscribe to a stream of notifications. A stream of notifications is opened by by performing a specified
      * JSON-RPC request and is closed by calling the unsubscribe method. Different WebSocket implementations use
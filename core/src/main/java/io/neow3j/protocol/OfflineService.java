@@ -1,5 +1,7 @@
 package io.neow3j.protocol;
 
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
 import io.neow3j.protocol.exceptions.OfflineServiceException;
@@ -61,6 +63,38 @@ public class OfflineService implements Neow3jService {
         throw new OfflineServiceException();
     }
 
+    /**
+     * Immediately throws an {@link OfflineServiceException}.
+     * <p>
+     * See {@link Neow3jService#sendBatch(BatchRequest)} for more details.
+     * <p>
+     * If you want to connect to a Neo node, make sure to use a {@link Neow3jService} implementation that can connect
+     * to a node.
+     *
+     * @param batchRequest irrelevant.
+     * @return irrelevant.
+     */
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        throw new OfflineServiceException();
+    }
+
+    /**
+     * Immediately throws an {@link OfflineServiceException}.
+     * <p>
+     * See {@link Neow3jService#sendBatchAsync(BatchRequest)} for more details.
+     * <p>
+     * If you want to connect to a Neo node, make sure to use a {@link Neow3jService} implementation that can connect
+     * to a node.
+     *
+     * @param batchRequest irrelevant.
+     * @return irrelevant.
+     */
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        throw new OfflineServiceException();
+    }
+
     /**
      * Immediately throws an {@link OfflineServiceException}.
      * <p>
@@ -0,0 +1,159 @@
+package io.neow3j.protocol;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * An input stream that captures the bytes read from the underlying stream, so that the raw response is available
+ * after the response was deserialized in a single pass.
+ * <p>
+ * The captured bytes are held in a buffer that is taken from a small pool and returned to it by {@link #release()}.
+ * The buffer grows as needed, but at most up to the maximum size. If a response is larger, it is not captured.
+ * <p>
+ * Instances are not thread-safe.
+ */
+final class RawResponseCapture extends FilterInputStream {
+
+    static final int POOLED_BUFFER_SIZE = 16 * 1024;
+    private static final int POOL_SIZE = 16;
+    private static final BlockingQueue<byte[]> POOL = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private final int maxSize;
+    private byte[] buffer;
+    private int size = 0;
+    private boolean overflow = false;
+    private boolean incomplete = false;
+    private boolean closed = false;
+
+    RawResponseCapture(InputStream in, int maxSize) {
+        super(in);
+        this.maxSize = maxSize;
+        byte[] pooled = POOL.poll();
+        this.buffer = pooled != null ? pooled : new byte[POOLED_BUFFER_SIZE];
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b >= 0) {
+            capture(new byte[]{(byte) b}, 0, 1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = in.read(b, off, len);
+        if (n > 0) {
+            capture(b, off, n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // Skipped bytes are part of the raw response, too.
+        byte[] skipped = new byte[(int) Math.min(n, 4096)];
+        int read = read(skipped, 0, skipped.length);
+        return Math.max(read, 0);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("Mark/reset is not supported.");
+    }
+
+    /**
+     * Reads the rest of the underlying stream, so that the raw response is complete even if the parser stopped
+     * reading after the JSON value, and closes it.
+     *
+     * @throws IOException if the underlying stream could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            byte[] rest = new byte[4096];
+            while (!overflow && read(rest, 0, rest.length) >= 0) {
+                // Captured by read.
+            }
+        } catch (IOException e) {
+            // The raw response is incomplete.
+            incomplete = true;
+        }
+        in.close();
+    }
+
+    /**
+     * @return the captured raw response without a final line terminator, or null if the response exceeded the maximum
+     * size or could not be read completely.
+     */
+    String getRawResponse() {
+        if (overflow || incomplete || buffer == null) {
+            return null;
+        }
+        int length = size;
+        if (length > 0 && buffer[length - 1] == '\n') {
+            length--;
+            if (length > 0 && buffer[length - 1] == '\r') {
+                length--;
+            }
+        }
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return true if the response exceeded the maximum size and, thus, was not captured.
+     */
+    boolean exceedsMaxSize() {
+        return overflow;
+    }
+
+    /**
+     * Returns the buffer to the pool. The raw response is not available anymore afterwards.
+     */
+    void release() {
+        if (buffer != null && buffer.length == POOLED_BUFFER_SIZE) {
+            POOL.offer(buffer);
+        }
+        buffer = null;
+    }
+
+    private void capture(byte[] b, int off, int len) {
+        if (overflow || buffer == null) {
+            return;
+        }
+        if ((long) size + len > maxSize) {
+            overflow = true;
+            return;
+        }
+        if (size + len > buffer.length) {
+            byte[] grown = new byte[(int) Math.min(maxSize, Math.max((long) buffer.length * 2, size + len))];
+            System.arraycopy(buffer, 0, grown, 0, size);
+            // The pooled buffer is not referenced anymore, thus, it can be reused.
+            if (buffer.length == POOLED_BUFFER_SIZE) {
+                POOL.offer(buffer);
+            }
+            buffer = grown;
+        }
+        System.arraycopy(b, off, buffer, size, len);
+        size += len;
+    }
+
+}
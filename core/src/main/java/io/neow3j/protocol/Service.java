@@ -1,14 +1,28 @@
 package io.neow3j.protocol;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.metrics.Neow3jMetrics;
+import io.neow3j.protocol.metrics.RequestEvent;
+import io.neow3j.protocol.metrics.RequestRecorder;
 import io.neow3j.protocol.notifications.Notification;
 import io.neow3j.utils.Async;
 import io.reactivex.Observable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 
@@ -19,10 +33,23 @@ import static java.lang.String.format;
  */
 public abstract class Service implements Neow3jService {
 
+    /**
+     * The default maximum size in bytes of a raw response. Larger responses are deserialized, but their raw response
+     * is not included and a warning is logged.
+     */
+    public static final int DEFAULT_MAX_RAW_RESPONSE_SIZE = 32 * 1024 * 1024;
+
+    private static final Logger log = LoggerFactory.getLogger(Service.class);
+
     protected final ObjectMapper objectMapper;
 
     protected ExecutorService asyncExecutorService;
 
+    private final boolean includeRawResponses;
+    private volatile Set<String> rawResponseMethods = Collections.emptySet();
+    private volatile int maxRawResponseSize = DEFAULT_MAX_RAW_RESPONSE_SIZE;
+    private volatile Neow3jMetrics metrics;
+
     /**
      * Creates a Service.
      *
@@ -30,8 +57,9 @@ public abstract class Service implements Neow3jService {
      * @param includeRawResponses whether to include raw responses on the {@link Response} object.
      */
     public Service(ExecutorService executorService, boolean includeRawResponses) {
-        objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        objectMapper = ObjectMapperFactory.getObjectMapper();
         asyncExecutorService = executorService;
+        this.includeRawResponses = includeRawResponses;
     }
 
     /**
@@ -40,11 +68,94 @@ public abstract class Service implements Neow3jService {
      * @param includeRawResponses whether to include raw responses on the {@link Response} object.
      */
     public Service(boolean includeRawResponses) {
-        objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        objectMapper = ObjectMapperFactory.getObjectMapper();
+        this.includeRawResponses = includeRawResponses;
+    }
+
+    /**
+     * Sets the methods whose responses include the raw response, regardless of whether raw responses are included for
+     * all methods.
+     * <p>
+     * The raw response is captured while the response is deserialized, so that the response is only read once.
+     *
+     * @param rawResponseMethods the names of the methods.
+     */
+    public void setRawResponseMethods(Set<String> rawResponseMethods) {
+        this.rawResponseMethods = new HashSet<>(rawResponseMethods);
+    }
+
+    /**
+     * Sets the maximum size of a raw response. The raw response of a larger response is not included, i.e.,
+     * {@link Response#getRawResponse()} returns null, and a warning is logged.
+     * <p>
+     * Defaults to {@link #DEFAULT_MAX_RAW_RESPONSE_SIZE}.
+     *
+     * @param maxRawResponseSize the maximum size in bytes.
+     */
+    public void setMaxRawResponseSize(int maxRawResponseSize) {
+        if (maxRawResponseSize < 0) {
+            throw new IllegalArgumentException("The maximum raw response size must not be negative.");
+        }
+        this.maxRawResponseSize = maxRawResponseSize;
+    }
+
+    /**
+     * Sets the metrics that receive the measurements of every request sent with this service.
+     *
+     * @param metrics the metrics, or null to not measure requests.
+     */
+    public void setMetrics(Neow3jMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return the metrics that receive the measurements of every request, or null if requests are not measured.
+     */
+    public Neow3jMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Starts recording the measurements of a request.
+     *
+     * @param method the JSON-RPC method, or {@link RequestEvent#BATCH_METHOD}.
+     * @return the recorder, which ignores all measurements if no metrics are set.
+     */
+    protected RequestRecorder startRecording(String method) {
+        return RequestRecorder.start(metrics, method);
+    }
+
+    /**
+     * @param method the method name.
+     * @return true, if responses to the given method include the raw response.
+     */
+    protected boolean isRawResponseIncluded(String method) {
+        return includeRawResponses || method != null && rawResponseMethods.contains(method);
     }
 
     protected abstract InputStream performIO(String payload) throws IOException;
 
+    /**
+     * Performs the I/O for a JSON-RPC request or batch of requests.
+     * <p>
+     * Serializes the payload to a String and passes it to {@link #performIO(String)}. Extending classes may override
+     * this method to serialize the payload directly into their transport without the intermediate String.
+     *
+     * @param payload  the request or the list of requests.
+     * @param recorder the recorder of the request's measurements.
+     * @return the response's input stream.
+     * @throws IOException if the request could not be performed.
+     */
+    protected InputStream performJsonIO(Object payload, RequestRecorder recorder) throws IOException {
+        String request = objectMapper.writeValueAsString(payload);
+        if (recorder.isEnabled()) {
+            recorder.onRequestBytes(request.getBytes(StandardCharsets.UTF_8).length);
+        }
+        InputStream result = performIO(request);
+        recorder.onFirstByte();
+        return recorder.countResponseBytes(result);
+    }
+
     /**
      * Performs a synchronous JSON-RPC request.
      *
@@ -56,14 +167,56 @@ public abstract class Service implements Neow3jService {
      */
     @Override
     public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
-        String payload = objectMapper.writeValueAsString(request);
-
-        try (InputStream result = performIO(payload)) {
+        RequestRecorder recorder = startRecording(request.getMethod());
+        try (InputStream result = performJsonIO(request, recorder)) {
+            T response = null;
             if (result != null) {
-                return objectMapper.readValue(result, responseType);
-            } else {
-                return null;
+                long start = System.nanoTime();
+                response = readResponse(request, result, responseType);
+                recorder.onDeserialized(System.nanoTime() - start);
             }
+            recorder.onSuccess(response);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            recorder.onFailure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Deserializes the response to a request.
+     * <p>
+     * If the raw response is included for the request's method, the bytes are captured while they are deserialized
+     * instead of buffering the whole response and reading it twice.
+     *
+     * @param request      the request.
+     * @param inputStream  the response's input stream.
+     * @param responseType the class of the response.
+     * @param <T>          the type of the response.
+     * @return the deserialized response.
+     * @throws IOException if the response could not be read or deserialized.
+     */
+    protected <T extends Response> T readResponse(Request<?, ?> request, InputStream inputStream,
+            Class<T> responseType) throws IOException {
+
+        if (!isRawResponseIncluded(request.getMethod())) {
+            return objectMapper.readValue(inputStream, responseType);
+        }
+        RawResponseCapture capture = new RawResponseCapture(inputStream, maxRawResponseSize);
+        try {
+            T response = objectMapper.readValue(capture, responseType);
+            capture.close();
+            if (capture.exceedsMaxSize()) {
+                log.warn("The raw response to the {} request with id {} is not included, because it exceeds the "
+                        + "maximum raw response size of {} bytes.", request.getMethod(), request.getId(),
+                        maxRawResponseSize);
+            }
+            if (response != null) {
+                response.setRawResponse(capture.getRawResponse());
+            }
+            return response;
+        } finally {
+            capture.release();
         }
     }
 
@@ -80,6 +233,59 @@ public abstract class Service implements Neow3jService {
         return Async.run(() -> send(request, responseType), asyncExecutorService);
     }
 
+    /**
+     * Performs a synchronous JSON-RPC batch request.
+     *
+     * @param batchRequest the batch request to perform.
+     * @return the deserialized JSON-RPC responses.
+     * @throws IOException if the batch request could not be performed.
+     */
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        List<Request<?, ?>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return new BatchResponse(requests, new ArrayList<>());
+        }
+        RequestRecorder recorder = startRecording(RequestEvent.BATCH_METHOD);
+        try (InputStream result = performJsonIO(requests, recorder)) {
+            BatchResponse response = null;
+            if (result != null) {
+                long start = System.nanoTime();
+                response = readBatchResponse(requests, objectMapper.readTree(result));
+                recorder.onDeserialized(System.nanoTime() - start);
+            }
+            recorder.onSuccess(response);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            recorder.onFailure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Performs an asynchronous JSON-RPC batch request.
+     *
+     * @param batchRequest the batch request to perform.
+     * @return a CompletableFuture that will be completed when the responses are returned or the batch request has
+     * failed.
+     */
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return Async.run(() -> sendBatch(batchRequest), asyncExecutorService);
+    }
+
+    /**
+     * Matches the responses contained in the given JSON array to the requests of a batch by their id.
+     *
+     * @param requests the requests of the batch.
+     * @param result   the JSON returned by the Neo node.
+     * @return the batch response.
+     * @throws IOException if a response could not be deserialized.
+     */
+    protected BatchResponse readBatchResponse(List<Request<?, ?>> requests, JsonNode result) throws IOException {
+        return BatchResponse.fromJson(requests, result, objectMapper);
+    }
+
     /**
      * Immediately throws an {@link UnsupportedOperationException}.
      * <p>
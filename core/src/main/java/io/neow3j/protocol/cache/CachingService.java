@@ -0,0 +1,101 @@
+package io.neow3j.protocol.cache;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.Observable;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A service that serves the responses of requests whose result never changes from a {@link ResponseCache}.
+ * <p>
+ * All other requests, batch requests and subscriptions are passed to the underlying service.
+ */
+public class CachingService implements Neow3jService {
+
+    private final Neow3jService delegate;
+    private final ResponseCache cache;
+
+    /**
+     * Creates a service that caches the responses of the given service.
+     *
+     * @param delegate the service used to send the requests.
+     * @param cache    the cache.
+     */
+    public CachingService(Neow3jService delegate, ResponseCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    /**
+     * @return the cache used by this service.
+     */
+    public ResponseCache getCache() {
+        return cache;
+    }
+
+    /**
+     * @return the service used to send the requests.
+     */
+    public Neow3jService getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        String key = cache.getKey(request);
+        if (key == null) {
+            return delegate.send(request, responseType);
+        }
+        T cached = cache.get(key, responseType);
+        if (cached != null) {
+            return cached;
+        }
+        T response = delegate.send(request, responseType);
+        cache.put(key, response);
+        return response;
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        String key = cache.getKey(request);
+        if (key == null) {
+            return delegate.sendAsync(request, responseType);
+        }
+        T cached = cache.get(key, responseType);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return delegate.sendAsync(request, responseType).thenApply(response -> {
+            cache.put(key, response);
+            return response;
+        });
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return delegate.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return delegate.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(Request request, String unsubscribeMethod,
+            Class<T> responseType) {
+        return delegate.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+}
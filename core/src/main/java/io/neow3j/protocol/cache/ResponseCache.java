@@ -0,0 +1,279 @@
+package io.neow3j.protocol.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.NeoGetStateRoot;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded least-recently-used cache for the responses of requests whose result never changes once it exists.
+ * <p>
+ * These are the requests for a block, block header or block hash, a transaction, its height and application log, and
+ * a validated state root. Since blocks are final once they are persisted by a Neo node, these results cannot change.
+ * Only successful responses with a result are cached, so e.g. a request for a block that does not exist yet is sent
+ * again the next time.
+ * <p>
+ * Verbose blocks, block headers and transactions contain the number of confirmations, which increases with every
+ * block. Thus, they are only cached if {@link #setCacheVerboseResponses(boolean)} is enabled.
+ * <p>
+ * The cache is bounded by the number of entries and by their approximate size, which is the size of their result's
+ * JSON representation. Cached responses are shared between callers and must not be modified.
+ */
+public class ResponseCache {
+
+    /**
+     * The default maximum number of cached responses.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    /**
+     * The default maximum approximate size in bytes of all cached responses.
+     */
+    public static final long DEFAULT_MAX_BYTES = 64 * 1024 * 1024;
+
+    /**
+     * The methods whose responses are cached.
+     */
+    public static final Set<String> IMMUTABLE_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "getapplicationlog",
+            "getblock",
+            "getblockhash",
+            "getblockheader",
+            "getrawtransaction",
+            "getstateroot",
+            "gettransactionheight"
+    )));
+
+    private static final Set<String> VERBOSE_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "getblock",
+            "getblockheader",
+            "getrawtransaction"
+    )));
+
+    // The approximate size of an entry's key and bookkeeping, added to the size of its result.
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long bytes = 0;
+    private volatile boolean cacheVerboseResponses = false;
+
+    /**
+     * Creates a cache with {@link #DEFAULT_MAX_ENTRIES} and {@link #DEFAULT_MAX_BYTES}.
+     */
+    public ResponseCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates a cache with the given bounds.
+     *
+     * @param maxEntries the maximum number of cached responses.
+     * @param maxBytes   the maximum approximate size in bytes of all cached responses.
+     */
+    public ResponseCache(int maxEntries, long maxBytes) {
+        if (maxEntries < 1 || maxBytes < 1) {
+            throw new IllegalArgumentException("The maximum number of entries and bytes must be positive.");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Sets whether verbose blocks, block headers and transactions are cached.
+     * <p>
+     * The number of confirmations and the hash of the next block of a cached response are not updated. Disabled by
+     * default.
+     *
+     * @param cacheVerboseResponses true, if verbose responses should be cached.
+     * @return this.
+     */
+    public ResponseCache setCacheVerboseResponses(boolean cacheVerboseResponses) {
+        this.cacheVerboseResponses = cacheVerboseResponses;
+        return this;
+    }
+
+    /**
+     * Gets the key under which the response to the given request is cached.
+     *
+     * @param request the request.
+     * @return the key, or null if the response to the request is not cacheable.
+     */
+    public String getKey(Request<?, ?> request) {
+        String method = request.getMethod();
+        if (method == null || !IMMUTABLE_METHODS.contains(method)) {
+            return null;
+        }
+        List<?> params = request.getParams();
+        if (!cacheVerboseResponses && VERBOSE_METHODS.contains(method) && isVerbose(params)) {
+            return null;
+        }
+        try {
+            return method + objectMapper.writeValueAsString(params);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets a cached response.
+     *
+     * @param key          the key of the request.
+     * @param responseType the class of the response.
+     * @param <T>          the type of the response.
+     * @return the cached response, or null if no response of the given type is cached.
+     */
+    public <T> T get(String key, Class<T> responseType) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null || !responseType.isInstance(entry.response)) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return responseType.cast(entry.response);
+    }
+
+    /**
+     * Caches a response if it is successful. Evicts the least recently used responses if the cache exceeds its
+     * bounds.
+     *
+     * @param key      the key of the request.
+     * @param response the response.
+     */
+    public void put(String key, Response<?> response) {
+        if (!isCacheable(response)) {
+            return;
+        }
+        long weight = weigh(response);
+        if (weight > maxBytes) {
+            return;
+        }
+        synchronized (entries) {
+            Entry previous = entries.put(key, new Entry(response, weight));
+            if (previous != null) {
+                bytes -= previous.weight;
+            }
+            bytes += weight;
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || bytes > maxBytes) && eldest.hasNext()) {
+                bytes -= eldest.next().getValue().weight;
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes all cached responses. The statistics are not reset.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            bytes = 0;
+        }
+    }
+
+    /**
+     * @return the number of cached responses.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return the approximate size in bytes of all cached responses.
+     */
+    public long getByteSize() {
+        synchronized (entries) {
+            return bytes;
+        }
+    }
+
+    /**
+     * @return the number of requests that were served from the cache.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of cacheable requests that were not found in the cache.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of responses that were evicted because the cache exceeded its bounds.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private static boolean isVerbose(List<?> params) {
+        if (params == null || params.size() < 2) {
+            return false;
+        }
+        Object verbose = params.get(1);
+        return Boolean.TRUE.equals(verbose) || verbose instanceof Number && ((Number) verbose).intValue() != 0;
+    }
+
+    private static boolean isCacheable(Response<?> response) {
+        if (response == null || response.hasError() || response.getResult() == null) {
+            return false;
+        }
+        if (response instanceof NeoGetStateRoot) {
+            // A state root is only final once it is validated, i.e., signed by the state validators.
+            List<?> witnesses = ((NeoGetStateRoot) response).getStateRoot().getWitnesses();
+            return witnesses != null && !witnesses.isEmpty();
+        }
+        return true;
+    }
+
+    private long weigh(Response<?> response) {
+        Object result = response.getResult();
+        if (result instanceof String) {
+            return ENTRY_OVERHEAD + 2L * ((String) result).length();
+        }
+        try {
+            return ENTRY_OVERHEAD + objectMapper.writeValueAsBytes(result).length;
+        } catch (JsonProcessingException e) {
+            return ENTRY_OVERHEAD;
+        }
+    }
+
+    private static class Entry {
+
+        private final Response<?> response;
+        private final long weight;
+
+        Entry(Response<?> response, long weight) {
+            this.response = response;
+            this.weight = weight;
+        }
+
+    }
+
+}
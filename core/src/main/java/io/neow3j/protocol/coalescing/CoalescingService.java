@@ -0,0 +1,212 @@
+package io.neow3j.protocol.coalescing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.RpcMethods;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.Observable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A service that coalesces identical requests that are in flight at the same time.
+ * <p>
+ * If a request with the same method and parameters as a request that is still in flight is sent, it does not cause
+ * another call to the Neo node. Instead, it completes with the response to the request in flight. This is useful if
+ * many threads request the same value at once, e.g., the block count. The response object is shared between the
+ * callers and must not be modified.
+ * <p>
+ * Only requests with a method in the set of coalesced methods are coalesced, which defaults to
+ * {@link #DEFAULT_COALESCED_METHODS}. Batch requests and subscriptions are passed to the underlying service.
+ */
+public class CoalescingService implements Neow3jService {
+
+    /**
+     * The methods that are coalesced by default. Only methods without side effects can share a response.
+     */
+    public static final Set<String> DEFAULT_COALESCED_METHODS = RpcMethods.READ_ONLY_METHODS;
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private final ConcurrentHashMap<String, CompletableFuture<Response<?>>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+    private final Neow3jService delegate;
+    private volatile Set<String> coalescedMethods;
+
+    /**
+     * Creates a service that coalesces the requests with a method in {@link #DEFAULT_COALESCED_METHODS}.
+     *
+     * @param delegate the service used to send the requests.
+     */
+    public CoalescingService(Neow3jService delegate) {
+        this(delegate, DEFAULT_COALESCED_METHODS);
+    }
+
+    /**
+     * Creates a service that coalesces the requests with one of the given methods.
+     *
+     * @param delegate         the service used to send the requests.
+     * @param coalescedMethods the names of the methods to coalesce.
+     */
+    public CoalescingService(Neow3jService delegate, Set<String> coalescedMethods) {
+        this.delegate = delegate;
+        setCoalescedMethods(coalescedMethods);
+    }
+
+    /**
+     * Sets the methods whose requests are coalesced.
+     *
+     * @param coalescedMethods the names of the methods.
+     * @return this.
+     */
+    public CoalescingService setCoalescedMethods(Set<String> coalescedMethods) {
+        this.coalescedMethods = new HashSet<>(coalescedMethods);
+        return this;
+    }
+
+    /**
+     * @return the number of requests that were completed with the response to another request.
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return the service used to send the requests.
+     */
+    public Neow3jService getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        String key = getKey(request, responseType);
+        if (key == null) {
+            return delegate.send(request, responseType);
+        }
+        CompletableFuture<Response<?>> call = new CompletableFuture<>();
+        CompletableFuture<Response<?>> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return responseType.cast(await(existing));
+        }
+        try {
+            T response = delegate.send(request, responseType);
+            call.complete(response);
+            return response;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        String key = getKey(request, responseType);
+        if (key == null) {
+            return delegate.sendAsync(request, responseType);
+        }
+        CompletableFuture<Response<?>> call = new CompletableFuture<>();
+        CompletableFuture<Response<?>> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            // A dependent future, so that cancelling it does not affect the other callers.
+            return existing.thenApply(responseType::cast);
+        }
+        CompletableFuture<T> response;
+        try {
+            response = delegate.sendAsync(request, responseType);
+        } catch (Throwable e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+        response.whenComplete((r, e) -> {
+            inFlight.remove(key, call);
+            if (e == null) {
+                call.complete(r);
+            } else {
+                call.completeExceptionally(unwrap(e));
+            }
+        });
+        return call.thenApply(responseType::cast);
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return delegate.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return delegate.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(Request request, String unsubscribeMethod,
+            Class<T> responseType) {
+        return delegate.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    // Returns null if the request is not coalesced.
+    private String getKey(Request<?, ?> request, Class<?> responseType) {
+        String method = request.getMethod();
+        if (method == null || !coalescedMethods.contains(method)) {
+            return null;
+        }
+        try {
+            // The response type is part of the key, since the shared response is cast to it.
+            return method + objectMapper.writeValueAsString(request.getParams()) + responseType.getName();
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static Response<?> await(CompletableFuture<Response<?>> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        if (e instanceof CompletionException && e.getCause() != null) {
+            return e.getCause();
+        }
+        return e;
+    }
+
+}
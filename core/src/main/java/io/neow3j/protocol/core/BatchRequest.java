@@ -0,0 +1,76 @@
+package io.neow3j.protocol.core;
+
+import io.neow3j.protocol.Neow3jService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A JSON-RPC 2.0 batch request.
+ * <p>
+ * Collects multiple {@link Request}s that are sent to the Neo node in a single call as one JSON array. The node's
+ * responses are matched back to the requests by their id.
+ */
+public class BatchRequest {
+
+    private final Neow3jService neow3jService;
+    private final List<Request<?, ?>> requests = new ArrayList<>();
+
+    /**
+     * Creates a new empty batch request.
+     *
+     * @param neow3jService the neow3j service to use for sending the batch.
+     */
+    public BatchRequest(Neow3jService neow3jService) {
+        this.neow3jService = neow3jService;
+    }
+
+    /**
+     * Adds a request to this batch.
+     *
+     * @param request the request to add.
+     * @return this.
+     */
+    public BatchRequest add(Request<?, ?> request) {
+        requests.add(request);
+        return this;
+    }
+
+    /**
+     * @return the requests of this batch in the order they were added.
+     */
+    public List<Request<?, ?>> getRequests() {
+        return Collections.unmodifiableList(requests);
+    }
+
+    /**
+     * @return the number of requests in this batch.
+     */
+    public int size() {
+        return requests.size();
+    }
+
+    /**
+     * Sends all requests of this batch to the Neo node in a single call.
+     *
+     * @return the deserialized JSON-RPC responses.
+     * @throws IOException if the batch could not be performed.
+     */
+    public BatchResponse send() throws IOException {
+        return neow3jService.sendBatch(this);
+    }
+
+    /**
+     * Sends all requests of this batch to the Neo node in a single call and returns a CompletableFuture that will
+     * be completed when the responses are returned or the batch has failed.
+     *
+     * @return a CompletableFuture that will be completed when the responses are returned or the batch has failed.
+     */
+    public CompletableFuture<BatchResponse> sendAsync() {
+        return neow3jService.sendBatchAsync(this);
+    }
+
+}
@@ -0,0 +1,104 @@
+package io.neow3j.protocol.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * The responses to a {@link BatchRequest}.
+ * <p>
+ * The responses are ordered in the same way as the requests of the batch, i.e., the response at index {@code i}
+ * belongs to the request at index {@code i}.
+ */
+public class BatchResponse {
+
+    private final List<Request<?, ?>> requests;
+    private final List<Response<?>> responses;
+
+    public BatchResponse(List<Request<?, ?>> requests, List<Response<?>> responses) {
+        if (requests.size() != responses.size()) {
+            throw new IllegalArgumentException(format("The number of responses (%d) does not match the number of " +
+                    "requests (%d).", responses.size(), requests.size()));
+        }
+        this.requests = requests;
+        this.responses = responses;
+    }
+
+    /**
+     * @return the requests of the batch.
+     */
+    public List<Request<?, ?>> getRequests() {
+        return Collections.unmodifiableList(requests);
+    }
+
+    /**
+     * @return the responses in the order of the requests of the batch.
+     */
+    public List<Response<?>> getResponses() {
+        return Collections.unmodifiableList(responses);
+    }
+
+    /**
+     * Gets the response to the given request.
+     *
+     * @param request the request.
+     * @param <T>     the response type.
+     * @return the response to the request.
+     * @throws IllegalArgumentException if the request is not part of the batch.
+     */
+    public <T extends Response<?>> T getResponse(Request<?, T> request) {
+        int index = requests.indexOf(request);
+        if (index < 0) {
+            throw new IllegalArgumentException(format("The request with id %d is not part of this batch.",
+                    request.getId()));
+        }
+        return request.getResponseType().cast(responses.get(index));
+    }
+
+    /**
+     * Matches the responses contained in the given JSON array to the requests of a batch by their id.
+     *
+     * @param requests     the requests of the batch.
+     * @param result       the JSON returned by the Neo node.
+     * @param objectMapper the object mapper used to deserialize the responses.
+     * @return the batch response.
+     * @throws IOException if a response could not be deserialized.
+     */
+    public static BatchResponse fromJson(List<Request<?, ?>> requests, JsonNode result, ObjectMapper objectMapper)
+            throws IOException {
+
+        if (!result.isArray()) {
+            // The node answers with a single error object if it could not process the batch as a whole.
+            objectMapper.treeToValue(result, Response.class).throwOnError();
+            throw new ClientConnectionException("Invalid batch response received: " + result);
+        }
+        Map<Long, JsonNode> responsesById = new HashMap<>();
+        for (JsonNode node : result) {
+            JsonNode id = node.get("id");
+            if (id != null && id.canConvertToLong()) {
+                responsesById.put(id.asLong(), node);
+            }
+        }
+        List<Response<?>> responses = new ArrayList<>(requests.size());
+        for (Request<?, ?> request : requests) {
+            JsonNode node = responsesById.get(request.getId());
+            if (node == null) {
+                throw new ClientConnectionException(
+                        format("Batch response is missing the response to the request with id %d.",
+                                request.getId()));
+            }
+            responses.add(objectMapper.treeToValue(node, request.getResponseType()));
+        }
+        return new BatchResponse(requests, responses);
+    }
+
+}
@@ -5,6 +5,8 @@ import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.Neow3jConfig;
 import io.neow3j.protocol.Neow3jService;
 import io.neow3j.protocol.OfflineService;
+import io.neow3j.protocol.cache.CachingService;
+import io.neow3j.protocol.coalescing.CoalescingService;
 import io.neow3j.protocol.core.response.NeoBlock;
 import io.neow3j.protocol.core.response.NeoBlockCount;
 import io.neow3j.protocol.core.response.NeoBlockHash;
@@ -67,15 +69,24 @@ import io.neow3j.protocol.core.response.NeoTraverseIterator;
 import io.neow3j.protocol.core.response.NeoValidateAddress;
 import io.neow3j.protocol.core.response.NeoVerifyMessage;
 import io.neow3j.protocol.core.response.NeoVerifyProof;
+import io.neow3j.protocol.core.response.Notification;
 import io.neow3j.protocol.core.response.Transaction;
 import io.neow3j.protocol.core.response.TransactionSendToken;
 import io.neow3j.protocol.core.response.TransactionSigner;
+import io.neow3j.protocol.limit.RequestLimitingService;
+import io.neow3j.protocol.retry.RetryingService;
+import io.neow3j.protocol.rx.BlockWithLogs;
 import io.neow3j.protocol.rx.JsonRpc2_0Rx;
+import io.neow3j.protocol.rx.MemPoolChange;
+import io.neow3j.protocol.rx.NotificationFilter;
+import io.neow3j.transaction.Block;
 import io.neow3j.transaction.ContractParametersContext;
+import io.neow3j.transaction.Header;
 import io.neow3j.transaction.Signer;
 import io.neow3j.types.ContractParameter;
 import io.neow3j.types.Hash160;
 import io.neow3j.types.Hash256;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 
 import java.io.IOException;
@@ -113,7 +124,7 @@ public class JsonRpc2_0Neow3j extends Neow3j {
      */
     public JsonRpc2_0Neow3j(Neow3jService neow3jService, Neow3jConfig config) throws IOException {
         super(config);
-        this.neow3jService = neow3jService;
+        this.neow3jService = decorate(neow3jService, config);
         this.neow3jRx = new JsonRpc2_0Rx(this, getScheduledExecutorService());
 
         // If the service is an offline service, this instance will not be able to perform any requests to a Neo node.
@@ -135,12 +146,35 @@ public class JsonRpc2_0Neow3j extends Neow3j {
     public JsonRpc2_0Neow3j(Neow3jService neow3jService, Neow3jConfig config,
             NeoGetVersion.NeoVersion.Protocol protocol) {
         super(config);
-        this.neow3jService = neow3jService;
+        this.neow3jService = decorate(neow3jService, config);
         this.neow3jRx = new JsonRpc2_0Rx(this, getScheduledExecutorService());
 
         super.setConfigFromProtocol(protocol);
     }
 
+    // Wraps the service with the request limiter, the retry policy, the request coalescing and the response cache of
+    // the configuration. Retries pass through the limiter like any other request. Coalesced requests share the retries
+    // of the request in flight. Cached responses bypass all of them.
+    private static Neow3jService decorate(Neow3jService neow3jService, Neow3jConfig config) {
+        if (neow3jService instanceof OfflineService) {
+            return neow3jService;
+        }
+        Neow3jService service = neow3jService;
+        if (config.getRequestLimiter() != null) {
+            service = new RequestLimitingService(service, config.getRequestLimiter());
+        }
+        if (config.getRetryPolicy() != null) {
+            service = new RetryingService(service, config.getRetryPolicy());
+        }
+        if (config.getCoalescedMethods() != null) {
+            service = new CoalescingService(service, config.getCoalescedMethods());
+        }
+        if (config.getResponseCache() != null) {
+            service = new CachingService(service, config.getResponseCache());
+        }
+        return service;
+    }
+
     // region Blockchain Methods
 
     /**
@@ -1713,6 +1747,26 @@ public class JsonRpc2_0Neow3j extends Neow3j {
         return neow3jRx.replayBlocksObservable(startBlock, endBlock, fullTransactionObjects, ascending);
     }
 
+    /**
+     * Creates an {@link Observable} that emits all blocks with a block number in the specified range. The blocks are
+     * fetched concurrently but emitted in order.
+     *
+     * @param startBlock             the block number to commence with.
+     * @param endBlock               the block number to finish with.
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise transaction hashes.
+     * @param ascending              if true, emits blocks in ascending order between range, otherwise, in descending
+     *                               order.
+     * @param parallelism            the maximum number of blocks fetched concurrently.
+     * @param window                 the maximum number of blocks fetched ahead.
+     * @return the {@link Observable}.
+     */
+    @Override
+    public Observable<NeoGetBlock> replayBlocksObservable(BigInteger startBlock, BigInteger endBlock,
+            boolean fullTransactionObjects, boolean ascending, int parallelism, int window) {
+        return neow3jRx.replayBlocksObservable(startBlock, endBlock, fullTransactionObjects, ascending, parallelism,
+                window);
+    }
+
     /**
      * Creates an {@link Observable} that emits all blocks from the requested block number to the most current. Once
      * it has emitted the most current block, it starts emitting new blocks as they are produced by the Neo blockchain.
@@ -1774,6 +1828,290 @@ public class JsonRpc2_0Neow3j extends Neow3j {
         return neow3jRx.blockObservable(fullTransactionObjects, getPollingInterval());
     }
 
+    /**
+     * Creates a {@link Flowable} that emits the indexes of new blocks as they are produced by the Neo blockchain.
+     * The Neo node is only polled as far as the downstream requested indexes.
+     *
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<BigInteger> blockIndexFlowable() {
+        return neow3jRx.blockIndexFlowable();
+    }
+
+    /**
+     * Creates a {@link Flowable} that emits new blocks as they are produced by the Neo blockchain. Blocks are only
+     * fetched as far as the downstream requested them.
+     *
+     * @param fullTransactionObjects if full {@link Transaction} objects should be provided in the {@link NeoBlock}
+     *                               responses.
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<NeoGetBlock> blockFlowable(boolean fullTransactionObjects) {
+        return neow3jRx.blockFlowable(fullTransactionObjects);
+    }
+
+    /**
+     * Creates a {@link Flowable} that emits all blocks with a block number in the specified range. Blocks are only
+     * fetched as far as the downstream requested them.
+     *
+     * @param startBlock             the block number to commence with.
+     * @param endBlock               the block number to finish with.
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise transaction hashes.
+     * @param ascending              if true, emits blocks in ascending order between range, otherwise, in descending
+     *                               order.
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<NeoGetBlock> replayBlocksFlowable(BigInteger startBlock, BigInteger endBlock,
+            boolean fullTransactionObjects, boolean ascending) {
+        return neow3jRx.replayBlocksFlowable(startBlock, endBlock, fullTransactionObjects, ascending);
+    }
+
+    /**
+     * Creates a {@link Flowable} that emits blocks starting at {@code startBlock} up to the most recent block and
+     * then completes.
+     *
+     * @param startBlock             the block number of the first block that should be emitted.
+     * @param fullTransactionObjects if full {@link Transaction} objects should be provided in the {@link NeoBlock}
+     *                               responses.
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<NeoGetBlock> catchUpToLatestBlockFlowable(BigInteger startBlock, boolean fullTransactionObjects) {
+        return neow3jRx.catchUpToLatestBlockFlowable(startBlock, fullTransactionObjects);
+    }
+
+    /**
+     * Creates a {@link Flowable} that emits all blocks from the requested block number to the most current. Once it
+     * has emitted the most current block, it continues with new blocks as they are produced by the Neo blockchain.
+     *
+     * @param startBlock             the block number of the first block that should be emitted.
+     * @param fullTransactionObjects if full {@link Transaction} objects should be provided in the {@link NeoBlock}
+     *                               responses.
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<NeoGetBlock> catchUpToLatestAndSubscribeToNewBlocksFlowable(BigInteger startBlock,
+            boolean fullTransactionObjects) {
+        return neow3jRx.catchUpToLatestAndSubscribeToNewBlocksFlowable(startBlock, fullTransactionObjects);
+    }
+
+    /**
+     * Creates a {@link Flowable} that emits the transactions of all blocks from the requested block number to the
+     * most current and then completes.
+     *
+     * @param startBlock the block number of the first block whose transactions should be emitted.
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<Transaction> catchUpToLatestTransactionFlowable(BigInteger startBlock) {
+        return neow3jRx.catchUpToLatestTransactionFlowable(startBlock);
+    }
+
+    /**
+     * Creates a {@link Flowable} that emits the transactions of new blocks as they are produced by the Neo
+     * blockchain.
+     *
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<Transaction> transactionFlowable() {
+        return neow3jRx.transactionFlowable();
+    }
+
+    /**
+     * Creates an {@link Observable} that emits the contract notifications of the transactions in new blocks that
+     * match the given filter.
+     * <p>
+     * The application logs of the transactions of each block are fetched with a single batch request.
+     *
+     * @param filter the filter the notifications have to match.
+     * @return the {@link Observable}.
+     */
+    @Override
+    public Observable<Notification> notificationObservable(NotificationFilter filter) {
+        return neow3jRx.notificationObservable(filter, getPollingInterval());
+    }
+
+    /**
+     * Creates an {@link Observable} that emits the contract notifications of the transactions in all blocks from the
+     * requested block number that match the given filter. Once it has caught up to the most current block, it
+     * continues with the notifications of new blocks.
+     *
+     * @param startBlock the block number of the first block whose notifications should be emitted.
+     * @param filter     the filter the notifications have to match.
+     * @return the {@link Observable}.
+     */
+    @Override
+    public Observable<Notification> catchUpToLatestAndSubscribeToNewNotificationsObservable(BigInteger startBlock,
+            NotificationFilter filter) {
+        return neow3jRx.catchUpToLatestAndSubscribeToNewNotificationsObservable(startBlock, filter,
+                getPollingInterval());
+    }
+
+    /**
+     * Creates an {@link Observable} that emits the transactions that were added to or removed from the mempool since
+     * the previous poll. The first change contains all transactions that are in the mempool at subscription.
+     *
+     * @return the {@link Observable}.
+     */
+    @Override
+    public Observable<MemPoolChange> memPoolChangeObservable() {
+        return neow3jRx.memPoolChangeObservable(getPollingInterval());
+    }
+
+    /**
+     * Creates an {@link Observable} that emits the transactions that are added to the mempool. Up to
+     * {@link #getMemPoolFetchParallelism()} transactions are fetched concurrently.
+     *
+     * @return the {@link Observable}.
+     */
+    @Override
+    public Observable<Transaction> memPoolTransactionObservable() {
+        return neow3jRx.memPoolTransactionObservable(getPollingInterval());
+    }
+
+    /**
+     * Creates a {@link Flowable} that emits new blocks together with the application logs of their transactions as
+     * they are produced by the Neo blockchain. The logs of up to {@link #getApplicationLogPrefetch()} blocks are
+     * fetched ahead of the downstream.
+     *
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<BlockWithLogs> blockWithLogsFlowable() {
+        return neow3jRx.blockWithLogsFlowable();
+    }
+
+    /**
+     * Creates a {@link Flowable} that emits all blocks with a block number in the specified range together with the
+     * application logs of their transactions.
+     *
+     * @param startBlock the block number to commence with.
+     * @param endBlock   the block number to finish with.
+     * @param ascending  if true, emits blocks in ascending order between range, otherwise, in descending order.
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<BlockWithLogs> replayBlocksWithLogsFlowable(BigInteger startBlock, BigInteger endBlock,
+            boolean ascending) {
+        return neow3jRx.replayBlocksWithLogsFlowable(startBlock, endBlock, ascending);
+    }
+
+    /**
+     * Creates a {@link Flowable} that emits all blocks from the requested block number to the most current together
+     * with the application logs of their transactions. Once it has emitted the most current block, it continues with
+     * new blocks as they are produced by the Neo blockchain.
+     *
+     * @param startBlock the block number of the first block that should be emitted.
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<BlockWithLogs> catchUpToLatestAndSubscribeToNewBlocksWithLogsFlowable(BigInteger startBlock) {
+        return neow3jRx.catchUpToLatestAndSubscribeToNewBlocksWithLogsFlowable(startBlock);
+    }
+
+    /**
+     * Creates a {@link Flowable} that emits new blocks in their binary form as they are produced by the Neo
+     * blockchain. Blocks are fetched in the non-verbose form and decoded locally.
+     *
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<Block> rawBlockFlowable() {
+        return neow3jRx.rawBlockFlowable();
+    }
+
+    /**
+     * Creates a {@link Flowable} that emits all blocks in their binary form with a block number in the specified
+     * range.
+     *
+     * @param startBlock the block number to commence with.
+     * @param endBlock   the block number to finish with.
+     * @param ascending  if true, emits blocks in ascending order between range, otherwise, in descending order.
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<Block> replayRawBlocksFlowable(BigInteger startBlock, BigInteger endBlock, boolean ascending) {
+        return neow3jRx.replayRawBlocksFlowable(startBlock, endBlock, ascending);
+    }
+
+    /**
+     * Creates a {@link Flowable} that emits blocks in their binary form starting at {@code startBlock} up to the most
+     * recent block and then completes.
+     *
+     * @param startBlock the block number of the first block that should be emitted.
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<Block> catchUpToLatestRawBlockFlowable(BigInteger startBlock) {
+        return neow3jRx.catchUpToLatestRawBlockFlowable(startBlock);
+    }
+
+    /**
+     * Creates a {@link Flowable} that emits all blocks in their binary form from the requested block number to the
+     * most current. Once it has emitted the most current block, it continues with new blocks as they are produced by
+     * the Neo blockchain.
+     *
+     * @param startBlock the block number of the first block that should be emitted.
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<Block> catchUpToLatestAndSubscribeToNewRawBlocksFlowable(BigInteger startBlock) {
+        return neow3jRx.catchUpToLatestAndSubscribeToNewRawBlocksFlowable(startBlock);
+    }
+
+    /**
+     * Creates a {@link Flowable} that emits the headers in their binary form of all blocks with a block number in the
+     * specified range.
+     *
+     * @param startBlock the block number to commence with.
+     * @param endBlock   the block number to finish with.
+     * @param ascending  if true, emits headers in ascending order between range, otherwise, in descending order.
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<Header> replayRawHeadersFlowable(BigInteger startBlock, BigInteger endBlock, boolean ascending) {
+        return neow3jRx.replayRawHeadersFlowable(startBlock, endBlock, ascending);
+    }
+
+    /**
+     * Creates a {@link Flowable} that emits the headers in their binary form starting at {@code startBlock} up to the
+     * most recent block and then completes.
+     *
+     * @param startBlock the block number of the first header that should be emitted.
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<Header> catchUpToLatestRawHeaderFlowable(BigInteger startBlock) {
+        return neow3jRx.catchUpToLatestRawHeaderFlowable(startBlock);
+    }
+
+    /**
+     * Creates a {@link Flowable} that emits the headers in their binary form of all blocks from the requested block
+     * number to the most current. Once it has emitted the most current header, it continues with the headers of new
+     * blocks as they are produced by the Neo blockchain.
+     *
+     * @param startBlock the block number of the first header that should be emitted.
+     * @return the {@link Flowable}.
+     */
+    @Override
+    public Flowable<Header> catchUpToLatestAndSubscribeToNewRawHeadersFlowable(BigInteger startBlock) {
+        return neow3jRx.catchUpToLatestAndSubscribeToNewRawHeadersFlowable(startBlock);
+    }
+
+    /**
+     * Creates a new empty batch request that is sent with this instance's neow3j service.
+     *
+     * @return the new batch request.
+     */
+    @Override
+    public BatchRequest newBatch() {
+        return new BatchRequest(neow3jService);
+    }
+
     /**
      * Shuts down the scheduled executor service and the neow3j service.
      */
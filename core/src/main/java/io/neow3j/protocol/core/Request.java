@@ -1,5 +1,6 @@
 package io.neow3j.protocol.core;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.neow3j.protocol.Neow3jService;
 import io.reactivex.Observable;
 
@@ -114,6 +115,14 @@ public class Request<S, T extends Response> {
         this.id = id;
     }
 
+    /**
+     * @return the class of the response type.
+     */
+    @JsonIgnore
+    public Class<T> getResponseType() {
+        return responseType;
+    }
+
     /**
      * Sends the request to the Neo node and returns the deserialized JSON-RPC response.
      *
@@ -0,0 +1,83 @@
+package io.neow3j.protocol.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Classification of the JSON-RPC methods of a Neo node.
+ */
+public final class RpcMethods {
+
+    private RpcMethods() {}
+
+    /**
+     * Methods that only read the node's state and do not depend on server-side state created by earlier requests.
+     * <p>
+     * Sending such a request more than once, or to more than one node, has no side effects. This does not hold for
+     * methods that change state (e.g., {@code sendrawtransaction}), wallet methods and methods bound to an iterator
+     * session on a specific node (e.g., {@code traverseiterator}). Note that the {@link #SESSION_CREATING_METHODS} are
+     * contained, but may open an iterator session on the node that served them.
+     */
+    public static final Set<String> READ_ONLY_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "calculatenetworkfee",
+            "findstates",
+            "findstorage",
+            "getapplicationlog",
+            "getbestblockhash",
+            "getblock",
+            "getblockcount",
+            "getblockhash",
+            "getblockheader",
+            "getblockheadercount",
+            "getcommittee",
+            "getconnectioncount",
+            "getcontractstate",
+            "getnativecontracts",
+            "getnep11balances",
+            "getnep11properties",
+            "getnep11transfers",
+            "getnep17balances",
+            "getnep17transfers",
+            "getnextblockvalidators",
+            "getpeers",
+            "getproof",
+            "getrawmempool",
+            "getrawtransaction",
+            "getstate",
+            "getstateheight",
+            "getstateroot",
+            "getstorage",
+            "gettransactionheight",
+            "getunclaimedgas",
+            "getversion",
+            "invokecontractverify",
+            "invokefunction",
+            "invokescript",
+            "listplugins",
+            "validateaddress",
+            "verifyproof"
+    )));
+
+    /**
+     * Methods that open an iterator session on the node that served them if their result contains an iterator.
+     * <p>
+     * The session can only be used by the {@link #SESSION_METHODS} sent to the same node. Sending such a request to
+     * more than one node opens a session on each of them.
+     */
+    public static final Set<String> SESSION_CREATING_METHODS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(
+                    "invokefunction",
+                    "invokescript"
+            )));
+
+    /**
+     * Methods that use an iterator session. Their first parameter is the session id.
+     */
+    public static final Set<String> SESSION_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "terminatesession",
+            "traverseiterator"
+    )));
+
+}
@@ -0,0 +1,99 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.transaction.Header;
+
+import java.math.BigInteger;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs a poll for new blocks repeatedly, timed by an {@link AdaptivePollingSchedule}.
+ * <p>
+ * Whenever a poll observes a new latest block, the timestamp of its header is fetched to predict the arrival of the
+ * next block.
+ */
+class AdaptivePoller {
+
+    private final Neow3j neow3j;
+    private final ScheduledExecutorService executor;
+    private final long maxInterval;
+    private final Poll poll;
+    private final Consumer<Throwable> onError;
+
+    private AdaptivePollingSchedule schedule;
+    private BigInteger latestBlockIdx;
+    private volatile boolean stopped = false;
+
+    /**
+     * @param neow3j      the {@code Neow3j} instance used to fetch the block headers and the block time.
+     * @param executor    the executor on which the polls run.
+     * @param maxInterval the maximum time between two polls in milliseconds.
+     * @param poll        the poll.
+     * @param onError     the consumer of the errors of the poll. The polling continues after an error unless it is
+     *                    stopped.
+     */
+    AdaptivePoller(Neow3j neow3j, ScheduledExecutorService executor, long maxInterval, Poll poll,
+            Consumer<Throwable> onError) {
+        this.neow3j = neow3j;
+        this.executor = executor;
+        this.maxInterval = maxInterval;
+        this.poll = poll;
+        this.onError = onError;
+    }
+
+    void start() {
+        executor.execute(this::run);
+    }
+
+    void stop() {
+        stopped = true;
+    }
+
+    // Only one poll is scheduled at any time. Thus, the polls never run concurrently.
+    private void run() {
+        if (stopped) {
+            return;
+        }
+        try {
+            if (schedule == null) {
+                long blockTime = neow3j.getProtocol().getMilliSecondsPerBlock();
+                schedule = new AdaptivePollingSchedule(blockTime, maxInterval);
+            }
+            BigInteger polledBlockIdx = poll.poll();
+            if (polledBlockIdx != null && (latestBlockIdx == null || polledBlockIdx.compareTo(latestBlockIdx) > 0)) {
+                latestBlockIdx = polledBlockIdx;
+                schedule.onNewBlock(fetchTimestamp(polledBlockIdx), System.currentTimeMillis());
+            }
+        } catch (Throwable e) {
+            onError.accept(e);
+        }
+        if (!stopped) {
+            long delay = schedule == null ? maxInterval : schedule.nextDelay(System.currentTimeMillis());
+            executor.schedule(this::run, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private long fetchTimestamp(BigInteger blockIdx) {
+        try {
+            String rawHeader = neow3j.getRawBlockHeader(blockIdx).send().getRawBlock();
+            return Header.fromBase64(rawHeader).getTimestamp();
+        } catch (Exception e) {
+            // Without the block's timestamp, the time of its observation is the best estimate.
+            return System.currentTimeMillis();
+        }
+    }
+
+    @FunctionalInterface
+    interface Poll {
+
+        /**
+         * @return the index of the latest block or null if it is not known.
+         * @throws Exception if the poll failed.
+         */
+        BigInteger poll() throws Exception;
+
+    }
+
+}
@@ -0,0 +1,80 @@
+package io.neow3j.protocol.core.polling;
+
+/**
+ * Computes the delays between polls for new blocks from the expected arrival of the next block.
+ * <p>
+ * The next block is expected one block time after the timestamp of the latest block. No poll is scheduled before the
+ * expected arrival. Around the expected arrival, the polls follow each other in a short interval. If the block is
+ * later than a quarter of the block time, the interval doubles with every poll up to the maximum interval.
+ * <p>
+ * The expected arrival is bounded by the local time of the observation of the latest block, so that a clock skew
+ * between the Neo node and this machine cannot stop or flood the polling.
+ */
+public class AdaptivePollingSchedule {
+
+    /**
+     * The lower bound of the interval between polls around the expected arrival of a block.
+     */
+    public static final long MIN_INTERVAL = 50;
+
+    private final long blockTime;
+    private final long maxInterval;
+    private final long tightInterval;
+
+    private long expectedArrival = -1;
+    private long backoffInterval;
+
+    /**
+     * Creates a schedule for the given block time.
+     *
+     * @param blockTime   the time between two blocks in milliseconds.
+     * @param maxInterval the maximum time between two polls in milliseconds.
+     */
+    public AdaptivePollingSchedule(long blockTime, long maxInterval) {
+        if (blockTime <= 0) {
+            throw new IllegalArgumentException("The block time must be positive.");
+        }
+        if (maxInterval <= 0) {
+            throw new IllegalArgumentException("The maximum polling interval must be positive.");
+        }
+        this.blockTime = blockTime;
+        this.maxInterval = maxInterval;
+        this.tightInterval = Math.min(maxInterval, Math.max(MIN_INTERVAL, blockTime / 20));
+        this.backoffInterval = tightInterval;
+    }
+
+    /**
+     * Records a newly observed latest block.
+     *
+     * @param blockTimestamp the timestamp of the block in milliseconds since the epoch.
+     * @param now            the current time in milliseconds since the epoch.
+     */
+    public synchronized void onNewBlock(long blockTimestamp, long now) {
+        long expected = blockTimestamp + blockTime;
+        expectedArrival = Math.max(now, Math.min(expected, now + blockTime));
+        backoffInterval = tightInterval;
+    }
+
+    /**
+     * Gets the delay until the next poll.
+     *
+     * @param now the current time in milliseconds since the epoch.
+     * @return the delay in milliseconds.
+     */
+    public synchronized long nextDelay(long now) {
+        if (expectedArrival < 0) {
+            return maxInterval;
+        }
+        long untilExpected = expectedArrival - now;
+        if (untilExpected > 0) {
+            return untilExpected;
+        }
+        if (-untilExpected < blockTime / 4) {
+            return tightInterval;
+        }
+        long delay = backoffInterval;
+        backoffInterval = Math.min(maxInterval, backoffInterval * 2);
+        return delay;
+    }
+
+}
@@ -17,25 +17,19 @@ public class BlockIndexPolling {
     public void run(Neow3j neow3j, ObservableEmitter<BigInteger> emitter,
             ScheduledExecutorService scheduledExecutorService, long pollingInterval) {
 
+        if (neow3j.isAdaptivePolling()) {
+            runAdaptive(neow3j, emitter, scheduledExecutorService, pollingInterval);
+            return;
+        }
+
         // If a task takes longer than the specified period the next task starts late and no concurrent with
         // the previous one. Thus, we don't have to synchronize anything.
         ScheduledFuture<?> schedule = scheduledExecutorService.scheduleAtFixedRate(
                 () -> {
                     try {
-                        BigInteger latestBlockIdx = neow3j.getBlockCount().send().getBlockCount()
-                                .subtract(BigInteger.ONE);
-                        if (this.currentBlockIdx == null) {
-                            this.currentBlockIdx = latestBlockIdx;
-                        }
-                        if (latestBlockIdx.compareTo(currentBlockIdx) > 0) {
-                            LongStream.rangeClosed(
-                                    currentBlockIdx.add(BigInteger.ONE).intValue(),
-                                    latestBlockIdx.intValue()
-                            ).forEachOrdered((blockIndex) -> {
-                                emitter.onNext(BigInteger.valueOf(blockIndex));
-                                this.currentBlockIdx = this.currentBlockIdx.add(BigInteger.ONE);
-                            });
-                        }
+                        // If the block count cache is enabled, later polls share the request with other users of
+                        // the tracker if it was sent recently.
+                        poll(neow3j, emitter, Math.min(pollingInterval / 2, neow3j.getBlockCountMaxAge()));
                     } catch (Throwable e) {
                         emitter.onError(e);
                     }
@@ -45,4 +39,37 @@ public class BlockIndexPolling {
         emitter.setDisposable(Disposables.fromAction(() -> schedule.cancel(false)));
     }
 
+    // Each poll schedules the next one with a delay given by the expected arrival of the next block. Thus, the polls
+    // never run concurrently either.
+    private void runAdaptive(Neow3j neow3j, ObservableEmitter<BigInteger> emitter,
+            ScheduledExecutorService scheduledExecutorService, long pollingInterval) {
+
+        // The polls are timed, so they always fetch the block count from the node.
+        AdaptivePoller poller = new AdaptivePoller(neow3j, scheduledExecutorService, pollingInterval,
+                () -> poll(neow3j, emitter, 0), emitter::onError);
+        emitter.setDisposable(Disposables.fromAction(poller::stop));
+        poller.start();
+    }
+
+    // Emits the new block indexes and returns the latest block index.
+    private BigInteger poll(Neow3j neow3j, ObservableEmitter<BigInteger> emitter, long maxAge) throws Exception {
+        // The first poll fetches the block count to start from the node's latest block.
+        BigInteger latestBlockIdx = neow3j.getChainHeadTracker()
+                .getBlockCount(this.currentBlockIdx == null ? 0 : maxAge)
+                .subtract(BigInteger.ONE);
+        if (this.currentBlockIdx == null) {
+            this.currentBlockIdx = latestBlockIdx;
+        }
+        if (latestBlockIdx.compareTo(currentBlockIdx) > 0) {
+            LongStream.rangeClosed(
+                    currentBlockIdx.add(BigInteger.ONE).intValue(),
+                    latestBlockIdx.intValue()
+            ).forEachOrdered((blockIndex) -> {
+                emitter.onNext(BigInteger.valueOf(blockIndex));
+                this.currentBlockIdx = this.currentBlockIdx.add(BigInteger.ONE);
+            });
+        }
+        return latestBlockIdx;
+    }
+
 }
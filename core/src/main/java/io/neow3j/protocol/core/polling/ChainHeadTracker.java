@@ -0,0 +1,217 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.protocol.Neow3j;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the block count of the Neo node a {@link Neow3j} instance is connected to.
+ * <p>
+ * All code paths that depend on the current block count (e.g., building transactions, tracking sent transactions
+ * or polling for new blocks) read it from the tracker of their {@code Neow3j} instance. The tracker only sends a
+ * {@code getblockcount} request if its last known block count is older than the requested maximum age. By default,
+ * that is zero (see {@link Neow3j#getBlockCountMaxAge()}), i.e., the block count is fetched every time.
+ */
+public class ChainHeadTracker {
+
+    private final Neow3j neow3j;
+    private final Object fetchLock = new Object();
+    private final Object waiterLock = new Object();
+    private final TreeMap<BigInteger, List<CompletableFuture<BigInteger>>> waiters = new TreeMap<>();
+
+    private volatile BigInteger blockCount;
+    private volatile long fetchNanos;
+    private Disposable poller;
+
+    /**
+     * Creates a tracker for the Neo node the given {@code Neow3j} instance is connected to.
+     *
+     * @param neow3j the {@code Neow3j} instance used to fetch the block count.
+     */
+    public ChainHeadTracker(Neow3j neow3j) {
+        this.neow3j = neow3j;
+    }
+
+    /**
+     * Gets the block count, i.e., the index of the latest block plus one.
+     * <p>
+     * A block count that is not older than {@link Neow3j#getBlockCountMaxAge()} is returned without sending a request.
+     *
+     * @return the block count.
+     * @throws IOException if there was a problem fetching the block count from the Neo node.
+     */
+    public BigInteger getBlockCount() throws IOException {
+        return getBlockCount(neow3j.getBlockCountMaxAge());
+    }
+
+    /**
+     * Gets the block count, i.e., the index of the latest block plus one.
+     *
+     * @param maxAge the maximum age in milliseconds of a known block count to be returned without sending a request.
+     *               Zero to always fetch the block count from the Neo node.
+     * @return the block count.
+     * @throws IOException if there was a problem fetching the block count from the Neo node.
+     */
+    public BigInteger getBlockCount(long maxAge) throws IOException {
+        BigInteger known = getFreshBlockCount(maxAge);
+        if (known != null) {
+            return known;
+        }
+        synchronized (fetchLock) {
+            // Another thread might have fetched the block count while this thread was waiting for the lock.
+            known = getFreshBlockCount(maxAge);
+            if (known != null) {
+                return known;
+            }
+            long start = System.nanoTime();
+            BigInteger fetched = neow3j.getBlockCount().send().getBlockCount();
+            return update(fetched, start);
+        }
+    }
+
+    /**
+     * Gets the index of the latest block.
+     * <p>
+     * A block count that is not older than {@link Neow3j#getBlockCountMaxAge()} is used without sending a request.
+     *
+     * @return the index of the latest block.
+     * @throws IOException if there was a problem fetching the block count from the Neo node.
+     */
+    public BigInteger getLatestBlockIndex() throws IOException {
+        return getBlockCount().subtract(BigInteger.ONE);
+    }
+
+    /**
+     * Gets the last known block count without sending a request.
+     *
+     * @return the last known block count or null if it was not fetched yet.
+     */
+    public BigInteger getLastKnownBlockCount() {
+        return blockCount;
+    }
+
+    /**
+     * Updates the tracked block count with a block count that was observed elsewhere, e.g., with a subscription to
+     * new blocks.
+     *
+     * @param observedBlockCount the observed block count.
+     */
+    public void update(BigInteger observedBlockCount) {
+        update(observedBlockCount, System.nanoTime());
+    }
+
+    /**
+     * Returns a future that completes as soon as the block count is greater than or equal to {@code minBlockCount},
+     * i.e., as soon as the block with index {@code minBlockCount - 1} exists.
+     * <p>
+     * While there are pending futures, the tracker polls the Neo node in the interval of
+     * {@link Neow3j#getPollingInterval()}, or adaptively if {@link Neow3j#isAdaptivePolling()}, on the
+     * {@link Neow3j#getScheduledExecutorService()}. Failed requests are
+     * retried with the next poll. Thus, the future does not time out by itself.
+     *
+     * @param minBlockCount the block count to wait for.
+     * @return a future that completes with the block count that satisfied the condition.
+     */
+    public CompletableFuture<BigInteger> awaitBlockCount(BigInteger minBlockCount) {
+        BigInteger known = blockCount;
+        if (known != null && known.compareTo(minBlockCount) >= 0) {
+            return CompletableFuture.completedFuture(known);
+        }
+        CompletableFuture<BigInteger> future = new CompletableFuture<>();
+        synchronized (waiterLock) {
+            waiters.computeIfAbsent(minBlockCount, k -> new ArrayList<>()).add(future);
+            if (poller == null) {
+                poller = startPolling();
+            }
+        }
+        // The block count might have been updated before the future was registered.
+        completeWaiters();
+        return future;
+    }
+
+    private Disposable startPolling() {
+        long interval = neow3j.getPollingInterval();
+        if (neow3j.isAdaptivePolling()) {
+            // The polls are timed, so they always fetch the block count from the node.
+            // Failed polls are already handled by poll().
+            AdaptivePoller adaptivePoller = new AdaptivePoller(neow3j, neow3j.getScheduledExecutorService(), interval,
+                    () -> poll(0), e -> { });
+            adaptivePoller.start();
+            return Disposables.fromAction(adaptivePoller::stop);
+        }
+        return Disposables.fromFuture(neow3j.getScheduledExecutorService()
+                .scheduleWithFixedDelay(() -> poll(interval / 2), 0, interval, TimeUnit.MILLISECONDS), false);
+    }
+
+    private BigInteger poll(long maxAge) {
+        BigInteger polled = null;
+        try {
+            polled = getBlockCount(maxAge);
+        } catch (Exception e) {
+            // The waiters are not failed because of a single failed request. The next poll retries.
+        }
+        completeWaiters();
+        return polled == null ? null : polled.subtract(BigInteger.ONE);
+    }
+
+    private BigInteger getFreshBlockCount(long maxAge) {
+        BigInteger known = blockCount;
+        if (known != null && System.nanoTime() - fetchNanos < TimeUnit.MILLISECONDS.toNanos(maxAge)) {
+            return known;
+        }
+        return null;
+    }
+
+    private BigInteger update(BigInteger observedBlockCount, long observedNanos) {
+        synchronized (waiterLock) {
+            // An observation that started before the one that is already known does not replace it.
+            if (blockCount == null || observedNanos - fetchNanos >= 0) {
+                blockCount = observedBlockCount;
+                fetchNanos = observedNanos;
+            }
+        }
+        completeWaiters();
+        return observedBlockCount;
+    }
+
+    private void completeWaiters() {
+        List<CompletableFuture<BigInteger>> satisfied = new ArrayList<>();
+        BigInteger known;
+        synchronized (waiterLock) {
+            known = blockCount == null ? BigInteger.valueOf(-1) : blockCount;
+            Iterator<Map.Entry<BigInteger, List<CompletableFuture<BigInteger>>>> it = waiters.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<BigInteger, List<CompletableFuture<BigInteger>>> entry = it.next();
+                if (entry.getKey().compareTo(known) <= 0) {
+                    satisfied.addAll(entry.getValue());
+                    it.remove();
+                } else {
+                    // Futures that were cancelled by the caller are not waited for anymore.
+                    entry.getValue().removeIf(CompletableFuture::isDone);
+                    if (entry.getValue().isEmpty()) {
+                        it.remove();
+                    }
+                }
+            }
+            if (waiters.isEmpty() && poller != null) {
+                poller.dispose();
+                poller = null;
+            }
+        }
+        // The futures are completed outside of the lock because their continuations may run right away.
+        for (CompletableFuture<BigInteger> future : satisfied) {
+            future.complete(known);
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.response.NeoGetMemPool;
+import io.neow3j.protocol.core.response.NeoGetMemPool.MemPoolDetails;
+import io.neow3j.protocol.rx.MemPoolChange;
+import io.neow3j.types.Hash256;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.disposables.Disposables;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public class MemPoolPolling {
+
+    // The transactions of the previous poll. Before the first poll the mempool is considered empty, so that the
+    // first change contains all transactions that are in the mempool at subscription.
+    private Set<Hash256> snapshot = new HashSet<>();
+    private boolean withUnverified = true;
+
+    public void run(Neow3j neow3j, ObservableEmitter<MemPoolChange> emitter,
+            ScheduledExecutorService scheduledExecutorService, long pollingInterval) {
+
+        // As with the block index polling, the tasks never run concurrently. Thus, we don't have to synchronize
+        // the snapshot.
+        ScheduledFuture<?> schedule = scheduledExecutorService.scheduleAtFixedRate(
+                () -> {
+                    try {
+                        poll(neow3j, emitter);
+                    } catch (Throwable e) {
+                        emitter.onError(e);
+                    }
+                },
+                0, pollingInterval, TimeUnit.MILLISECONDS);
+
+        emitter.setDisposable(Disposables.fromAction(() -> schedule.cancel(false)));
+    }
+
+    private void poll(Neow3j neow3j, ObservableEmitter<MemPoolChange> emitter) throws IOException {
+        Set<Hash256> current = fetchMemPool(neow3j);
+        List<Hash256> added = new ArrayList<>();
+        for (Hash256 txHash : current) {
+            if (!snapshot.contains(txHash)) {
+                added.add(txHash);
+            }
+        }
+        List<Hash256> removed = new ArrayList<>();
+        for (Hash256 txHash : snapshot) {
+            if (!current.contains(txHash)) {
+                removed.add(txHash);
+            }
+        }
+        snapshot = current;
+        if (!added.isEmpty() || !removed.isEmpty()) {
+            emitter.onNext(new MemPoolChange(added, removed));
+        }
+    }
+
+    // Keeps the order in which the node lists the transactions, i.e., verified before unverified ones.
+    private Set<Hash256> fetchMemPool(Neow3j neow3j) throws IOException {
+        if (withUnverified) {
+            NeoGetMemPool response = neow3j.getMemPool().send();
+            if (!response.hasError()) {
+                MemPoolDetails details = response.getMemPoolDetails();
+                Set<Hash256> txHashes = new LinkedHashSet<>(details.getVerified());
+                txHashes.addAll(details.getUnverified());
+                return txHashes;
+            }
+            // The node does not list unverified transactions. Only the verified ones are watched from now on.
+            withUnverified = false;
+        }
+        return new LinkedHashSet<>(neow3j.getRawMemPool().send().getAddresses());
+    }
+
+}
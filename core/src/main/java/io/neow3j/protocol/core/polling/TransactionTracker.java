@@ -0,0 +1,260 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.core.response.Transaction;
+import io.neow3j.transaction.exceptions.TransactionExpiredException;
+import io.neow3j.types.Hash256;
+import io.reactivex.disposables.Disposable;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Tracks the inclusion of sent transactions in blocks of the Neo node a {@link Neow3j} instance is connected to.
+ * <p>
+ * All tracked transactions share a single block subscription, which is only active while there are pending
+ * transactions. The transactions of each block are looked up by their hash in the set of pending transactions. A
+ * transaction that was not included in a block up to its {@code validUntilBlock} cannot be included anymore and its
+ * future fails with a {@link TransactionExpiredException}.
+ */
+public class TransactionTracker {
+
+    private final Neow3j neow3j;
+    private final Object lock = new Object();
+    private final Map<Hash256, Pending> pending = new HashMap<>();
+    private final TreeMap<Long, Set<Hash256>> expiries = new TreeMap<>();
+
+    private Disposable subscription;
+    private long nextBlock;
+
+    /**
+     * Creates a tracker for the Neo node the given {@code Neow3j} instance is connected to.
+     *
+     * @param neow3j the {@code Neow3j} instance used to fetch the blocks.
+     */
+    public TransactionTracker(Neow3j neow3j) {
+        this.neow3j = neow3j;
+    }
+
+    /**
+     * Tracks the inclusion of a transaction in a block.
+     * <p>
+     * The blocks are searched starting at {@code fromBlock}, e.g., the block count at the time the transaction was
+     * sent. If the shared block subscription is already past {@code fromBlock}, the node is additionally asked for the
+     * height of the transaction.
+     * <p>
+     * Tracking the same transaction more than once shares the pending state. Cancelling a returned future stops
+     * tracking the transaction for that caller. The transaction is not tracked anymore once all callers cancelled
+     * their futures.
+     *
+     * @param txId            the transaction ID.
+     * @param fromBlock       the index of the first block that can contain the transaction.
+     * @param validUntilBlock the index of the last block that can contain the transaction.
+     * @return a future that completes with the index of the block that contains the transaction.
+     */
+    public CompletableFuture<Long> track(Hash256 txId, BigInteger fromBlock, long validUntilBlock) {
+        long from = fromBlock.longValueExact();
+        Pending p;
+        boolean checkHeight = false;
+        synchronized (lock) {
+            Pending existing = pending.get(txId);
+            if (existing != null) {
+                existing.callers++;
+                return callerFuture(txId, existing);
+            }
+            p = new Pending(validUntilBlock);
+            pending.put(txId, p);
+            expiries.computeIfAbsent(validUntilBlock, k -> new HashSet<>()).add(txId);
+            if (subscription == null) {
+                subscribe(from);
+            } else if (from < nextBlock) {
+                checkHeight = true;
+            }
+        }
+        CompletableFuture<Long> future = callerFuture(txId, p);
+        if (checkHeight) {
+            checkHeight(txId);
+        }
+        return future;
+    }
+
+    /**
+     * @return the number of transactions that are neither included in a block nor expired yet.
+     */
+    public int getPendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    // Must be called while holding the lock.
+    private void subscribe(long fromBlock) {
+        nextBlock = fromBlock;
+        subscription = neow3j.catchUpToLatestAndSubscribeToNewBlocksFlowable(BigInteger.valueOf(fromBlock), true)
+                .subscribe(this::process, this::resubscribeLater);
+    }
+
+    private void process(NeoGetBlock neoGetBlock) {
+        NeoBlock block = neoGetBlock.getBlock();
+        Map<CompletableFuture<Long>, Throwable> expired = new HashMap<>();
+        List<CompletableFuture<Long>> included = new ArrayList<>();
+        synchronized (lock) {
+            nextBlock = block.getIndex() + 1;
+            if (block.getTransactions() != null) {
+                for (Transaction tx : block.getTransactions()) {
+                    Pending p = remove(tx.getHash());
+                    if (p != null) {
+                        included.add(p.future);
+                    }
+                }
+            }
+            Iterator<Map.Entry<Long, Set<Hash256>>> it = expiries.headMap(block.getIndex(), true).entrySet()
+                    .iterator();
+            while (it.hasNext()) {
+                Map.Entry<Long, Set<Hash256>> entry = it.next();
+                for (Hash256 txId : entry.getValue()) {
+                    Pending p = pending.remove(txId);
+                    expired.put(p.future, new TransactionExpiredException(txId, p.validUntilBlock));
+                }
+                it.remove();
+            }
+            if (pending.isEmpty() && subscription != null) {
+                subscription.dispose();
+                subscription = null;
+            }
+        }
+        // The futures are completed outside of the lock because their continuations may run right away.
+        included.forEach(f -> f.complete(block.getIndex()));
+        expired.forEach(CompletableFuture::completeExceptionally);
+    }
+
+    private void resubscribeLater(Throwable error) {
+        long interval = neow3j.getPollingInterval();
+        synchronized (lock) {
+            subscription = null;
+            if (pending.isEmpty()) {
+                return;
+            }
+            // The pending transactions are not failed because of a failed request. The blocks from the first block
+            // that was not processed yet are fetched again after the polling interval.
+            ResubscribeTask task = new ResubscribeTask(nextBlock);
+            subscription = task;
+            neow3j.getScheduledExecutorService().schedule(task, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Every caller gets its own future that depends on the shared one, so that cancelling it does not affect the
+    // other callers.
+    private CompletableFuture<Long> callerFuture(Hash256 txId, Pending p) {
+        CompletableFuture<Long> future = p.future.thenApply(Function.identity());
+        future.whenComplete((blockIndex, e) -> {
+            if (future.isCancelled()) {
+                release(txId, p);
+            }
+        });
+        return future;
+    }
+
+    private void release(Hash256 txId, Pending p) {
+        synchronized (lock) {
+            p.callers--;
+            // The transaction may have been included or expired, and even tracked again, in the meantime.
+            if (p.callers == 0 && pending.get(txId) == p) {
+                remove(txId);
+            }
+        }
+    }
+
+    private void checkHeight(Hash256 txId) {
+        neow3j.getTransactionHeight(txId).sendAsync().thenAccept(response -> {
+            if (response.hasError()) {
+                // The transaction is not known to the node yet. It is found with the block subscription.
+                return;
+            }
+            Pending p;
+            synchronized (lock) {
+                p = remove(txId);
+            }
+            if (p != null) {
+                p.future.complete(response.getHeight().longValue());
+            }
+        });
+    }
+
+    private Pending remove(Hash256 txId) {
+        synchronized (lock) {
+            Pending p = pending.remove(txId);
+            if (p != null) {
+                Set<Hash256> txIds = expiries.get(p.validUntilBlock);
+                txIds.remove(txId);
+                if (txIds.isEmpty()) {
+                    expiries.remove(p.validUntilBlock);
+                }
+            }
+            return p;
+        }
+    }
+
+    private static class Pending {
+
+        private final long validUntilBlock;
+        // Never handed out to the callers. It is only completed by the tracker.
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+        // The number of callers whose futures were not cancelled. Guarded by the tracker's lock.
+        private int callers = 1;
+
+        private Pending(long validUntilBlock) {
+            this.validUntilBlock = validUntilBlock;
+        }
+
+    }
+
+    // Occupies the subscription slot until the block subscription is restarted, so that newly tracked transactions
+    // do not start a second one.
+    private class ResubscribeTask implements Runnable, Disposable {
+
+        private final long resumeBlock;
+        private volatile boolean disposed = false;
+
+        private ResubscribeTask(long resumeBlock) {
+            this.resumeBlock = resumeBlock;
+        }
+
+        @Override
+        public void run() {
+            synchronized (lock) {
+                if (disposed || subscription != this) {
+                    return;
+                }
+                subscription = null;
+                if (!pending.isEmpty()) {
+                    subscribe(resumeBlock);
+                }
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+    }
+
+}
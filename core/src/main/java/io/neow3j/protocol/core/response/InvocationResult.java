@@ -145,6 +145,13 @@ public class InvocationResult {
         return pendingSignature;
     }
 
+    /**
+     * @return true if the invocation opened an iterator session on the Neo node. False, otherwise.
+     */
+    public boolean hasSessionId() {
+        return sessionId != null && !sessionId.isEmpty();
+    }
+
     public String getSessionId() {
         if (sessionId == null || sessionId.isEmpty()) {
             throw new IllegalStateException("No session id was found. The connected Neo node might not support " +
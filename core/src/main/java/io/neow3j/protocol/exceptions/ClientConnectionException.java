@@ -4,8 +4,34 @@ package io.neow3j.protocol.exceptions;
  * Client connection exception.
  */
 public class ClientConnectionException extends RuntimeException {
+
+    /**
+     * The status code used if the status code of the response is unknown.
+     */
+    public static final int UNKNOWN_STATUS_CODE = -1;
+
+    private final int statusCode;
+
     public ClientConnectionException(String message) {
+        this(message, UNKNOWN_STATUS_CODE);
+    }
+
+    /**
+     * Creates a new exception for a response with the given status code.
+     *
+     * @param message    the message.
+     * @param statusCode the status code of the response, e.g., the HTTP status code.
+     */
+    public ClientConnectionException(String message, int statusCode) {
         super(message);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * @return the status code of the response, or {@link #UNKNOWN_STATUS_CODE} if it is unknown.
+     */
+    public int getStatusCode() {
+        return statusCode;
     }
 
 }
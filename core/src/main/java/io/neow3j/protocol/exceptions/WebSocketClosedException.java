@@ -0,0 +1,15 @@
+package io.neow3j.protocol.exceptions;
+
+import java.io.IOException;
+
+/**
+ * Thrown if the WebSocket connection to the Neo node was closed while a request was not answered yet, and signaled
+ * to subscriptions that will not receive any further notifications because of that.
+ */
+public class WebSocketClosedException extends IOException {
+
+    public WebSocketClosedException(String message) {
+        super(message);
+    }
+
+}
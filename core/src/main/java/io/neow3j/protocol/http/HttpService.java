@@ -1,30 +1,45 @@
 package io.neow3j.protocol.http;
 
 import io.neow3j.protocol.Service;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
 import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.metrics.RequestEvent;
+import io.neow3j.protocol.metrics.RequestRecorder;
 import io.neow3j.utils.Async;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.Headers;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 import okhttp3.logging.HttpLoggingInterceptor;
-import okio.Buffer;
-import okio.BufferedSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 
 /**
  * HTTP implementation of the Service API.
+ * <p>
+ * Asynchronous requests do not block a thread while waiting for the Neo node's response. They are enqueued on the
+ * {@link OkHttpClient}'s dispatcher, so their concurrency is limited by the dispatcher and its connection pool rather
+ * than by the number of threads.
+ * <p>
+ * JSON-RPC requests are serialized into a buffer and sent with a {@code Content-Length} header. Optionally, they can
+ * be serialized directly into the HTTP connection instead (see {@link #setStreamRequests(boolean)}). An extending class
+ * that overrides {@link #performIO(String)} must call {@link #setCustomPerformIO(boolean)} to receive all requests,
+ * including asynchronous ones.
  */
 public class HttpService extends Service {
 
@@ -34,9 +49,10 @@ public class HttpService extends Service {
 
     private static final Logger log = LoggerFactory.getLogger(HttpService.class);
     private final String url;
-    private final boolean includeRawResponses;
     private final OkHttpClient httpClient;
     private final HashMap<String, String> headers = new HashMap<>();
+    private volatile boolean streamRequests = false;
+    private volatile boolean customPerformIO = false;
 
     /**
      * Create an {@link HttpService} instance.
@@ -51,7 +67,6 @@ public class HttpService extends Service {
         super(executorService, includeRawResponses);
         this.url = url;
         this.httpClient = httpClient;
-        this.includeRawResponses = includeRawResponses;
     }
 
     /**
@@ -99,7 +114,7 @@ public class HttpService extends Service {
     /**
      * Create an {@link HttpService} instance.
      * <p>
-     * The {@link #includeRawResponses} is set to false.
+     * Raw responses are only included for the methods set with {@link #setRawResponseMethods(java.util.Set)}.
      *
      * @param url             the URL to the HTTP service (JSON-RPC).
      * @param httpClient      the HTTP client instance.
@@ -115,7 +130,7 @@ public class HttpService extends Service {
      * An internal {@link ExecutorService} is used to run asynchronous {@link Request} calls, defined by
      * {@link Async#defaultExecutorService()}.
      * <p>
-     * The {@link #includeRawResponses} is set to false.
+     * Raw responses are only included for the methods set with {@link #setRawResponseMethods(java.util.Set)}.
      *
      * @param url        the URL to the HTTP service (JSON-RPC).
      * @param httpClient the HTTP client instance.
@@ -129,7 +144,7 @@ public class HttpService extends Service {
      * <p>
      * The HTTP client used is set by default by {@link #createOkHttpClient()}.
      * <p>
-     * The {@link #includeRawResponses} is set to false.
+     * Raw responses are only included for the methods set with {@link #setRawResponseMethods(java.util.Set)}.
      *
      * @param url             the URL to the HTTP service (JSON-RPC).
      * @param executorService an external ExecutorService where asynchronous {@link Request} calls should run.
@@ -146,7 +161,7 @@ public class HttpService extends Service {
      * <p>
      * The HTTP client used is set by default by {@link #createOkHttpClient()}.
      * <p>
-     * The {@link #includeRawResponses} is set to false.
+     * Raw responses are only included for the methods set with {@link #setRawResponseMethods(java.util.Set)}.
      *
      * @param url the URL to the HTTP service (JSON-RPC).
      */
@@ -187,7 +202,7 @@ public class HttpService extends Service {
      * <p>
      * The URL is set to {@link HttpService#DEFAULT_URL}.
      * <p>
-     * The {@link #includeRawResponses} is set to false.
+     * Raw responses are only included for the methods set with {@link #setRawResponseMethods(java.util.Set)}.
      *
      * @param httpClient      the HTTP client instance.
      * @param executorService an external ExecutorService where asynchronous {@link Request} calls should run.
@@ -204,7 +219,7 @@ public class HttpService extends Service {
      * <p>
      * The URL is set to {@link HttpService#DEFAULT_URL}.
      * <p>
-     * The {@link #includeRawResponses} is set to false.
+     * Raw responses are only included for the methods set with {@link #setRawResponseMethods(java.util.Set)}.
      *
      * @param httpClient the HTTP client instance.
      */
@@ -262,20 +277,174 @@ public class HttpService extends Service {
 
     @Override
     protected InputStream performIO(String request) throws IOException {
-        RequestBody requestBody = RequestBody.create(request, JSON_MEDIA_TYPE);
+        okhttp3.Response response = httpClient.newCall(
+                buildHttpRequest(RequestBody.create(request, JSON_MEDIA_TYPE))).execute();
+        return processResponse(response);
+    }
+
+    /**
+     * Performs the I/O for a JSON-RPC request or batch of requests.
+     * <p>
+     * If requests are streamed (see {@link #setStreamRequests(boolean)}), the payload is serialized directly into the
+     * HTTP connection while the request is written. Otherwise, it is serialized to a String and passed to
+     * {@link #performIO(String)}.
+     *
+     * @param payload  the request or the list of requests.
+     * @param recorder the recorder of the request's measurements.
+     * @return the response's input stream.
+     * @throws IOException if the request could not be performed.
+     */
+    @Override
+    protected InputStream performJsonIO(Object payload, RequestRecorder recorder) throws IOException {
+        if (!streamRequests || customPerformIO) {
+            return super.performJsonIO(payload, recorder);
+        }
+        okhttp3.Response response = httpClient.newCall(buildJsonHttpRequest(payload, recorder)).execute();
+        recorder.onFirstByte();
+        return recorder.countResponseBytes(processResponse(response));
+    }
+
+    /**
+     * Performs an asynchronous JSON-RPC request without blocking a thread while waiting for the response.
+     * <p>
+     * If requests are streamed, the request is serialized directly into the HTTP connection by the
+     * {@link OkHttpClient}'s dispatcher thread. Otherwise, it is serialized before it is enqueued. If an external
+     * {@link ExecutorService} was provided, the response is deserialized on it. Otherwise, it is deserialized on the
+     * {@link OkHttpClient}'s callback thread, whose number is bounded by its dispatcher.
+     * <p>
+     * If {@link #setCustomPerformIO(boolean)} is set, the request is performed with {@link #performIO(String)} as
+     * done by {@link Service}.
+     *
+     * @param request      the request to perform.
+     * @param responseType the class of a data item returned by the request.
+     * @param <T>          the type of a data item returned by the request.
+     * @return a CompletableFuture that will be completed when a result is returned or the request has failed.
+     */
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        if (customPerformIO) {
+            return super.sendAsync(request, responseType);
+        }
+        return performIOAsync(request, startRecording(request.getMethod()),
+                result -> readResponse(request, result, responseType));
+    }
+
+    /**
+     * Performs an asynchronous JSON-RPC batch request without blocking a thread while waiting for the response.
+     * <p>
+     * See {@link #sendAsync(Request, Class)} for details on which threads are used.
+     *
+     * @param batchRequest the batch request to perform.
+     * @return a CompletableFuture that will be completed when the responses are returned or the batch request has
+     * failed.
+     */
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        if (customPerformIO) {
+            return super.sendBatchAsync(batchRequest);
+        }
+        List<Request<?, ?>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(new BatchResponse(requests, new ArrayList<>()));
+        }
+        return performIOAsync(requests, startRecording(RequestEvent.BATCH_METHOD),
+                result -> readBatchResponse(requests, objectMapper.readTree(result)));
+    }
+
+    private <R> CompletableFuture<R> performIOAsync(Object payload, RequestRecorder recorder,
+            ResponseReader<R> reader) {
+
+        CompletableFuture<R> result = new CompletableFuture<>();
+        result.whenComplete((r, e) -> {
+            if (e == null) {
+                recorder.onSuccess(r);
+            } else {
+                recorder.onFailure(e);
+            }
+        });
+        if (asyncExecutorService != null) {
+            asyncExecutorService.execute(() -> enqueue(payload, recorder, reader, result));
+        } else {
+            enqueue(payload, recorder, reader, result);
+        }
+        return result;
+    }
+
+    private <R> void enqueue(Object payload, RequestRecorder recorder, ResponseReader<R> reader,
+            CompletableFuture<R> result) {
+
+        Call call;
+        try {
+            call = httpClient.newCall(buildJsonHttpRequest(payload, recorder));
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        // Cancelling the future cancels the HTTP call.
+        result.whenComplete((r, e) -> {
+            if (result.isCancelled()) {
+                call.cancel();
+            }
+        });
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                result.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, okhttp3.Response response) {
+                recorder.onFirstByte();
+                if (asyncExecutorService != null) {
+                    asyncExecutorService.execute(() -> readResponse(response, recorder, reader, result));
+                } else {
+                    readResponse(response, recorder, reader, result);
+                }
+            }
+        });
+    }
+
+    private <R> void readResponse(okhttp3.Response response, RequestRecorder recorder, ResponseReader<R> reader,
+            CompletableFuture<R> result) {
+
+        // We need to explicitly catch any exceptions, otherwise they will be silently discarded.
+        try (InputStream inputStream = recorder.countResponseBytes(processResponse(response))) {
+            R value = null;
+            if (inputStream != null) {
+                long start = System.nanoTime();
+                value = reader.read(inputStream);
+                recorder.onDeserialized(System.nanoTime() - start);
+            }
+            result.complete(value);
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private okhttp3.Request buildJsonHttpRequest(Object payload, RequestRecorder recorder) throws IOException {
+        if (streamRequests) {
+            return buildHttpRequest(new JsonRequestBody(objectMapper, payload, recorder));
+        }
+        byte[] request = objectMapper.writeValueAsBytes(payload);
+        recorder.onRequestBytes(request.length);
+        return buildHttpRequest(RequestBody.create(request, JSON_MEDIA_TYPE));
+    }
+
+    private okhttp3.Request buildHttpRequest(RequestBody requestBody) {
         Headers headers = buildHeaders();
 
-        okhttp3.Request httpRequest = new okhttp3.Request.Builder()
+        return new okhttp3.Request.Builder()
                 .url(url)
                 .headers(headers)
                 .post(requestBody)
                 .build();
+    }
 
-        okhttp3.Response response = httpClient.newCall(httpRequest).execute();
+    private InputStream processResponse(okhttp3.Response response) throws IOException {
         ResponseBody responseBody = response.body();
         if (response.isSuccessful()) {
             if (responseBody != null) {
-                return buildInputStream(responseBody);
+                return responseBody.byteStream();
             } else {
                 return null;
             }
@@ -283,39 +452,43 @@ public class HttpService extends Service {
             int code = response.code();
             String text = responseBody == null ? "N/A" : responseBody.string();
 
-            throw new ClientConnectionException("Invalid response received: " + code + "; " + text);
+            throw new ClientConnectionException("Invalid response received: " + code + "; " + text, code);
         }
     }
 
-    private InputStream buildInputStream(ResponseBody responseBody) throws IOException {
-        InputStream inputStream = responseBody.byteStream();
-
-        if (includeRawResponses) {
-            // we have to buffer the entire input payload, so that after processing
-            // it can be re-read and used to populate the rawResponse field.
-
-            BufferedSource source = responseBody.source();
-            source.request(Long.MAX_VALUE); // Buffer the entire body
-            Buffer buffer = source.getBuffer();
-
-            long size = buffer.size();
-            if (size > Integer.MAX_VALUE) {
-                throw new UnsupportedOperationException("Non-integer input buffer size specified: " + size);
-            }
-
-            int bufferSize = (int) size;
-            BufferedInputStream bufferedinputStream = new BufferedInputStream(inputStream, bufferSize);
-
-            bufferedinputStream.mark(inputStream.available());
-            return bufferedinputStream;
+    private Headers buildHeaders() {
+        return Headers.of(headers);
+    }
 
-        } else {
-            return inputStream;
-        }
+    /**
+     * Sets whether requests are serialized directly into the HTTP connection.
+     * <p>
+     * Streamed requests are not held in memory as a whole, which helps with large payloads, e.g., big batches or the
+     * transaction of a {@code sendrawtransaction} request. Since their length is not known in advance, they are sent
+     * with chunked transfer encoding, which not every node or proxy accepts. Otherwise, requests are serialized into a
+     * buffer and sent with a {@code Content-Length} header.
+     * <p>
+     * Defaults to false.
+     *
+     * @param streamRequests true, if requests should be streamed.
+     */
+    public void setStreamRequests(boolean streamRequests) {
+        this.streamRequests = streamRequests;
     }
 
-    private Headers buildHeaders() {
-        return Headers.of(headers);
+    /**
+     * Sets whether all requests are performed with {@link #performIO(String)}.
+     * <p>
+     * Extending classes that override {@link #performIO(String)} set this, so that asynchronous and streamed requests
+     * are passed to their implementation as well. Otherwise, these requests are sent with the {@link OkHttpClient}
+     * directly.
+     * <p>
+     * Defaults to false.
+     *
+     * @param customPerformIO true, if all requests should be performed with {@link #performIO(String)}.
+     */
+    protected void setCustomPerformIO(boolean customPerformIO) {
+        this.customPerformIO = customPerformIO;
     }
 
     /**
@@ -350,4 +523,9 @@ public class HttpService extends Service {
 
     }
 
+    @FunctionalInterface
+    private interface ResponseReader<R> {
+        R read(InputStream inputStream) throws IOException;
+    }
+
 }
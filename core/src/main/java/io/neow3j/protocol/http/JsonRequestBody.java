@@ -0,0 +1,65 @@
+package io.neow3j.protocol.http;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.metrics.RequestRecorder;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A request body that serializes a JSON-RPC request directly into the HTTP connection's sink.
+ * <p>
+ * No intermediate String or byte array of the whole payload is created. The request is serialized each time the body
+ * is written, e.g., when OkHttp retries the request on another connection. Its size is only recorded the first time.
+ * Since the length of the body is not known before it is written, it is sent with chunked transfer encoding.
+ */
+final class JsonRequestBody extends RequestBody {
+
+    private final ObjectMapper objectMapper;
+    private final Object payload;
+    private final RequestRecorder recorder;
+    private final AtomicBoolean recorded = new AtomicBoolean();
+
+    JsonRequestBody(ObjectMapper objectMapper, Object payload, RequestRecorder recorder) {
+        this.objectMapper = objectMapper;
+        this.payload = payload;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return HttpService.JSON_MEDIA_TYPE;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        // The generator must not close the sink, since it is owned by OkHttp.
+        OutputStream outputStream = sink.outputStream();
+        if (recorder.isEnabled() && recorded.compareAndSet(false, true)) {
+            outputStream = new FilterOutputStream(outputStream) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    recorder.onRequestBytes(1);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    recorder.onRequestBytes(len);
+                }
+            };
+        }
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        objectMapper.writeValue(generator, payload);
+        generator.flush();
+    }
+
+}
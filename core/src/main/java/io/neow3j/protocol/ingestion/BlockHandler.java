@@ -0,0 +1,20 @@
+package io.neow3j.protocol.ingestion;
+
+import io.neow3j.protocol.core.response.NeoGetBlock;
+
+/**
+ * Processes the blocks delivered by a {@link BlockIngestion}.
+ */
+@FunctionalInterface
+public interface BlockHandler {
+
+    /**
+     * Processes a block. The block counts as processed as soon as this method returns. If it throws, the ingestion
+     * stops and the block is delivered again after a restart.
+     *
+     * @param block the block.
+     * @throws Exception if the block could not be processed.
+     */
+    void handle(NeoGetBlock block) throws Exception;
+
+}
@@ -0,0 +1,176 @@
+package io.neow3j.protocol.ingestion;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.reactivex.Completable;
+import io.reactivex.schedulers.Schedulers;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Delivers all blocks of the blockchain to a {@link BlockHandler} and keeps track of the processed blocks with a
+ * {@link CursorStore}, so that the ingestion resumes where it stopped after a restart.
+ * <p>
+ * The ingestion catches up from the stored cursor to the latest block and then continues with new blocks as they
+ * are produced (see {@link Neow3j#catchUpToLatestAndSubscribeToNewBlocksFlowable(BigInteger, boolean)}). The blocks
+ * are handed to the handler one after the other and in order. The cursor is only advanced after the handler
+ * returned. Thus, every block is delivered at least once: A block whose processing was interrupted, or whose cursor
+ * was not committed yet, is delivered again after a restart.
+ */
+public class BlockIngestion {
+
+    private final Neow3j neow3j;
+    private final CursorStore cursorStore;
+
+    private BigInteger startBlock = BigInteger.ZERO;
+    private boolean fullTransactionObjects = true;
+    private int commitInterval = 1;
+
+    /**
+     * Creates an ingestion of the blocks of the Neo node the given {@code Neow3j} instance is connected to.
+     *
+     * @param neow3j      the {@code Neow3j} instance used to fetch the blocks.
+     * @param cursorStore the store of the cursor.
+     */
+    public BlockIngestion(Neow3j neow3j, CursorStore cursorStore) {
+        this.neow3j = neow3j;
+        this.cursorStore = cursorStore;
+    }
+
+    /**
+     * Sets the block at which the ingestion starts if no cursor is stored yet. Defaults to the genesis block.
+     *
+     * @param startBlock the index of the first block.
+     * @return this.
+     */
+    public BlockIngestion setStartBlock(BigInteger startBlock) {
+        if (startBlock.signum() < 0) {
+            throw new IllegalArgumentException("The start block must not be negative.");
+        }
+        this.startBlock = startBlock;
+        return this;
+    }
+
+    /**
+     * Sets whether the blocks are delivered with their full transaction objects or as headers only. Defaults to true.
+     *
+     * @param fullTransactionObjects true, to deliver the blocks with their transactions.
+     * @return this.
+     */
+    public BlockIngestion setFullTransactionObjects(boolean fullTransactionObjects) {
+        this.fullTransactionObjects = fullTransactionObjects;
+        return this;
+    }
+
+    /**
+     * Sets after how many processed blocks the cursor is committed to the store. Defaults to 1, i.e., after every
+     * block.
+     * <p>
+     * A larger interval reduces the writes to the store, but up to {@code commitInterval - 1} blocks may be delivered
+     * again after a crash. When the ingestion stops regularly, the cursor of the last processed block is committed.
+     *
+     * @param commitInterval the number of blocks.
+     * @return this.
+     */
+    public BlockIngestion setCommitInterval(int commitInterval) {
+        if (commitInterval < 1) {
+            throw new IllegalArgumentException("The commit interval must be positive.");
+        }
+        this.commitInterval = commitInterval;
+        return this;
+    }
+
+    /**
+     * @return the store of the cursor.
+     */
+    public CursorStore getCursorStore() {
+        return cursorStore;
+    }
+
+    /**
+     * Gets the index of the block at which the ingestion resumes, i.e., the block after the stored cursor or the start
+     * block if no cursor is stored yet.
+     *
+     * @return the index of the next block to process.
+     * @throws IOException if the cursor could not be loaded.
+     */
+    public BigInteger getResumeBlock() throws IOException {
+        BigInteger cursor = cursorStore.load();
+        return cursor == null ? startBlock : cursor.add(BigInteger.ONE);
+    }
+
+    /**
+     * Creates a {@code Completable} that runs the ingestion when subscribed to.
+     * <p>
+     * The ingestion runs until it is disposed or fails. It fails if the handler throws, if the cursor could not be
+     * stored or if the blocks could not be fetched. Then, it can be restarted by subscribing again.
+     * <p>
+     * The handler is called on the executor service of the {@code Neow3j} instance (see
+     * {@link Neow3j#getScheduledExecutorService()}). Blocks are only fetched ahead as far as configured with
+     * {@link Neow3j#getBlockReplayWindow()}.
+     *
+     * @param handler the handler that processes the blocks.
+     * @return the ingestion.
+     */
+    public Completable run(BlockHandler handler) {
+        return Completable.defer(() -> {
+            Cursor cursor = new Cursor(getResumeBlock());
+            return neow3j.catchUpToLatestAndSubscribeToNewBlocksFlowable(cursor.next, fullTransactionObjects)
+                    .observeOn(Schedulers.from(neow3j.getScheduledExecutorService()), false,
+                            neow3j.getBlockReplayWindow())
+                    .concatMapCompletable(block -> Completable.fromAction(() -> {
+                        cursor.check(block);
+                        handler.handle(block);
+                        cursor.ack();
+                    }))
+                    // Commit before the termination is signalled, so that subscribers see the final cursor.
+                    .doOnEvent(e -> cursor.commitPending())
+                    .doOnDispose(cursor::commitPending);
+        });
+    }
+
+    // The state of a single run of the ingestion.
+    private class Cursor {
+
+        private BigInteger next;
+        private int uncommitted = 0;
+
+        private Cursor(BigInteger next) {
+            this.next = next;
+        }
+
+        private synchronized void check(NeoGetBlock block) {
+            BigInteger index = BigInteger.valueOf(block.getBlock().getIndex());
+            if (!index.equals(next)) {
+                throw new IllegalStateException("Expected block " + next + " but received block " + index + ".");
+            }
+        }
+
+        private synchronized void ack() throws IOException {
+            next = next.add(BigInteger.ONE);
+            uncommitted++;
+            if (uncommitted >= commitInterval) {
+                commit();
+            }
+        }
+
+        private synchronized void commitPending() {
+            if (uncommitted == 0) {
+                return;
+            }
+            try {
+                commit();
+            } catch (IOException e) {
+                // The blocks since the last commit are delivered again after a restart.
+            }
+        }
+
+        private void commit() throws IOException {
+            cursorStore.store(next.subtract(BigInteger.ONE));
+            uncommitted = 0;
+        }
+
+    }
+
+}
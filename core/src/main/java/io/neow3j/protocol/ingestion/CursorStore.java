@@ -0,0 +1,27 @@
+package io.neow3j.protocol.ingestion;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Persists the index of the last block that was fully processed by a {@link BlockIngestion}.
+ */
+public interface CursorStore {
+
+    /**
+     * Loads the stored cursor.
+     *
+     * @return the index of the last fully processed block, or null if no cursor was stored yet.
+     * @throws IOException if the cursor could not be loaded.
+     */
+    BigInteger load() throws IOException;
+
+    /**
+     * Stores the cursor. When this method returns, the cursor must survive a restart of the application.
+     *
+     * @param lastProcessedBlockIndex the index of the last fully processed block.
+     * @throws IOException if the cursor could not be stored.
+     */
+    void store(BigInteger lastProcessedBlockIndex) throws IOException;
+
+}
@@ -0,0 +1,89 @@
+package io.neow3j.protocol.ingestion;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link CursorStore} that keeps the cursor in a file.
+ * <p>
+ * The cursor is written to a temporary file next to the target file, which is synced to the disk and then renamed
+ * atomically to the target file. Thus, the file always contains either the previous or the new cursor, even if the
+ * application or the machine crashes while storing it.
+ */
+public class FileCursorStore implements CursorStore {
+
+    private final Path file;
+    private final Path tempFile;
+
+    /**
+     * Creates a store that keeps the cursor in the given file. The parent directory must exist.
+     *
+     * @param file the file.
+     */
+    public FileCursorStore(Path file) {
+        this.file = file.toAbsolutePath();
+        this.tempFile = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+    }
+
+    /**
+     * @return the file that contains the cursor.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public BigInteger load() throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim();
+        try {
+            return new BigInteger(content);
+        } catch (NumberFormatException e) {
+            throw new IOException("The cursor file " + file + " does not contain a block index.", e);
+        }
+    }
+
+    @Override
+    public synchronized void store(BigInteger lastProcessedBlockIndex) throws IOException {
+        byte[] content = (lastProcessedBlockIndex.toString() + "\n").getBytes(StandardCharsets.UTF_8);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory();
+    }
+
+    // Syncs the directory so that the rename survives a crash. Not all platforms allow opening a directory, in which
+    // case the rename is durable as soon as the file system commits it.
+    private void syncDirectory() {
+        Path directory = file.getParent();
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported on this platform.
+        }
+    }
+
+}
@@ -0,0 +1,258 @@
+package io.neow3j.protocol.limit;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the number of requests that are in flight at the same time and the rate at which requests are sent.
+ * <p>
+ * The concurrency limit is either fixed or adaptive. An adaptive limit follows the additive-increase/
+ * multiplicative-decrease (AIMD) scheme: Every successful request that was answered within the latency threshold
+ * increases the limit by about one per round trip. Every failed or slow request decreases the limit by the backoff
+ * ratio. The limit always stays within the configured minimum and maximum.
+ * <p>
+ * Requests that cannot be sent yet wait in FIFO order. Asynchronous requests wait without blocking a thread.
+ */
+public class RequestLimiter {
+
+    /**
+     * The factor by which an adaptive limit is decreased after a failed or slow request.
+     */
+    public static final double BACKOFF_RATIO = 0.9;
+
+    private static final ScheduledExecutorService RATE_SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "neow3j-request-limiter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+    private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private final long nanosPerRequest;
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+
+    private double limit;
+    private int inFlight = 0;
+    private long nextRequestNanos = System.nanoTime();
+
+    private RequestLimiter(int initialLimit, int minLimit, int maxLimit, double requestsPerSecond, boolean adaptive,
+            long latencyThresholdMillis) {
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("The limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit.");
+        }
+        if (requestsPerSecond < 0) {
+            throw new IllegalArgumentException("The requests per second must not be negative.");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.nanosPerRequest = requestsPerSecond == 0 ? 0 : (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        this.adaptive = adaptive;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+    }
+
+    /**
+     * Creates a limiter with a fixed maximum number of requests in flight and no rate limit.
+     *
+     * @param maxInFlight the maximum number of requests in flight.
+     * @return the limiter.
+     */
+    public static RequestLimiter fixed(int maxInFlight) {
+        return fixed(maxInFlight, 0);
+    }
+
+    /**
+     * Creates a limiter with a fixed maximum number of requests in flight and a rate limit.
+     *
+     * @param maxInFlight       the maximum number of requests in flight.
+     * @param requestsPerSecond the maximum number of requests sent per second. Zero for no rate limit.
+     * @return the limiter.
+     */
+    public static RequestLimiter fixed(int maxInFlight, double requestsPerSecond) {
+        return new RequestLimiter(maxInFlight, maxInFlight, maxInFlight, requestsPerSecond, false, 0);
+    }
+
+    /**
+     * Creates a limiter with an adaptive (AIMD) maximum number of requests in flight.
+     *
+     * @param initialLimit           the initial maximum number of requests in flight.
+     * @param minLimit               the lower bound of the limit.
+     * @param maxLimit               the upper bound of the limit.
+     * @param requestsPerSecond      the maximum number of requests sent per second. Zero for no rate limit.
+     * @param latencyThresholdMillis the latency in milliseconds above which a request counts as slow and decreases
+     *                               the limit.
+     * @return the limiter.
+     */
+    public static RequestLimiter adaptive(int initialLimit, int minLimit, int maxLimit, double requestsPerSecond,
+            long latencyThresholdMillis) {
+        return new RequestLimiter(initialLimit, minLimit, maxLimit, requestsPerSecond, true, latencyThresholdMillis);
+    }
+
+    /**
+     * @return the current maximum number of requests in flight.
+     */
+    public int getLimit() {
+        synchronized (lock) {
+            return (int) limit;
+        }
+    }
+
+    /**
+     * @return the number of requests currently in flight.
+     */
+    public int getInFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    /**
+     * @return the number of requests waiting to be sent.
+     */
+    public int getWaiting() {
+        synchronized (lock) {
+            return waiters.size();
+        }
+    }
+
+    /**
+     * Blocks until a request may be sent.
+     * <p>
+     * Every successful call must be followed by a call to {@link #release(long, boolean)}.
+     *
+     * @throws InterruptedIOException if the thread was interrupted while waiting.
+     */
+    public void acquire() throws InterruptedIOException {
+        CompletableFuture<Void> slot = acquireSlot();
+        try {
+            slot.get();
+        } catch (InterruptedException e) {
+            if (!slot.cancel(false)) {
+                // The slot was granted concurrently.
+                releaseSlot();
+            }
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a request slot.");
+        } catch (ExecutionException e) {
+            // Slots are never completed exceptionally.
+            throw new IllegalStateException(e);
+        }
+        long delay = reserveRate();
+        if (delay > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                releaseSlot();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the rate limit.");
+            }
+        }
+    }
+
+    /**
+     * Returns a future that completes when a request may be sent. No thread is blocked while waiting.
+     * <p>
+     * Every completed future must be followed by a call to {@link #release(long, boolean)}.
+     *
+     * @return the future.
+     */
+    public CompletableFuture<Void> acquireAsync() {
+        CompletableFuture<Void> slot = acquireSlot();
+        if (nanosPerRequest == 0) {
+            return slot;
+        }
+        return slot.thenCompose(v -> {
+            long delay = reserveRate();
+            if (delay <= 0) {
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<Void> delayed = new CompletableFuture<>();
+            RATE_SCHEDULER.schedule(() -> delayed.complete(null), delay, TimeUnit.NANOSECONDS);
+            return delayed;
+        });
+    }
+
+    /**
+     * Releases the slot of a request that has completed.
+     *
+     * @param latencyNanos the latency of the request in nanoseconds.
+     * @param failed       whether the request failed, e.g., because the node rejected it or could not be reached.
+     */
+    public void release(long latencyNanos, boolean failed) {
+        synchronized (lock) {
+            if (adaptive) {
+                if (failed || latencyNanos > latencyThresholdNanos) {
+                    limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                } else {
+                    limit = Math.min(maxLimit, limit + 1 / limit);
+                }
+            }
+        }
+        releaseSlot();
+    }
+
+    /**
+     * Releases the slot of a request that was cancelled before it completed.
+     * <p>
+     * Since the latency and outcome of the request are unknown, the adaptive limit is not changed.
+     */
+    public void releaseCancelled() {
+        releaseSlot();
+    }
+
+    private CompletableFuture<Void> acquireSlot() {
+        CompletableFuture<Void> slot = new CompletableFuture<>();
+        synchronized (lock) {
+            if (waiters.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                slot.complete(null);
+            } else {
+                waiters.add(slot);
+            }
+        }
+        return slot;
+    }
+
+    private void releaseSlot() {
+        List<CompletableFuture<Void>> granted = new ArrayList<>();
+        synchronized (lock) {
+            inFlight--;
+            while (inFlight < (int) limit && !waiters.isEmpty()) {
+                inFlight++;
+                granted.add(waiters.poll());
+            }
+        }
+        // Waiters are completed outside of the lock because their continuations may send the request right away.
+        for (CompletableFuture<Void> slot : granted) {
+            if (!slot.complete(null)) {
+                // The waiter gave up in the meantime.
+                releaseSlot();
+            }
+        }
+    }
+
+    // Reserves the next point in time at which a request may be sent and returns the nanoseconds until then.
+    private long reserveRate() {
+        if (nanosPerRequest == 0) {
+            return 0;
+        }
+        synchronized (lock) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextRequestNanos);
+            nextRequestNanos = slot + nanosPerRequest;
+            return slot - now;
+        }
+    }
+
+}
@@ -0,0 +1,165 @@
+package io.neow3j.protocol.limit;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.Observable;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A service that passes all requests to another service through a {@link RequestLimiter}.
+ * <p>
+ * Synchronous requests block until the limiter admits them. Asynchronous requests are queued without blocking a
+ * thread. A batch request counts as one request.
+ * <p>
+ * Requests that fail with an {@link IOException} or a {@link ClientConnectionException} (e.g., because the node
+ * rejected them with HTTP status 429) are reported as failures to the limiter. If the caller cancels an asynchronous
+ * request, its slot is released right away without affecting the limit.
+ */
+public class RequestLimitingService implements Neow3jService {
+
+    private final Neow3jService delegate;
+    private final RequestLimiter limiter;
+
+    /**
+     * Creates a service that limits the requests sent with the given service.
+     *
+     * @param delegate the service used to send the requests.
+     * @param limiter  the limiter.
+     */
+    public RequestLimitingService(Neow3jService delegate, RequestLimiter limiter) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+    }
+
+    /**
+     * @return the limiter used by this service.
+     */
+    public RequestLimiter getLimiter() {
+        return limiter;
+    }
+
+    /**
+     * @return the service used to send the requests.
+     */
+    public Neow3jService getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return execute(() -> delegate.send(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        return executeAsync(() -> delegate.sendAsync(request, responseType));
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return execute(() -> delegate.sendBatch(batchRequest));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return executeAsync(() -> delegate.sendBatchAsync(batchRequest));
+    }
+
+    /**
+     * Subscribes to a stream of notifications with the underlying service. Subscriptions are not limited.
+     *
+     * @param request           the JSON-RPC request that will be send to subscribe to a stream of events.
+     * @param unsubscribeMethod the method that will be called to unsubscribe from a stream of notifications.
+     * @param responseType      the class of incoming events objects in a stream.
+     * @param <T>               the type of incoming event objects.
+     * @return an Observable that emits incoming events.
+     */
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(Request request, String unsubscribeMethod,
+            Class<T> responseType) {
+        return delegate.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private <R> R execute(IOCallable<R> call) throws IOException {
+        limiter.acquire();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            R result = call.call();
+            failed = false;
+            return result;
+        } catch (RuntimeException e) {
+            failed = e instanceof ClientConnectionException;
+            throw e;
+        } finally {
+            limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    private <R> CompletableFuture<R> executeAsync(AsyncCall<R> call) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        limiter.acquireAsync().whenComplete((v, acquireError) -> {
+            if (result.isDone()) {
+                // The caller cancelled the request while it was waiting for the limiter.
+                limiter.releaseCancelled();
+                return;
+            }
+            long start = System.nanoTime();
+            CompletableFuture<R> attempt;
+            try {
+                attempt = call.call();
+            } catch (Throwable e) {
+                attempt = new CompletableFuture<>();
+                attempt.completeExceptionally(e);
+            }
+            // The slot is released exactly once, either when the request completes or when the caller cancels it.
+            AtomicBoolean released = new AtomicBoolean();
+            CompletableFuture<R> sent = attempt;
+            result.whenComplete((r, e) -> {
+                if (result.isCancelled() && released.compareAndSet(false, true)) {
+                    limiter.releaseCancelled();
+                    sent.cancel(true);
+                }
+            });
+            attempt.whenComplete((r, e) -> {
+                if (!released.compareAndSet(false, true)) {
+                    return;
+                }
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                limiter.release(System.nanoTime() - start,
+                        cause instanceof IOException || cause instanceof ClientConnectionException);
+                if (cause == null) {
+                    result.complete(r);
+                } else {
+                    result.completeExceptionally(cause);
+                }
+            });
+        });
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface IOCallable<R> {
+        R call() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface AsyncCall<R> {
+        CompletableFuture<R> call();
+    }
+
+}
@@ -0,0 +1,131 @@
+package io.neow3j.protocol.loadbalancing;
+
+import io.neow3j.protocol.Neow3jService;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A Neo node endpoint of a {@link LoadBalancingService}.
+ * <p>
+ * Tracks the statistics that {@link SelectionPolicy}s use to route requests, i.e., the number of outstanding requests
+ * and an exponentially weighted moving average (EWMA) of the request latency. It also tracks the endpoint's health
+ * passively based on the outcome of the requests that are routed to it.
+ */
+public class Endpoint {
+
+    // Weight of the newest latency sample in the moving average.
+    private static final double EWMA_ALPHA = 0.3;
+
+    private final Neow3jService service;
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private double latencyEwma = 0;
+    private volatile long ejectedUntil = 0;
+
+    Endpoint(Neow3jService service) {
+        this.service = service;
+    }
+
+    /**
+     * @return the service used to communicate with this endpoint.
+     */
+    public Neow3jService getService() {
+        return service;
+    }
+
+    /**
+     * @return the number of requests that were routed to this endpoint and have not completed yet.
+     */
+    public int getOutstandingRequests() {
+        return outstandingRequests.get();
+    }
+
+    /**
+     * @return the exponentially weighted moving average of the request latency in nanoseconds. Zero if no request has
+     * completed yet.
+     */
+    public synchronized double getLatencyEwma() {
+        return latencyEwma;
+    }
+
+    /**
+     * @return the number of requests that failed in a row.
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    /**
+     * @param now the current time in milliseconds.
+     * @return true if this endpoint is ejected from the pool at the given time. False, otherwise.
+     */
+    public boolean isEjected(long now) {
+        return now < ejectedUntil;
+    }
+
+    long onRequestStart() {
+        outstandingRequests.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    void onRequestSuccess(long startNanos) {
+        outstandingRequests.decrementAndGet();
+        consecutiveFailures.set(0);
+        recordLatency(System.nanoTime() - startNanos);
+    }
+
+    void onRequestCancelled() {
+        outstandingRequests.decrementAndGet();
+    }
+
+    /**
+     * Records a failed request.
+     *
+     * @return the number of requests that failed in a row.
+     */
+    int onRequestFailure() {
+        outstandingRequests.decrementAndGet();
+        return consecutiveFailures.incrementAndGet();
+    }
+
+    void eject(long until) {
+        ejectedUntil = until;
+    }
+
+    /**
+     * @param now the current time in milliseconds.
+     * @return true if this endpoint was ejected and the ejection is over at the given time. False, otherwise.
+     */
+    boolean isReadmissionDue(long now) {
+        long until = ejectedUntil;
+        return until != 0 && now >= until;
+    }
+
+    /**
+     * Readmits this endpoint to the pool if its ejection is over.
+     * <p>
+     * The failures that led to the ejection are forgotten. Since an endpoint that only ever failed has no latency
+     * sample, the latency average is replaced with the given seed. Otherwise, it would be preferred by
+     * {@link SelectionPolicy#lowestLatency()} over all endpoints that answered.
+     *
+     * @param now         the current time in milliseconds.
+     * @param latencySeed the latency average in nanoseconds the endpoint starts with.
+     */
+    synchronized void readmit(long now, double latencySeed) {
+        if (!isReadmissionDue(now)) {
+            return;
+        }
+        ejectedUntil = 0;
+        consecutiveFailures.set(0);
+        latencyEwma = latencySeed;
+    }
+
+    private synchronized void recordLatency(long nanos) {
+        if (latencyEwma == 0) {
+            latencyEwma = nanos;
+        } else {
+            latencyEwma = EWMA_ALPHA * nanos + (1 - EWMA_ALPHA) * latencyEwma;
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package io.neow3j.protocol.loadbalancing;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent request latencies in a ring buffer and provides percentiles over them.
+ * <p>
+ * Percentiles are recomputed only every {@link #RECOMPUTE_INTERVAL} samples, so that reading them is cheap.
+ */
+class LatencyReservoir {
+
+    private static final int CAPACITY = 1024;
+    private static final int RECOMPUTE_INTERVAL = 64;
+
+    private final long[] samples = new long[CAPACITY];
+    private final double percentile;
+    private int count = 0;
+    private int next = 0;
+    private long cachedPercentile = -1;
+    private int samplesSinceRecompute = 0;
+
+    /**
+     * @param percentile the percentile to provide, e.g., 0.95.
+     */
+    LatencyReservoir(double percentile) {
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("The percentile must be in the range (0, 1].");
+        }
+        this.percentile = percentile;
+    }
+
+    synchronized void record(long latencyNanos) {
+        samples[next] = latencyNanos;
+        next = (next + 1) % CAPACITY;
+        count = Math.min(count + 1, CAPACITY);
+        if (++samplesSinceRecompute >= RECOMPUTE_INTERVAL) {
+            samplesSinceRecompute = 0;
+            cachedPercentile = computePercentile();
+        }
+    }
+
+    /**
+     * @return the latency percentile in nanoseconds, or -1 if not enough samples were recorded yet.
+     */
+    synchronized long getPercentile() {
+        return cachedPercentile;
+    }
+
+    private long computePercentile() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * count) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+}
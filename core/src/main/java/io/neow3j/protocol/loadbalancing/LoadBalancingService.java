@@ -0,0 +1,669 @@
+package io.neow3j.protocol.loadbalancing;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.RpcMethods;
+import io.neow3j.protocol.core.response.InvocationResult;
+import io.neow3j.protocol.core.response.NeoTerminateSession;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.Observable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * A service that distributes requests over multiple Neo node endpoints.
+ * <p>
+ * Every request is routed to one endpoint chosen by a {@link SelectionPolicy}. If a read-only request (see
+ * {@link RpcMethods#READ_ONLY_METHODS}) fails because the endpoint could not be reached (i.e., with an
+ * {@link IOException} or a {@link ClientConnectionException}), it is retried on another endpoint until every endpoint
+ * was tried once. Other requests, e.g., {@code sendrawtransaction}, are only retried on another endpoint if the
+ * connection to the endpoint could not be established. Otherwise, the endpoint may have received the request before
+ * it failed, e.g., with a timeout. A batch request counts as read-only if all of its requests are read-only.
+ * <p>
+ * The health of the endpoints is tracked passively. An endpoint whose requests failed
+ * {@link #setFailureThreshold(int) failureThreshold} times in a row is ejected from the pool for the
+ * {@link #setEjectionTime(long) ejectionTime}. After that, it is readmitted with a clean failure count and the
+ * average latency of the other endpoints. If all endpoints are ejected, requests are routed to the ejected endpoints
+ * instead of being refused.
+ * <p>
+ * Iterator sessions only exist on the node that opened them. Therefore, the endpoint that returned a session id (see
+ * {@link RpcMethods#SESSION_CREATING_METHODS}) is remembered, and requests that use the session (see
+ * {@link RpcMethods#SESSION_METHODS}) are always sent to that endpoint, without failover.
+ * <p>
+ * Optionally, read-only requests can be hedged (see {@link #enableHedging(double, long)}). If a hedged request was not
+ * answered within a delay derived from the observed latency percentile, a duplicate is sent to a second endpoint and
+ * the first response wins.
+ */
+public class LoadBalancingService implements Neow3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadBalancingService.class);
+
+    /**
+     * The default number of consecutive failures after which an endpoint is ejected.
+     */
+    public static final int DEFAULT_FAILURE_THRESHOLD = 3;
+
+    /**
+     * The default time in milliseconds for which an endpoint is ejected.
+     */
+    public static final long DEFAULT_EJECTION_TIME = 30_000;
+
+    /**
+     * The methods that are hedged by default. Only methods without side effects are safe to be sent to more than one
+     * endpoint. The {@link RpcMethods#SESSION_CREATING_METHODS} are excluded, because the losing endpoint would keep
+     * an iterator session open until it expires.
+     */
+    public static final Set<String> DEFAULT_HEDGEABLE_METHODS = Collections.unmodifiableSet(
+            RpcMethods.READ_ONLY_METHODS.stream()
+                    .filter(method -> !RpcMethods.SESSION_CREATING_METHODS.contains(method))
+                    .collect(Collectors.toSet()));
+
+    // The maximum number of iterator sessions whose endpoint is remembered. Sessions that are not terminated expire
+    // on the node, thus, the oldest ones are dropped first.
+    private static final int MAX_TRACKED_SESSIONS = 10_000;
+
+    private final List<Endpoint> endpoints;
+    private final SelectionPolicy policy;
+    private int failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+    private long ejectionTime = DEFAULT_EJECTION_TIME;
+
+    private volatile LatencyReservoir hedgingLatencies;
+    private volatile long initialHedgeDelay;
+    private volatile long minHedgeDelay = 1;
+    private volatile Set<String> hedgeableMethods = DEFAULT_HEDGEABLE_METHODS;
+    private volatile ScheduledExecutorService hedgingScheduler;
+
+    // The endpoint on which each iterator session was opened. Requests that use a session must go to that endpoint.
+    private final Map<String, Endpoint> sessions = Collections.synchronizedMap(
+            new LinkedHashMap<String, Endpoint>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Endpoint> eldest) {
+                    return size() > MAX_TRACKED_SESSIONS;
+                }
+            });
+
+    /**
+     * Creates a service that routes requests to the given services in turn.
+     *
+     * @param services the services, one for each endpoint.
+     */
+    public LoadBalancingService(List<? extends Neow3jService> services) {
+        this(services, SelectionPolicy.roundRobin());
+    }
+
+    /**
+     * Creates a service that routes requests to the given services according to the given policy.
+     *
+     * @param services the services, one for each endpoint.
+     * @param policy   the policy that selects the endpoint for each request.
+     */
+    public LoadBalancingService(List<? extends Neow3jService> services, SelectionPolicy policy) {
+        if (services.isEmpty()) {
+            throw new IllegalArgumentException("At least one service is required.");
+        }
+        this.endpoints = Collections.unmodifiableList(
+                services.stream().map(Endpoint::new).collect(Collectors.toList()));
+        this.policy = policy;
+    }
+
+    /**
+     * Sets the number of consecutive failures after which an endpoint is ejected.
+     * <p>
+     * Defaults to {@link #DEFAULT_FAILURE_THRESHOLD}.
+     *
+     * @param failureThreshold the number of consecutive failures.
+     * @return this.
+     */
+    public LoadBalancingService setFailureThreshold(int failureThreshold) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("The failure threshold must be at least 1.");
+        }
+        this.failureThreshold = failureThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the time for which an endpoint is ejected.
+     * <p>
+     * Defaults to {@link #DEFAULT_EJECTION_TIME}.
+     *
+     * @param ejectionTime the ejection time in milliseconds.
+     * @return this.
+     */
+    public LoadBalancingService setEjectionTime(long ejectionTime) {
+        this.ejectionTime = ejectionTime;
+        return this;
+    }
+
+    /**
+     * Enables hedging of read-only requests.
+     * <p>
+     * If a hedgeable request was not answered after the given percentile of the recently observed latencies, a
+     * duplicate request is sent to another endpoint. The first response wins and the other request is cancelled.
+     * Until enough latencies were observed, the {@code initialDelay} is used.
+     * <p>
+     * Only the methods in {@link #setHedgeableMethods(Set)} are hedged, which defaults to
+     * {@link #DEFAULT_HEDGEABLE_METHODS}. Batch requests are never hedged.
+     *
+     * @param percentile   the latency percentile after which a request is hedged, e.g., 0.95.
+     * @param initialDelay the delay in milliseconds used until enough latencies were observed.
+     * @return this.
+     */
+    public synchronized LoadBalancingService enableHedging(double percentile, long initialDelay) {
+        this.hedgingLatencies = new LatencyReservoir(percentile);
+        this.initialHedgeDelay = initialDelay;
+        if (hedgingScheduler == null) {
+            hedgingScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "neow3j-hedging");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Disables hedging of requests.
+     *
+     * @return this.
+     */
+    public LoadBalancingService disableHedging() {
+        this.hedgingLatencies = null;
+        return this;
+    }
+
+    /**
+     * @return true if read-only requests are hedged. False, otherwise.
+     */
+    public boolean isHedgingEnabled() {
+        return hedgingLatencies != null;
+    }
+
+    /**
+     * Sets the methods that may be hedged.
+     * <p>
+     * Only add methods that have no side effects. Hedging {@code sendrawtransaction} or wallet methods could, e.g.,
+     * lead to the same funds being sent twice. If one of the {@link RpcMethods#SESSION_CREATING_METHODS} is added, the
+     * iterator session opened by a losing request that was answered is terminated. A cancelled request may still
+     * leave a session open on its endpoint until it expires.
+     *
+     * @param hedgeableMethods the methods that may be hedged.
+     * @return this.
+     */
+    public LoadBalancingService setHedgeableMethods(Set<String> hedgeableMethods) {
+        this.hedgeableMethods = hedgeableMethods;
+        return this;
+    }
+
+    /**
+     * Sets the minimal delay after which a request is hedged, regardless of the observed latencies.
+     * <p>
+     * Defaults to 1 millisecond.
+     *
+     * @param minHedgeDelay the minimal delay in milliseconds.
+     * @return this.
+     */
+    public LoadBalancingService setMinHedgeDelay(long minHedgeDelay) {
+        this.minHedgeDelay = minHedgeDelay;
+        return this;
+    }
+
+    /**
+     * @return the endpoints of this service.
+     */
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        Endpoint pinned = pinnedEndpoint(request);
+        if (pinned == null && isHedged(request)) {
+            return await(new HedgedCall<T>(service -> service.sendAsync(request, responseType)).start());
+        }
+        try {
+            return execute(service -> service.send(request, responseType), isReadOnly(request), pinned);
+        } finally {
+            forgetTerminatedSession(request);
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        Endpoint pinned = pinnedEndpoint(request);
+        if (pinned == null && isHedged(request)) {
+            return new HedgedCall<T>(service -> service.sendAsync(request, responseType)).start();
+        }
+        return executeAsync(service -> service.sendAsync(request, responseType), isReadOnly(request), pinned,
+                new ArrayList<>()).whenComplete((r, e) -> forgetTerminatedSession(request));
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        try {
+            return execute(service -> service.sendBatch(batchRequest), isReadOnly(batchRequest),
+                    pinnedEndpoint(batchRequest));
+        } finally {
+            batchRequest.getRequests().forEach(this::forgetTerminatedSession);
+        }
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return executeAsync(service -> service.sendBatchAsync(batchRequest), isReadOnly(batchRequest),
+                pinnedEndpoint(batchRequest), new ArrayList<>())
+                .whenComplete((r, e) -> batchRequest.getRequests().forEach(this::forgetTerminatedSession));
+    }
+
+    /**
+     * Subscribes to a stream of notifications on one of the endpoints.
+     * <p>
+     * See {@link Neow3jService#subscribe(Request, String, Class)} for more details.
+     *
+     * @param request           the JSON-RPC request that will be send to subscribe to a stream of events.
+     * @param unsubscribeMethod the method that will be called to unsubscribe from a stream of notifications.
+     * @param responseType      the class of incoming events objects in a stream.
+     * @param <T>               the type of incoming event objects.
+     * @return an Observable that emits incoming events.
+     */
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(Request request, String unsubscribeMethod,
+            Class<T> responseType) {
+        return selectEndpoint(Collections.emptyList()).getService()
+                .subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    /**
+     * Closes the services of all endpoints.
+     *
+     * @throws IOException if any of the services failed to close.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (hedgingScheduler != null) {
+                hedgingScheduler.shutdownNow();
+            }
+        }
+        IOException exception = null;
+        for (Endpoint endpoint : endpoints) {
+            try {
+                endpoint.getService().close();
+            } catch (IOException e) {
+                exception = e;
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    /**
+     * Selects the endpoint for the next request.
+     *
+     * @param excluded the endpoints that must not be selected.
+     * @return the selected endpoint.
+     */
+    protected Endpoint selectEndpoint(List<Endpoint> excluded) {
+        long now = System.currentTimeMillis();
+        List<Endpoint> candidates = new ArrayList<>(endpoints.size());
+        List<Endpoint> ejected = new ArrayList<>();
+        for (Endpoint endpoint : endpoints) {
+            if (excluded.contains(endpoint)) {
+                continue;
+            }
+            if (endpoint.isEjected(now)) {
+                ejected.add(endpoint);
+            } else {
+                if (endpoint.isReadmissionDue(now)) {
+                    endpoint.readmit(now, averageLatency());
+                }
+                candidates.add(endpoint);
+            }
+        }
+        return policy.select(candidates.isEmpty() ? ejected : candidates);
+    }
+
+    // The average latency of the endpoints that are not ejected and answered at least one request.
+    private double averageLatency() {
+        long now = System.currentTimeMillis();
+        double sum = 0;
+        int count = 0;
+        for (Endpoint endpoint : endpoints) {
+            double latency = endpoint.getLatencyEwma();
+            if (!endpoint.isEjected(now) && !endpoint.isReadmissionDue(now) && latency > 0) {
+                sum += latency;
+                count++;
+            }
+        }
+        return count == 0 ? 0 : sum / count;
+    }
+
+    // A pinned endpoint is used regardless of its health and the request is not failed over, because no other
+    // endpoint knows the session the request refers to.
+    private <R> R execute(ServiceCall<R> call, boolean readOnly, Endpoint pinned) throws IOException {
+        List<Endpoint> tried = new ArrayList<>();
+        while (true) {
+            Endpoint endpoint = pinned != null ? pinned : selectEndpoint(tried);
+            long start = endpoint.onRequestStart();
+            try {
+                R result = call.call(endpoint.getService());
+                endpoint.onRequestSuccess(start);
+                trackSessions(endpoint, result);
+                return result;
+            } catch (IOException | ClientConnectionException e) {
+                onFailure(endpoint, e);
+                tried.add(endpoint);
+                if (pinned != null || !mayFailOver(e, readOnly) || tried.size() >= endpoints.size()) {
+                    throw e;
+                }
+            } catch (RuntimeException e) {
+                // The endpoint was reachable, thus, this does not affect its health.
+                endpoint.onRequestSuccess(start);
+                throw e;
+            }
+        }
+    }
+
+    private <R> CompletableFuture<R> executeAsync(AsyncServiceCall<R> call, boolean readOnly, Endpoint pinned,
+            List<Endpoint> tried) {
+        Endpoint endpoint = pinned != null ? pinned : selectEndpoint(tried);
+        long start = endpoint.onRequestStart();
+        CompletableFuture<R> attempt;
+        try {
+            attempt = call.call(endpoint.getService());
+        } catch (Throwable e) {
+            attempt = new CompletableFuture<>();
+            attempt.completeExceptionally(e);
+        }
+        CompletableFuture<R> result = new CompletableFuture<>();
+        attempt.whenComplete((r, e) -> {
+            if (e == null) {
+                endpoint.onRequestSuccess(start);
+                trackSessions(endpoint, r);
+                result.complete(r);
+                return;
+            }
+            Throwable cause = unwrap(e);
+            if (isConnectionFailure(cause)) {
+                onFailure(endpoint, cause);
+                tried.add(endpoint);
+                if (pinned == null && mayFailOver(cause, readOnly) && tried.size() < endpoints.size()) {
+                    executeAsync(call, readOnly, null, tried).whenComplete((r2, e2) -> {
+                        if (e2 == null) {
+                            result.complete(r2);
+                        } else {
+                            result.completeExceptionally(unwrap(e2));
+                        }
+                    });
+                    return;
+                }
+            } else {
+                endpoint.onRequestSuccess(start);
+            }
+            result.completeExceptionally(cause);
+        });
+        return result;
+    }
+
+    private void onFailure(Endpoint endpoint, Throwable e) {
+        int failures = endpoint.onRequestFailure();
+        if (failures >= failureThreshold) {
+            endpoint.eject(System.currentTimeMillis() + ejectionTime);
+            log.warn("Ejected endpoint {} for {} ms after {} consecutive failures. Last failure: {}",
+                    endpoint.getService(), ejectionTime, failures, e.getMessage());
+        }
+    }
+
+    private Endpoint pinnedEndpoint(Request<?, ?> request) {
+        if (!RpcMethods.SESSION_METHODS.contains(request.getMethod()) || request.getParams().isEmpty()) {
+            return null;
+        }
+        return sessions.get(String.valueOf(request.getParams().get(0)));
+    }
+
+    private Endpoint pinnedEndpoint(BatchRequest batchRequest) {
+        for (Request<?, ?> request : batchRequest.getRequests()) {
+            Endpoint pinned = pinnedEndpoint(request);
+            if (pinned != null) {
+                return pinned;
+            }
+        }
+        return null;
+    }
+
+    // Remembers the endpoint of the sessions opened by the given result.
+    private void trackSessions(Endpoint endpoint, Object result) {
+        if (result instanceof BatchResponse) {
+            ((BatchResponse) result).getResponses().forEach(response -> trackSession(endpoint, response));
+        } else if (result instanceof Response) {
+            trackSession(endpoint, (Response<?>) result);
+        }
+    }
+
+    private void trackSession(Endpoint endpoint, Response<?> response) {
+        if (response == null || response.hasError()) {
+            return;
+        }
+        Object result = response.getResult();
+        if (result instanceof InvocationResult && ((InvocationResult) result).hasSessionId()) {
+            sessions.put(((InvocationResult) result).getSessionId(), endpoint);
+        }
+    }
+
+    private void forgetTerminatedSession(Request<?, ?> request) {
+        if ("terminatesession".equals(request.getMethod()) && !request.getParams().isEmpty()) {
+            sessions.remove(String.valueOf(request.getParams().get(0)));
+        }
+    }
+
+    private static boolean isReadOnly(Request<?, ?> request) {
+        return RpcMethods.READ_ONLY_METHODS.contains(request.getMethod());
+    }
+
+    private static boolean isReadOnly(BatchRequest batchRequest) {
+        return batchRequest.getRequests().stream().allMatch(LoadBalancingService::isReadOnly);
+    }
+
+    // A request that is not read-only must not be sent twice. It is only sent to another endpoint if it cannot have
+    // reached the first one.
+    private static boolean mayFailOver(Throwable e, boolean readOnly) {
+        return readOnly || isConnectFailure(e);
+    }
+
+    private boolean isHedged(Request<?, ?> request) {
+        return hedgingLatencies != null && endpoints.size() > 1 && hedgeableMethods.contains(request.getMethod());
+    }
+
+    private long hedgeDelay() {
+        LatencyReservoir latencies = hedgingLatencies;
+        long percentile = latencies == null ? -1 : latencies.getPercentile();
+        long delay = percentile < 0 ? initialHedgeDelay : TimeUnit.NANOSECONDS.toMillis(percentile);
+        return Math.max(delay, minHedgeDelay);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the response.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    static boolean isConnectionFailure(Throwable e) {
+        return e instanceof IOException || e instanceof ClientConnectionException;
+    }
+
+    /**
+     * @param e the error a request failed with.
+     * @return true if the connection to the endpoint could not be established, i.e., the request was never sent.
+     */
+    static boolean isConnectFailure(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ConnectException || t instanceof UnknownHostException
+                    || t instanceof NoRouteToHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static Throwable unwrap(Throwable e) {
+        if ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            return e.getCause();
+        }
+        return e;
+    }
+
+    /**
+     * A request that is sent to a second endpoint if the first one does not answer within the hedge delay.
+     */
+    private class HedgedCall<R> {
+
+        private final AsyncServiceCall<R> call;
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+        private final List<Endpoint> used = new ArrayList<>();
+        private final List<CompletableFuture<R>> attempts = new ArrayList<>();
+        private int pending = 0;
+        private boolean hedged = false;
+        private ScheduledFuture<?> timer;
+
+        HedgedCall(AsyncServiceCall<R> call) {
+            this.call = call;
+        }
+
+        synchronized CompletableFuture<R> start() {
+            launch();
+            if (!result.isDone()) {
+                timer = hedgingScheduler.schedule(this::hedge, hedgeDelay(), TimeUnit.MILLISECONDS);
+            }
+            return result;
+        }
+
+        private synchronized void hedge() {
+            if (!result.isDone() && !hedged) {
+                hedged = true;
+                launch();
+            }
+        }
+
+        private void launch() {
+            Endpoint endpoint = selectEndpoint(used);
+            used.add(endpoint);
+            pending++;
+            long start = endpoint.onRequestStart();
+            CompletableFuture<R> attempt;
+            try {
+                attempt = call.call(endpoint.getService());
+            } catch (Throwable e) {
+                attempt = new CompletableFuture<>();
+                attempt.completeExceptionally(e);
+            }
+            attempts.add(attempt);
+            attempt.whenComplete((r, e) -> onAttemptComplete(endpoint, start, r, e));
+        }
+
+        private synchronized void onAttemptComplete(Endpoint endpoint, long start, R r, Throwable e) {
+            pending--;
+            if (e == null) {
+                endpoint.onRequestSuccess(start);
+                LatencyReservoir latencies = hedgingLatencies;
+                if (latencies != null) {
+                    latencies.record(System.nanoTime() - start);
+                }
+                if (result.complete(r)) {
+                    trackSessions(endpoint, r);
+                    cancelOthers();
+                } else {
+                    terminateSession(endpoint, r);
+                }
+                return;
+            }
+            Throwable cause = unwrap(e);
+            if (cause instanceof CancellationException) {
+                endpoint.onRequestCancelled();
+                return;
+            }
+            if (isConnectionFailure(cause)) {
+                onFailure(endpoint, cause);
+                if (!hedged && !result.isDone() && used.size() < endpoints.size()) {
+                    // Don't wait for the hedge delay if the first endpoint is not reachable.
+                    hedged = true;
+                    launch();
+                    return;
+                }
+            } else {
+                endpoint.onRequestSuccess(start);
+            }
+            if (pending == 0) {
+                result.completeExceptionally(cause);
+            }
+        }
+
+        // The response lost against another one, thus, the session it may have opened is never used.
+        private void terminateSession(Endpoint endpoint, R r) {
+            if (!(r instanceof Response) || ((Response<?>) r).hasError()) {
+                return;
+            }
+            Object invocation = ((Response<?>) r).getResult();
+            if (invocation instanceof InvocationResult && ((InvocationResult) invocation).hasSessionId()) {
+                new Request<>("terminatesession",
+                        Collections.singletonList(((InvocationResult) invocation).getSessionId()),
+                        endpoint.getService(), NeoTerminateSession.class).sendAsync();
+            }
+        }
+
+        private void cancelOthers() {
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            attempts.stream().filter(a -> !a.isDone()).forEach(a -> a.cancel(true));
+        }
+
+    }
+
+    @FunctionalInterface
+    private interface ServiceCall<R> {
+        R call(Neow3jService service) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface AsyncServiceCall<R> {
+        CompletableFuture<R> call(Neow3jService service);
+    }
+
+}
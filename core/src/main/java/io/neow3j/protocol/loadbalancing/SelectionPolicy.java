@@ -0,0 +1,63 @@
+package io.neow3j.protocol.loadbalancing;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides to which endpoint of a {@link LoadBalancingService} a request is routed.
+ */
+@FunctionalInterface
+public interface SelectionPolicy {
+
+    /**
+     * Selects the endpoint that the next request is routed to.
+     *
+     * @param endpoints the endpoints to choose from. Never empty.
+     * @return the selected endpoint.
+     */
+    Endpoint select(List<Endpoint> endpoints);
+
+    /**
+     * @return a policy that routes requests to the endpoints in turn.
+     */
+    static SelectionPolicy roundRobin() {
+        AtomicInteger next = new AtomicInteger();
+        return endpoints -> endpoints.get(Math.floorMod(next.getAndIncrement(), endpoints.size()));
+    }
+
+    /**
+     * @return a policy that routes requests to the endpoint with the least outstanding requests.
+     */
+    static SelectionPolicy leastOutstandingRequests() {
+        return endpoints -> {
+            Endpoint selected = endpoints.get(0);
+            for (Endpoint endpoint : endpoints) {
+                if (endpoint.getOutstandingRequests() < selected.getOutstandingRequests()) {
+                    selected = endpoint;
+                }
+            }
+            return selected;
+        };
+    }
+
+    /**
+     * Creates a policy that routes requests to the endpoint with the lowest exponentially weighted moving average of
+     * the request latency.
+     * <p>
+     * Endpoints that have not answered any request yet are preferred, so that every endpoint gets a latency sample.
+     *
+     * @return the policy.
+     */
+    static SelectionPolicy lowestLatency() {
+        return endpoints -> {
+            Endpoint selected = endpoints.get(0);
+            for (Endpoint endpoint : endpoints) {
+                if (endpoint.getLatencyEwma() < selected.getLatencyEwma()) {
+                    selected = endpoint;
+                }
+            }
+            return selected;
+        };
+    }
+
+}
@@ -0,0 +1,51 @@
+package io.neow3j.protocol.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aggregates the measurements of all requests in memory per JSON-RPC method.
+ * <p>
+ * The aggregates can be read at any time, e.g., to export them to a monitoring system.
+ *
+ * <pre>{@code
+ * InMemoryMetrics metrics = new InMemoryMetrics();
+ * httpService.setMetrics(metrics);
+ * ...
+ * long p99 = metrics.getMethodMetrics("getblock").getLatency().getValueAtPercentile(0.99);
+ * }</pre>
+ */
+public class InMemoryMetrics implements Neow3jMetrics {
+
+    private final ConcurrentHashMap<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    @Override
+    public void onRequest(RequestEvent event) {
+        String method = event.getMethod() == null ? "" : event.getMethod();
+        methods.computeIfAbsent(method, MethodMetrics::new).record(event);
+    }
+
+    /**
+     * @return the metrics of all methods that were requested, by method name.
+     */
+    public Map<String, MethodMetrics> getMethodMetrics() {
+        return Collections.unmodifiableMap(methods);
+    }
+
+    /**
+     * @param method the JSON-RPC method.
+     * @return the metrics of the method, or null if it was not requested.
+     */
+    public MethodMetrics getMethodMetrics(String method) {
+        return methods.get(method);
+    }
+
+    /**
+     * Removes the metrics of all methods.
+     */
+    public void reset() {
+        methods.clear();
+    }
+
+}
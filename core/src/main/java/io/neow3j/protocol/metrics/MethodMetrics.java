@@ -0,0 +1,115 @@
+package io.neow3j.protocol.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The aggregated measurements of the requests of one JSON-RPC method.
+ * <p>
+ * All latencies are in nanoseconds.
+ */
+public class MethodMetrics {
+
+    private final String method;
+    private final Map<RequestEvent.Outcome, LongAdder> outcomes = new EnumMap<>(RequestEvent.Outcome.class);
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram timeToFirstByte = new LatencyHistogram();
+    private final LatencyHistogram deserialization = new LatencyHistogram();
+
+    public MethodMetrics(String method) {
+        this.method = method;
+        for (RequestEvent.Outcome outcome : RequestEvent.Outcome.values()) {
+            outcomes.put(outcome, new LongAdder());
+        }
+    }
+
+    /**
+     * Adds the measurements of a request.
+     *
+     * @param event the measurements.
+     */
+    public void record(RequestEvent event) {
+        outcomes.get(event.getOutcome()).increment();
+        latency.record(event.getTotalNanos());
+        if (event.getRequestBytes() != RequestEvent.UNKNOWN) {
+            requestBytes.add(event.getRequestBytes());
+        }
+        if (event.getResponseBytes() != RequestEvent.UNKNOWN) {
+            responseBytes.add(event.getResponseBytes());
+        }
+        if (event.getTimeToFirstByteNanos() != RequestEvent.UNKNOWN) {
+            timeToFirstByte.record(event.getTimeToFirstByteNanos());
+        }
+        if (event.getDeserializationNanos() != RequestEvent.UNKNOWN) {
+            deserialization.record(event.getDeserializationNanos());
+        }
+    }
+
+    /**
+     * @return the JSON-RPC method.
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the number of requests.
+     */
+    public long getRequestCount() {
+        return latency.getCount();
+    }
+
+    /**
+     * @param outcome the outcome.
+     * @return the number of requests with the given outcome.
+     */
+    public long getCount(RequestEvent.Outcome outcome) {
+        return outcomes.get(outcome).sum();
+    }
+
+    /**
+     * @return the number of requests that did not succeed.
+     */
+    public long getErrorCount() {
+        return getRequestCount() - getCount(RequestEvent.Outcome.SUCCESS);
+    }
+
+    /**
+     * @return the total number of bytes of the serialized requests.
+     */
+    public long getRequestBytes() {
+        return requestBytes.sum();
+    }
+
+    /**
+     * @return the total number of bytes of the responses.
+     */
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    /**
+     * @return the histogram of the total latencies.
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return the histogram of the times to the first byte of the responses.
+     */
+    public LatencyHistogram getTimeToFirstByte() {
+        return timeToFirstByte;
+    }
+
+    /**
+     * @return the histogram of the times spent deserializing the responses.
+     */
+    public LatencyHistogram getDeserialization() {
+        return deserialization;
+    }
+
+}
@@ -0,0 +1,23 @@
+package io.neow3j.protocol.metrics;
+
+import io.neow3j.protocol.Service;
+
+/**
+ * Receives a {@link RequestEvent} for every request sent by a {@link Service}.
+ * <p>
+ * Implementations are called on the thread that completed the request and must therefore be fast and thread-safe.
+ * Exceptions thrown by an implementation are logged and otherwise ignored.
+ *
+ * @see InMemoryMetrics
+ */
+@FunctionalInterface
+public interface Neow3jMetrics {
+
+    /**
+     * Called when a request has completed, either successfully or not.
+     *
+     * @param event the measurements of the request.
+     */
+    void onRequest(RequestEvent event);
+
+}
@@ -0,0 +1,144 @@
+package io.neow3j.protocol.metrics;
+
+/**
+ * The measurements of a single JSON-RPC request.
+ */
+public class RequestEvent {
+
+    /**
+     * The method name used for batch requests.
+     */
+    public static final String BATCH_METHOD = "batch";
+
+    /**
+     * The value of a measurement that is not known.
+     */
+    public static final long UNKNOWN = -1;
+
+    /**
+     * The outcome of a request.
+     */
+    public enum Outcome {
+
+        /**
+         * The Neo node returned a result.
+         */
+        SUCCESS,
+
+        /**
+         * The Neo node returned a JSON-RPC error object. The error code is the JSON-RPC error code.
+         */
+        RPC_ERROR,
+
+        /**
+         * The Neo node responded with an unsuccessful status, e.g., HTTP status 503. The error code is the status code.
+         */
+        STATUS_ERROR,
+
+        /**
+         * The request could not be sent or the response could not be read, e.g., because of a timeout or a malformed
+         * response.
+         */
+        IO_ERROR,
+
+        /**
+         * The request failed for another reason.
+         */
+        OTHER_ERROR
+
+    }
+
+    private final String method;
+    private final long requestBytes;
+    private final long responseBytes;
+    private final long timeToFirstByteNanos;
+    private final long deserializationNanos;
+    private final long totalNanos;
+    private final Outcome outcome;
+    private final int errorCode;
+
+    public RequestEvent(String method, long requestBytes, long responseBytes, long timeToFirstByteNanos,
+            long deserializationNanos, long totalNanos, Outcome outcome, int errorCode) {
+        this.method = method;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+        this.timeToFirstByteNanos = timeToFirstByteNanos;
+        this.deserializationNanos = deserializationNanos;
+        this.totalNanos = totalNanos;
+        this.outcome = outcome;
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * @return the JSON-RPC method, or {@link #BATCH_METHOD} for batch requests.
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the number of bytes of the serialized request, or {@link #UNKNOWN}.
+     */
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * @return the number of bytes of the response body read, or {@link #UNKNOWN}.
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * @return the time in nanoseconds from sending the request until the response started to arrive, or
+     * {@link #UNKNOWN}.
+     */
+    public long getTimeToFirstByteNanos() {
+        return timeToFirstByteNanos;
+    }
+
+    /**
+     * @return the time in nanoseconds spent reading and deserializing the response, or {@link #UNKNOWN}.
+     */
+    public long getDeserializationNanos() {
+        return deserializationNanos;
+    }
+
+    /**
+     * @return the time in nanoseconds from sending the request until it completed.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return the outcome.
+     */
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * @return the JSON-RPC error code or the status code, depending on the {@link #getOutcome() outcome}. Zero if the
+     * request succeeded or failed without an error code.
+     */
+    public int getErrorCode() {
+        return errorCode;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestEvent{" +
+                "method='" + method + '\'' +
+                ", requestBytes=" + requestBytes +
+                ", responseBytes=" + responseBytes +
+                ", timeToFirstByteNanos=" + timeToFirstByteNanos +
+                ", deserializationNanos=" + deserializationNanos +
+                ", totalNanos=" + totalNanos +
+                ", outcome=" + outcome +
+                ", errorCode=" + errorCode +
+                '}';
+    }
+
+}
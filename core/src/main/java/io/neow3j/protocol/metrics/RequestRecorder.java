@@ -0,0 +1,171 @@
+package io.neow3j.protocol.metrics;
+
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the measurements of a single request while it is performed and reports them to {@link Neow3jMetrics}.
+ * <p>
+ * Services create a recorder with {@link #start(Neow3jMetrics, String)} before sending a request. If no metrics are
+ * configured, a recorder that ignores all measurements is returned.
+ */
+public final class RequestRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestRecorder.class);
+
+    private static final RequestRecorder DISABLED = new RequestRecorder(null, null);
+
+    private final Neow3jMetrics metrics;
+    private final String method;
+    private final long startNanos;
+    private final AtomicLong requestBytes = new AtomicLong(RequestEvent.UNKNOWN);
+    private final AtomicLong responseBytes = new AtomicLong(RequestEvent.UNKNOWN);
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private volatile long timeToFirstByteNanos = RequestEvent.UNKNOWN;
+    private volatile long deserializationNanos = RequestEvent.UNKNOWN;
+
+    private RequestRecorder(Neow3jMetrics metrics, String method) {
+        this.metrics = metrics;
+        this.method = method;
+        this.startNanos = metrics == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Starts recording a request.
+     *
+     * @param metrics the metrics to report to. May be null.
+     * @param method  the JSON-RPC method, or {@link RequestEvent#BATCH_METHOD}.
+     * @return the recorder.
+     */
+    public static RequestRecorder start(Neow3jMetrics metrics, String method) {
+        return metrics == null ? DISABLED : new RequestRecorder(metrics, method);
+    }
+
+    /**
+     * @return true, if the measurements are reported.
+     */
+    public boolean isEnabled() {
+        return metrics != null;
+    }
+
+    /**
+     * Records that bytes of the request were written.
+     *
+     * @param bytes the number of bytes.
+     */
+    public void onRequestBytes(long bytes) {
+        if (isEnabled()) {
+            requestBytes.accumulateAndGet(bytes, (current, added) -> Math.max(current, 0) + added);
+        }
+    }
+
+    /**
+     * Records that the response started to arrive.
+     */
+    public void onFirstByte() {
+        if (isEnabled() && timeToFirstByteNanos == RequestEvent.UNKNOWN) {
+            timeToFirstByteNanos = System.nanoTime() - startNanos;
+        }
+    }
+
+    /**
+     * Records the time spent reading and deserializing the response.
+     *
+     * @param nanos the time in nanoseconds.
+     */
+    public void onDeserialized(long nanos) {
+        deserializationNanos = nanos;
+    }
+
+    /**
+     * Wraps the response's input stream in order to count the bytes read from it.
+     *
+     * @param inputStream the input stream.
+     * @return the wrapped input stream, or the input stream itself if this recorder is disabled.
+     */
+    public InputStream countResponseBytes(InputStream inputStream) {
+        if (!isEnabled() || inputStream == null) {
+            return inputStream;
+        }
+        responseBytes.compareAndSet(RequestEvent.UNKNOWN, 0);
+        return new FilterInputStream(inputStream) {
+            @Override
+            public int read() throws IOException {
+                int b = in.read();
+                if (b >= 0) {
+                    responseBytes.incrementAndGet();
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int n = in.read(b, off, len);
+                if (n > 0) {
+                    responseBytes.addAndGet(n);
+                }
+                return n;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                long skipped = in.skip(n);
+                responseBytes.addAndGet(skipped);
+                return skipped;
+            }
+        };
+    }
+
+    /**
+     * Reports a completed request.
+     *
+     * @param result the result, e.g., the deserialized {@link Response}.
+     */
+    public void onSuccess(Object result) {
+        if (result instanceof Response && ((Response<?>) result).hasError()) {
+            Response.Error error = ((Response<?>) result).getError();
+            report(RequestEvent.Outcome.RPC_ERROR, error.getCode());
+        } else {
+            report(RequestEvent.Outcome.SUCCESS, 0);
+        }
+    }
+
+    /**
+     * Reports a failed request.
+     *
+     * @param error the error the request failed with.
+     */
+    public void onFailure(Throwable error) {
+        if (error instanceof ClientConnectionException) {
+            int statusCode = ((ClientConnectionException) error).getStatusCode();
+            report(RequestEvent.Outcome.STATUS_ERROR,
+                    statusCode == ClientConnectionException.UNKNOWN_STATUS_CODE ? 0 : statusCode);
+        } else if (error instanceof IOException) {
+            report(RequestEvent.Outcome.IO_ERROR, 0);
+        } else {
+            report(RequestEvent.Outcome.OTHER_ERROR, 0);
+        }
+    }
+
+    private void report(RequestEvent.Outcome outcome, int errorCode) {
+        if (!isEnabled() || !completed.compareAndSet(false, true)) {
+            return;
+        }
+        RequestEvent event = new RequestEvent(method, requestBytes.get(), responseBytes.get(), timeToFirstByteNanos,
+                deserializationNanos, System.nanoTime() - startNanos, outcome, errorCode);
+        try {
+            metrics.onRequest(event);
+        } catch (RuntimeException e) {
+            log.warn("Failed to record the metrics of a request.", e);
+        }
+    }
+
+}
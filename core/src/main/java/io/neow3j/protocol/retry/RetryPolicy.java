@@ -0,0 +1,243 @@
+package io.neow3j.protocol.retry;
+
+import io.neow3j.protocol.core.RpcMethods;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Determines whether and when a failed request is retried.
+ * <p>
+ * A request is retried if it failed with a transient error (i.e., an {@link IOException}, or a
+ * {@link ClientConnectionException} with an unknown status code, a server error status or status 429), if its
+ * method is idempotent and if the retry budget allows it.
+ * <p>
+ * The delay before a retry grows exponentially with the number of attempts and is randomized with full jitter, i.e.,
+ * it is chosen uniformly between zero and the exponential backoff. This prevents that many clients retry in lockstep.
+ * <p>
+ * The retry budget limits the retries to a ratio of the requests sent. Every request deposits the budget ratio and
+ * every retry withdraws one token. The budget holds at most the reserve (but at least one token), and the reserve is
+ * available initially. This prevents that retries multiply the load on a node that is already overloaded.
+ */
+public class RetryPolicy {
+
+    /**
+     * The default maximum number of attempts, including the first one.
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /**
+     * The default backoff in milliseconds before the first retry.
+     */
+    public static final long DEFAULT_INITIAL_BACKOFF = 100;
+
+    /**
+     * The default maximum backoff in milliseconds.
+     */
+    public static final long DEFAULT_MAX_BACKOFF = 5_000;
+
+    /**
+     * The default factor by which the backoff grows with every attempt.
+     */
+    public static final double DEFAULT_MULTIPLIER = 2;
+
+    /**
+     * The default ratio of retries to requests.
+     */
+    public static final double DEFAULT_BUDGET_RATIO = 0.2;
+
+    /**
+     * The default number of retries that are available regardless of the number of requests.
+     */
+    public static final int DEFAULT_BUDGET_RESERVE = 10;
+
+    /**
+     * The methods that are retried by default. Only methods without side effects are safe to be sent more than once.
+     */
+    public static final Set<String> DEFAULT_IDEMPOTENT_METHODS = RpcMethods.READ_ONLY_METHODS;
+
+    private final Object lock = new Object();
+
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private long initialBackoff = DEFAULT_INITIAL_BACKOFF;
+    private long maxBackoff = DEFAULT_MAX_BACKOFF;
+    private double multiplier = DEFAULT_MULTIPLIER;
+    private double budgetRatio = DEFAULT_BUDGET_RATIO;
+    private int budgetReserve = DEFAULT_BUDGET_RESERVE;
+    private double budget = DEFAULT_BUDGET_RESERVE;
+    private volatile Set<String> idempotentMethods = DEFAULT_IDEMPOTENT_METHODS;
+    private volatile boolean retrySendRawTransaction = true;
+
+    /**
+     * Sets the maximum number of attempts of a request, including the first one.
+     * <p>
+     * Defaults to {@link #DEFAULT_MAX_ATTEMPTS}.
+     *
+     * @param maxAttempts the maximum number of attempts.
+     * @return this.
+     */
+    public RetryPolicy setMaxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("The maximum number of attempts must be at least 1.");
+        }
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * Sets the exponential backoff.
+     * <p>
+     * The backoff before the n-th retry is {@code min(maxBackoff, initialBackoff * multiplier^(n-1))}. The actual delay
+     * is chosen randomly between zero and the backoff.
+     * <p>
+     * Defaults to {@link #DEFAULT_INITIAL_BACKOFF}, {@link #DEFAULT_MAX_BACKOFF} and {@link #DEFAULT_MULTIPLIER}.
+     *
+     * @param initialBackoff the backoff in milliseconds before the first retry.
+     * @param maxBackoff     the maximum backoff in milliseconds.
+     * @param multiplier     the factor by which the backoff grows with every retry.
+     * @return this.
+     */
+    public RetryPolicy setBackoff(long initialBackoff, long maxBackoff, double multiplier) {
+        if (initialBackoff < 0 || maxBackoff < initialBackoff) {
+            throw new IllegalArgumentException("The backoff must satisfy 0 <= initialBackoff <= maxBackoff.");
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("The multiplier must be at least 1.");
+        }
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.multiplier = multiplier;
+        return this;
+    }
+
+    /**
+     * Sets the retry budget.
+     * <p>
+     * Defaults to {@link #DEFAULT_BUDGET_RATIO} and {@link #DEFAULT_BUDGET_RESERVE}.
+     *
+     * @param ratio   the ratio of retries to requests, e.g., 0.2 allows one retry per five requests.
+     * @param reserve the number of retries that are available regardless of the number of requests.
+     * @return this.
+     */
+    public RetryPolicy setRetryBudget(double ratio, int reserve) {
+        if (ratio < 0 || reserve < 0) {
+            throw new IllegalArgumentException("The ratio and the reserve of the retry budget must not be negative.");
+        }
+        synchronized (lock) {
+            this.budgetRatio = ratio;
+            this.budgetReserve = reserve;
+            this.budget = reserve;
+        }
+        return this;
+    }
+
+    /**
+     * Sets the methods that are retried.
+     * <p>
+     * Defaults to {@link #DEFAULT_IDEMPOTENT_METHODS}.
+     *
+     * @param idempotentMethods the names of the idempotent methods.
+     * @return this.
+     */
+    public RetryPolicy setIdempotentMethods(Set<String> idempotentMethods) {
+        this.idempotentMethods = idempotentMethods;
+        return this;
+    }
+
+    /**
+     * Sets whether {@code sendrawtransaction} requests are retried.
+     * <p>
+     * Before such a request is retried, the node is asked with {@code getrawtransaction} whether it already knows the
+     * transaction. The transaction is only sent again if it does not. Enabled by default.
+     *
+     * @param retrySendRawTransaction true, if {@code sendrawtransaction} requests should be retried.
+     * @return this.
+     */
+    public RetryPolicy setRetrySendRawTransaction(boolean retrySendRawTransaction) {
+        this.retrySendRawTransaction = retrySendRawTransaction;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of attempts of a request, including the first one.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return whether {@code sendrawtransaction} requests are retried.
+     */
+    public boolean isRetrySendRawTransaction() {
+        return retrySendRawTransaction;
+    }
+
+    /**
+     * @param method the method name.
+     * @return true, if requests with the given method can be retried without side effects.
+     */
+    public boolean isIdempotent(String method) {
+        return idempotentMethods.contains(method);
+    }
+
+    /**
+     * @param e the error a request failed with.
+     * @return true, if the error is transient and the request may succeed if it is sent again.
+     */
+    public boolean isRetryable(Throwable e) {
+        if (e instanceof InterruptedIOException) {
+            // Timeouts are transient, but an interrupted thread should stop as soon as possible.
+            return e instanceof SocketTimeoutException;
+        }
+        if (e instanceof IOException) {
+            return true;
+        }
+        if (e instanceof ClientConnectionException) {
+            int statusCode = ((ClientConnectionException) e).getStatusCode();
+            return statusCode == ClientConnectionException.UNKNOWN_STATUS_CODE || statusCode == 429
+                    || statusCode >= 500;
+        }
+        return false;
+    }
+
+    /**
+     * Computes the delay before a retry.
+     *
+     * @param retry the number of the retry, starting at 1.
+     * @return the delay in milliseconds.
+     */
+    public long getBackoff(int retry) {
+        double backoff = initialBackoff * Math.pow(multiplier, retry - 1);
+        long cap = (long) Math.min(maxBackoff, backoff);
+        return cap == 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    /**
+     * Deposits a request into the retry budget. Called once for every request, not for its retries.
+     */
+    public void onRequest() {
+        synchronized (lock) {
+            budget = Math.min(Math.max(budgetReserve, 1), budget + budgetRatio);
+        }
+    }
+
+    /**
+     * Withdraws a retry from the retry budget.
+     *
+     * @return true, if the budget allowed the retry.
+     */
+    public boolean tryAcquireRetry() {
+        synchronized (lock) {
+            if (budget < 1) {
+                return false;
+            }
+            budget--;
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,284 @@
+package io.neow3j.protocol.retry;
+
+import io.neow3j.crypto.Base64;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.NeoGetRawTransaction;
+import io.neow3j.protocol.core.response.NeoSendRawTransaction;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.notifications.Notification;
+import io.neow3j.serialization.NeoSerializableInterface;
+import io.neow3j.serialization.exceptions.DeserializationException;
+import io.neow3j.transaction.Transaction;
+import io.neow3j.types.Hash256;
+import io.reactivex.Observable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.util.Arrays.asList;
+
+/**
+ * A service that retries failed requests according to a {@link RetryPolicy}.
+ * <p>
+ * Requests with idempotent methods are retried whenever they failed with a transient error. A batch request is only
+ * retried if all of its requests are idempotent.
+ * <p>
+ * A {@code sendrawtransaction} request is not idempotent, since the node may have received the transaction even though
+ * the response was lost. Before it is retried, the node is asked with {@code getrawtransaction} whether it knows the
+ * transaction. If it does, a successful response with the transaction hash is returned instead of sending the
+ * transaction again. If the node cannot be asked, the original error is thrown.
+ */
+public class RetryingService implements Neow3jService {
+
+    static final String SEND_RAW_TRANSACTION = "sendrawtransaction";
+
+    private static final ScheduledExecutorService RETRY_SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "neow3j-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Neow3jService delegate;
+    private final RetryPolicy policy;
+
+    /**
+     * Creates a service that retries the requests sent with the given service.
+     *
+     * @param delegate the service used to send the requests.
+     * @param policy   the retry policy.
+     */
+    public RetryingService(Neow3jService delegate, RetryPolicy policy) {
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+    /**
+     * @return the retry policy used by this service.
+     */
+    public RetryPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return the service used to send the requests.
+     */
+    public Neow3jService getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return execute(() -> delegate.send(request, responseType), policy.isIdempotent(request.getMethod()),
+                sentTransactionHash(request, responseType), hash -> sentTransactionResponse(request, hash,
+                        responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        return executeAsync(() -> delegate.sendAsync(request, responseType), policy.isIdempotent(request.getMethod()),
+                sentTransactionHash(request, responseType), hash -> sentTransactionResponse(request, hash,
+                        responseType));
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return execute(() -> delegate.sendBatch(batchRequest), isIdempotent(batchRequest), null, null);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return executeAsync(() -> delegate.sendBatchAsync(batchRequest), isIdempotent(batchRequest), null, null);
+    }
+
+    /**
+     * Subscribes to a stream of notifications with the underlying service. Subscriptions are not retried.
+     *
+     * @param request           the JSON-RPC request that will be send to subscribe to a stream of events.
+     * @param unsubscribeMethod the method that will be called to unsubscribe from a stream of notifications.
+     * @param responseType      the class of incoming events objects in a stream.
+     * @param <T>               the type of incoming event objects.
+     * @return an Observable that emits incoming events.
+     */
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(Request request, String unsubscribeMethod,
+            Class<T> responseType) {
+        return delegate.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    // If txHash is not null, the request is a sendrawtransaction request that may be retried if the node does not know
+    // the transaction. Otherwise, the request is only retried if it is idempotent.
+    private <R> R execute(IOCallable<R> call, boolean idempotent, Hash256 txHash,
+            Function<Hash256, R> sentResponse) throws IOException {
+
+        policy.onRequest();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.call();
+            } catch (IOException | ClientConnectionException e) {
+                if (!mayRetry(e, idempotent || txHash != null, attempt)) {
+                    throw e;
+                }
+                sleep(policy.getBackoff(attempt));
+                if (txHash != null) {
+                    boolean known;
+                    try {
+                        known = isKnown(txHash);
+                    } catch (IOException | ClientConnectionException checkError) {
+                        e.addSuppressed(checkError);
+                        throw e;
+                    }
+                    if (known) {
+                        return sentResponse.apply(txHash);
+                    }
+                }
+            }
+        }
+    }
+
+    private <R> CompletableFuture<R> executeAsync(AsyncCall<R> call, boolean idempotent, Hash256 txHash,
+            Function<Hash256, R> sentResponse) {
+
+        policy.onRequest();
+        CompletableFuture<R> result = new CompletableFuture<>();
+        attemptAsync(call, idempotent, txHash, sentResponse, 1, result);
+        return result;
+    }
+
+    private <R> void attemptAsync(AsyncCall<R> call, boolean idempotent, Hash256 txHash,
+            Function<Hash256, R> sentResponse, int attempt, CompletableFuture<R> result) {
+
+        if (result.isDone()) {
+            // The caller cancelled the request.
+            return;
+        }
+        start(call).whenComplete((r, e) -> {
+            if (e == null) {
+                result.complete(r);
+                return;
+            }
+            Throwable cause = unwrap(e);
+            if (!mayRetry(cause, idempotent || txHash != null, attempt)) {
+                result.completeExceptionally(cause);
+                return;
+            }
+            RETRY_SCHEDULER.schedule(() -> {
+                if (txHash == null) {
+                    attemptAsync(call, idempotent, null, sentResponse, attempt + 1, result);
+                    return;
+                }
+                isKnownAsync(txHash).whenComplete((known, checkError) -> {
+                    if (checkError != null) {
+                        cause.addSuppressed(unwrap(checkError));
+                        result.completeExceptionally(cause);
+                    } else if (known) {
+                        result.complete(sentResponse.apply(txHash));
+                    } else {
+                        attemptAsync(call, idempotent, txHash, sentResponse, attempt + 1, result);
+                    }
+                });
+            }, policy.getBackoff(attempt), TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private boolean mayRetry(Throwable e, boolean retriable, int attempt) {
+        return retriable && attempt < policy.getMaxAttempts() && policy.isRetryable(e) && policy.tryAcquireRetry();
+    }
+
+    private boolean isIdempotent(BatchRequest batchRequest) {
+        return batchRequest.getRequests().stream().allMatch(r -> policy.isIdempotent(r.getMethod()));
+    }
+
+    private boolean isKnown(Hash256 txHash) throws IOException {
+        return !delegate.send(getRawTransaction(txHash), NeoGetRawTransaction.class).hasError();
+    }
+
+    private CompletableFuture<Boolean> isKnownAsync(Hash256 txHash) {
+        return start(() -> delegate.sendAsync(getRawTransaction(txHash), NeoGetRawTransaction.class))
+                .thenApply(response -> !response.hasError());
+    }
+
+    private Request<?, NeoGetRawTransaction> getRawTransaction(Hash256 txHash) {
+        return new Request<>("getrawtransaction", asList(txHash, 0), delegate, NeoGetRawTransaction.class);
+    }
+
+    // Returns the hash of the transaction sent with the request, or null if the request is not a sendrawtransaction
+    // request that may be retried.
+    private Hash256 sentTransactionHash(Request<?, ?> request, Class<?> responseType) {
+        if (!SEND_RAW_TRANSACTION.equals(request.getMethod()) || !policy.isRetrySendRawTransaction()
+                || !responseType.isAssignableFrom(NeoSendRawTransaction.class)) {
+            return null;
+        }
+        List<?> params = request.getParams();
+        if (params == null || params.isEmpty() || !(params.get(0) instanceof String)) {
+            return null;
+        }
+        try {
+            byte[] rawTransaction = Base64.decode((String) params.get(0));
+            return NeoSerializableInterface.from(rawTransaction, Transaction.class).getTxId();
+        } catch (DeserializationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static <T> T sentTransactionResponse(Request<?, ?> request, Hash256 txHash, Class<T> responseType) {
+        NeoSendRawTransaction response = new NeoSendRawTransaction();
+        response.setId(request.getId());
+        response.setJsonrpc(request.getJsonrpc());
+        response.setResult(new NeoSendRawTransaction.RawTransaction(txHash));
+        return responseType.cast(response);
+    }
+
+    private static <R> CompletableFuture<R> start(AsyncCall<R> call) {
+        try {
+            return call.call();
+        } catch (Throwable e) {
+            CompletableFuture<R> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry the request.");
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        if ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            return e.getCause();
+        }
+        return e;
+    }
+
+    @FunctionalInterface
+    private interface IOCallable<R> {
+        R call() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface AsyncCall<R> {
+        CompletableFuture<R> call();
+    }
+
+}
@@ -0,0 +1,53 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.core.response.NeoApplicationLog;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.types.Hash256;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A block together with the application logs of its transactions, as emitted by
+ * {@link Neow3jRx#blockWithLogsFlowable()}.
+ */
+public class BlockWithLogs {
+
+    private final NeoBlock block;
+    private final List<NeoApplicationLog> applicationLogs;
+
+    public BlockWithLogs(NeoBlock block, List<NeoApplicationLog> applicationLogs) {
+        this.block = block;
+        this.applicationLogs = applicationLogs;
+    }
+
+    /**
+     * @return the block including its transactions.
+     */
+    public NeoBlock getBlock() {
+        return block;
+    }
+
+    /**
+     * @return the application logs of the transactions in the order of the transactions in the block.
+     */
+    public List<NeoApplicationLog> getApplicationLogs() {
+        return Collections.unmodifiableList(applicationLogs);
+    }
+
+    /**
+     * Gets the application log of a transaction of this block.
+     *
+     * @param txHash the transaction hash.
+     * @return the application log or null if the transaction is not part of this block.
+     */
+    public NeoApplicationLog getApplicationLog(Hash256 txHash) {
+        for (NeoApplicationLog applicationLog : applicationLogs) {
+            if (txHash.equals(applicationLog.getTransactionId())) {
+                return applicationLog;
+            }
+        }
+        return null;
+    }
+
+}
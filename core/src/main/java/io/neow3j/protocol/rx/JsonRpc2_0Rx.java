@@ -1,17 +1,40 @@
 package io.neow3j.protocol.rx;
 
 import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.Response;
 import io.neow3j.protocol.core.polling.BlockIndexPolling;
+import io.neow3j.protocol.core.polling.MemPoolPolling;
+import io.neow3j.protocol.core.response.NeoApplicationLog;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoGetApplicationLog;
 import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.core.response.NeoGetTransaction;
+import io.neow3j.protocol.core.response.Notification;
 import io.neow3j.protocol.core.response.Transaction;
+import io.neow3j.protocol.limit.RequestLimiter;
+import io.neow3j.transaction.Block;
+import io.neow3j.transaction.Header;
+import io.neow3j.types.Hash256;
 import io.neow3j.utils.Observables;
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.Scheduler;
+import io.reactivex.Single;
 import io.reactivex.schedulers.Schedulers;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
 
 /**
  * neow3j reactive API implementation.
@@ -60,6 +83,9 @@ public class JsonRpc2_0Rx {
     /**
      * Creates an observable that emits blocks starting at {@code startBlockNumber} up to {@code endBlock} and then
      * stops.
+     * <p>
+     * The blocks are fetched with the parallelism and window configured on the {@code Neow3j} instance (see
+     * {@link Neow3j#getBlockReplayParallelism()}). By default, they are fetched one after the other.
      *
      * @param startBlock             The block index at which to start.
      * @param endBlock               The block index at which to stop.
@@ -69,21 +95,96 @@ public class JsonRpc2_0Rx {
      */
     public Observable<NeoGetBlock> replayBlocksObservable(BigInteger startBlock, BigInteger endBlock,
             boolean fullTransactionObjects, boolean ascending) {
-        return replayBlocksObservableSync(startBlock, endBlock, fullTransactionObjects, ascending)
+        return replayBlocksObservable(startBlock, endBlock, fullTransactionObjects, ascending,
+                neow3j.getBlockReplayParallelism(), neow3j.getBlockReplayWindow());
+    }
+
+    /**
+     * Creates an observable that emits blocks starting at {@code startBlockNumber} up to {@code endBlock} and then
+     * stops.
+     * <p>
+     * Up to {@code parallelism} blocks are fetched concurrently and up to {@code window} blocks are fetched ahead of
+     * the block that is emitted next. The blocks are always emitted strictly in index order.
+     *
+     * @param startBlock             The block index at which to start.
+     * @param endBlock               The block index at which to stop.
+     * @param fullTransactionObjects If the full transactions objects should be included in the blocks.
+     * @param ascending              If the blocks should be emitted in ascending or descending order.
+     * @param parallelism            The maximum number of blocks fetched concurrently.
+     * @param window                 The maximum number of blocks fetched ahead, including the ones in flight.
+     * @return the block index observable.
+     */
+    public Observable<NeoGetBlock> replayBlocksObservable(BigInteger startBlock, BigInteger endBlock,
+            boolean fullTransactionObjects, boolean ascending, int parallelism, int window) {
+        return replayBlocksObservableSync(startBlock, endBlock, fullTransactionObjects, ascending, parallelism,
+                window)
                 // We use a scheduler to run this Observable asynchronously
                 .subscribeOn(scheduler);
     }
 
     private Observable<NeoGetBlock> replayBlocksObservableSync(BigInteger startBlockNumber, BigInteger endBlockNumber,
-            boolean fullTransactionObjects, boolean ascending) {
+            boolean fullTransactionObjects, boolean ascending, int parallelism, int window) {
 
-        if (ascending) {
-            return Observables.range(startBlockNumber, endBlockNumber)
-                    .flatMap(i -> neow3j.getBlock(i, fullTransactionObjects).observable());
-        } else {
-            return Observables.range(startBlockNumber, endBlockNumber, false)
-                    .flatMap(i -> neow3j.getBlock(i, fullTransactionObjects).observable());
+        if (parallelism < 1 || window < parallelism) {
+            return Observable.error(new IllegalArgumentException(
+                    "The replay parallelism must be positive and not greater than the window."));
+        }
+        Observable<BigInteger> indexes = Observables.range(startBlockNumber, endBlockNumber, ascending);
+        if (parallelism == 1 && window == 1) {
+            return indexes.concatMap(i -> neow3j.getBlock(i, fullTransactionObjects).observable());
         }
+        // Every subscription has its own limiter so that the window can hold more blocks than are in flight. The
+        // limiter admits the requests in the order in which the window subscribes to them, i.e., in index order.
+        return Observable.defer(() -> {
+            RequestLimiter limiter = RequestLimiter.fixed(parallelism);
+            return indexes.concatMapEager(i -> fetchBlock(i, fullTransactionObjects, limiter), window, 1);
+        });
+    }
+
+    private Observable<NeoGetBlock> fetchBlock(BigInteger blockIndex, boolean fullTransactionObjects,
+            RequestLimiter limiter) {
+        return fetchBlockSingle(blockIndex, fullTransactionObjects, limiter).toObservable();
+    }
+
+    private Single<Header> fetchRawHeaderSingle(BigInteger blockIndex, RequestLimiter limiter) {
+        return limited(limiter, () -> neow3j.getRawBlockHeader(blockIndex).sendAsync())
+                .map(response -> Header.fromBase64(response.getRawBlock()));
+    }
+
+    private Single<NeoGetBlock> fetchBlockSingle(BigInteger blockIndex, boolean fullTransactionObjects,
+            RequestLimiter limiter) {
+        return limited(limiter, () -> neow3j.getBlock(blockIndex, fullTransactionObjects).sendAsync());
+    }
+
+    // Sends a request as soon as the limiter admits it.
+    private static <T> Single<T> limited(RequestLimiter limiter, Supplier<CompletableFuture<T>> request) {
+        return fromFuture(() -> limiter.acquireAsync().thenCompose(v -> {
+            long start = System.nanoTime();
+            CompletableFuture<T> response;
+            try {
+                response = request.get();
+            } catch (Throwable e) {
+                response = new CompletableFuture<>();
+                response.completeExceptionally(e);
+            }
+            return response.whenComplete((r, e) -> limiter.release(System.nanoTime() - start, e != null));
+        }));
+    }
+
+    // Adapts a future without blocking a thread while waiting for it. Disposing the single cancels the future, e.g.,
+    // so that the chain head tracker stops waiting for blocks nobody is interested in anymore.
+    private static <T> Single<T> fromFuture(Supplier<CompletableFuture<T>> futureSupplier) {
+        return Single.create(emitter -> {
+            CompletableFuture<T> future = futureSupplier.get();
+            emitter.setCancellable(() -> future.cancel(false));
+            future.whenComplete((result, e) -> {
+                if (e == null) {
+                    emitter.onSuccess(result);
+                } else {
+                    emitter.tryOnError(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                }
+            });
+        });
     }
 
     /**
@@ -119,7 +220,8 @@ public class JsonRpc2_0Rx {
             return onCaughtUpObservable;
         } else {
             return Observable.concat(
-                    replayBlocksObservableSync(startBlockIdx, latestBlockIdx, fullTransactionObjects, true),
+                    replayBlocksObservableSync(startBlockIdx, latestBlockIdx, fullTransactionObjects, true,
+                            neow3j.getBlockReplayParallelism(), neow3j.getBlockReplayWindow()),
                     Observable.defer(() -> catchUpToLatestBlockObservableSync(
                             latestBlockIdx.add(BigInteger.ONE),
                             fullTransactionObjects,
@@ -152,8 +254,456 @@ public class JsonRpc2_0Rx {
                 blockObservable(fullTransactionObjects, pollingInterval));
     }
 
+    /**
+     * Creates an observable that emits the contract notifications matching the given filter of the transactions in
+     * new blocks as they are produced by the Neo blockchain.
+     * <p>
+     * The application logs of the transactions of a block are fetched with a single batch request. The logs of up to
+     * {@link Neow3j#getApplicationLogPrefetch()} blocks are fetched concurrently. The notifications are emitted in
+     * the order of the blocks, transactions and executions.
+     *
+     * @param filter          The filter the notifications have to match.
+     * @param pollingInterval The polling interval in milliseconds.
+     * @return the notification observable.
+     */
+    public Observable<Notification> notificationObservable(NotificationFilter filter, long pollingInterval) {
+        return notifications(blockObservable(true, pollingInterval), filter);
+    }
+
+    /**
+     * Creates an observable that emits the contract notifications matching the given filter of the transactions in
+     * all blocks starting at {@code startBlock} and continues with new blocks as they are produced by the Neo
+     * blockchain.
+     *
+     * @param startBlock      The block index at which to start catching up.
+     * @param filter          The filter the notifications have to match.
+     * @param pollingInterval The polling interval in milliseconds.
+     * @return the notification observable.
+     * @see #notificationObservable(NotificationFilter, long)
+     */
+    public Observable<Notification> catchUpToLatestAndSubscribeToNewNotificationsObservable(BigInteger startBlock,
+            NotificationFilter filter, long pollingInterval) {
+        return notifications(catchUpToLatestAndSubscribeToNewBlocksObservable(startBlock, true, pollingInterval),
+                filter);
+    }
+
+    private Observable<Notification> notifications(Observable<NeoGetBlock> blocks, NotificationFilter filter) {
+        return blocks.concatMapEager(block -> fetchNotifications(block.getBlock(), filter),
+                neow3j.getApplicationLogPrefetch(), Observable.bufferSize());
+    }
+
+    private Observable<Notification> fetchNotifications(NeoBlock block, NotificationFilter filter) {
+        return fetchApplicationLogs(block).flattenAsObservable(filter::select);
+    }
+
+    private Single<List<NeoApplicationLog>> fetchApplicationLogs(NeoBlock block) {
+        List<Transaction> transactions = block.getTransactions();
+        if (transactions == null || transactions.isEmpty()) {
+            return Single.just(Collections.emptyList());
+        }
+        BatchRequest batch = neow3j.newBatch();
+        transactions.forEach(tx -> batch.add(neow3j.getApplicationLog(tx.getHash())));
+        return fromFuture(batch::sendAsync).map(response -> {
+            List<NeoApplicationLog> applicationLogs = new ArrayList<>(transactions.size());
+            List<Response<?>> responses = response.getResponses();
+            for (int i = 0; i < responses.size(); i++) {
+                // A block is never emitted with an incomplete set of application logs.
+                Response<?> r = responses.get(i);
+                r.throwOnError();
+                NeoApplicationLog applicationLog = ((NeoGetApplicationLog) r).getApplicationLog();
+                if (applicationLog == null) {
+                    throw new IllegalStateException(format("The Neo node returned no application log for the " +
+                            "transaction %s.", transactions.get(i).getHash()));
+                }
+                applicationLogs.add(applicationLog);
+            }
+            return applicationLogs;
+        });
+    }
+
+    /**
+     * Creates an observable that emits the transactions that were added to or removed from the mempool of the Neo
+     * node since the previous poll. The mempool is pulled every {@code pollingInterval}.
+     * <p>
+     * The verified and unverified transactions are fetched with {@code getrawmempool}. If the node does not list
+     * unverified transactions, only the verified ones are watched. The first change contains all transactions that
+     * are in the mempool at subscription. Polls that do not change the mempool are not emitted.
+     *
+     * @param pollingInterval The polling interval in milliseconds.
+     * @return the mempool change observable.
+     */
+    public Observable<MemPoolChange> memPoolChangeObservable(long pollingInterval) {
+        return Observable.create(emitter ->
+                new MemPoolPolling().run(neow3j, emitter, scheduledExecutorService, pollingInterval)
+        );
+    }
+
+    /**
+     * Creates an observable that emits the transactions that are added to the mempool of the Neo node.
+     * <p>
+     * The transactions are fetched with {@code getrawtransaction}. Up to {@link Neow3j#getMemPoolFetchParallelism()}
+     * transactions are fetched concurrently. They are emitted in the order in which they were added to the mempool.
+     *
+     * @param pollingInterval The polling interval in milliseconds.
+     * @return the transaction observable.
+     * @see #memPoolChangeObservable(long)
+     */
+    public Observable<Transaction> memPoolTransactionObservable(long pollingInterval) {
+        return memPoolChangeObservable(pollingInterval)
+                .concatMapIterable(MemPoolChange::getAdded)
+                .concatMapEager(this::fetchMemPoolTransaction, neow3j.getMemPoolFetchParallelism(),
+                        Observable.bufferSize());
+    }
+
+    // A transaction that was dropped from the mempool before it could be fetched is skipped.
+    private Observable<Transaction> fetchMemPoolTransaction(Hash256 txHash) {
+        return fromFuture(() -> neow3j.getTransaction(txHash).sendAsync())
+                .filter(response -> !response.hasError())
+                .map(NeoGetTransaction::getTransaction)
+                .toObservable();
+    }
+
+    /**
+     * Creates a flowable that emits the indexes of new blocks as they are produced by the Neo blockchain, starting
+     * with the block after the current latest block.
+     * <p>
+     * The indexes are awaited with the {@link io.neow3j.protocol.core.polling.ChainHeadTracker} of the
+     * {@code Neow3j} instance and only as far as the downstream requested them.
+     *
+     * @return the block index flowable.
+     */
+    public Flowable<BigInteger> blockIndexFlowable() {
+        return applyBackpressureStrategy(Flowable.defer(() -> {
+            BigInteger nextBlockIdx = neow3j.getChainHeadTracker().getBlockCount(0);
+            return indexesFrom(nextBlockIdx)
+                    .concatMapEager(i -> awaitBlock(i).toFlowable(), neow3j.getBlockReplayWindow(), 1);
+        }).subscribeOn(scheduler));
+    }
+
+    /**
+     * Creates a flowable that emits new blocks as they are produced by the Neo blockchain, starting with the block
+     * after the current latest block.
+     * <p>
+     * Blocks are only fetched as the downstream requests them. If the downstream is slower than the blockchain, the
+     * flowable lags behind instead of buffering blocks, unless an overflow strategy is configured (see
+     * {@link Neow3j#getBackpressureOverflowStrategy()}).
+     *
+     * @param fullTransactionObjects Whether to get block information with all transaction objects or just the block
+     *                               header.
+     * @return the block flowable.
+     */
+    public Flowable<NeoGetBlock> blockFlowable(boolean fullTransactionObjects) {
+        return applyBackpressureStrategy(Flowable.defer(() -> {
+            BigInteger nextBlockIdx = neow3j.getChainHeadTracker().getBlockCount(0);
+            return blocksFromSync(nextBlockIdx, verboseBlocks(fullTransactionObjects));
+        }).subscribeOn(scheduler));
+    }
+
+    /**
+     * Creates a flowable that emits blocks starting at {@code startBlock} up to {@code endBlock} and then completes.
+     * <p>
+     * Blocks are only fetched as the downstream requests them, with the parallelism and window configured on the
+     * {@code Neow3j} instance (see {@link Neow3j#getBlockReplayParallelism()}). They are emitted strictly in order.
+     *
+     * @param startBlock             The block index at which to start.
+     * @param endBlock               The block index at which to stop.
+     * @param fullTransactionObjects If the full transactions objects should be included in the blocks.
+     * @param ascending              If the blocks should be emitted in ascending or descending order.
+     * @return the block flowable.
+     */
+    public Flowable<NeoGetBlock> replayBlocksFlowable(BigInteger startBlock, BigInteger endBlock,
+            boolean fullTransactionObjects, boolean ascending) {
+        return applyBackpressureStrategy(
+                replayBlocksFlowableSync(startBlock, endBlock, ascending, verboseBlocks(fullTransactionObjects))
+                        .subscribeOn(scheduler));
+    }
+
+    private <T> Flowable<T> replayBlocksFlowableSync(BigInteger startBlock, BigInteger endBlock, boolean ascending,
+            BlockFetcher<T> fetcher) {
+
+        if (startBlock.signum() < 0 || startBlock.compareTo(endBlock) > 0) {
+            return Flowable.error(new IllegalArgumentException(
+                    "The start index must not be negative or greater than the end index."));
+        }
+        long count = endBlock.subtract(startBlock).longValueExact() + 1;
+        Flowable<BigInteger> indexes = Flowable.rangeLong(0, count)
+                .map(i -> ascending ? startBlock.add(BigInteger.valueOf(i)) : endBlock.subtract(BigInteger.valueOf(i)));
+        return Flowable.defer(() -> {
+            RequestLimiter limiter = RequestLimiter.fixed(neow3j.getBlockReplayParallelism());
+            return indexes.concatMapEager(i -> fetcher.fetch(i, limiter).toFlowable(), neow3j.getBlockReplayWindow(),
+                    1);
+        });
+    }
+
+    /**
+     * Creates a flowable that emits blocks starting at {@code startBlock} up to the most recent block and then
+     * completes.
+     *
+     * @param startBlock             The block index at which to start catching up.
+     * @param fullTransactionObjects If the full transactions objects should be included in the blocks.
+     * @return the block flowable.
+     */
+    public Flowable<NeoGetBlock> catchUpToLatestBlockFlowable(BigInteger startBlock,
+            boolean fullTransactionObjects) {
+        return applyBackpressureStrategy(
+                catchUpToLatestBlockFlowableSync(startBlock, verboseBlocks(fullTransactionObjects))
+                        .subscribeOn(scheduler));
+    }
+
+    private <T> Flowable<T> catchUpToLatestBlockFlowableSync(BigInteger startBlockIdx, BlockFetcher<T> fetcher) {
+
+        return Flowable.defer(() -> {
+            BigInteger latestBlockIdx = getLatestBlockIdx();
+            if (startBlockIdx.compareTo(latestBlockIdx) > 0) {
+                return Flowable.empty();
+            }
+            return Flowable.concat(
+                    replayBlocksFlowableSync(startBlockIdx, latestBlockIdx, true, fetcher),
+                    catchUpToLatestBlockFlowableSync(latestBlockIdx.add(BigInteger.ONE), fetcher));
+        });
+    }
+
+    /**
+     * Creates a flowable that emits blocks starting at {@code startBlock} up to the most recent block and continues
+     * emitting blocks that are newly created on the Neo blockchain.
+     * <p>
+     * Blocks are only fetched as the downstream requests them. Blocks that do not exist yet are awaited with the
+     * {@link io.neow3j.protocol.core.polling.ChainHeadTracker} of the {@code Neow3j} instance.
+     *
+     * @param startBlock             The block index at which to start catching up.
+     * @param fullTransactionObjects If the full transactions objects should be included in the blocks.
+     * @return the block flowable.
+     */
+    public Flowable<NeoGetBlock> catchUpToLatestAndSubscribeToNewBlocksFlowable(BigInteger startBlock,
+            boolean fullTransactionObjects) {
+        return applyBackpressureStrategy(
+                Flowable.defer(() -> blocksFromSync(startBlock, verboseBlocks(fullTransactionObjects)))
+                        .subscribeOn(scheduler));
+    }
+
+    /**
+     * Creates a flowable that emits the transactions of all blocks starting at {@code startBlock} up to the most
+     * recent block and then completes.
+     *
+     * @param startBlock The block index at which to start catching up.
+     * @return the transaction flowable.
+     */
+    public Flowable<Transaction> catchUpToLatestTransactionFlowable(BigInteger startBlock) {
+        return catchUpToLatestBlockFlowable(startBlock, true)
+                .concatMapIterable(b -> b.getBlock().getTransactions());
+    }
+
+    /**
+     * Creates a flowable that emits the transactions of new blocks as they are produced by the Neo blockchain.
+     *
+     * @return the transaction flowable.
+     */
+    public Flowable<Transaction> transactionFlowable() {
+        return blockFlowable(true)
+                .concatMapIterable(b -> b.getBlock().getTransactions());
+    }
+
+    /**
+     * Creates a flowable that emits new blocks together with the application logs of their transactions as they are
+     * produced by the Neo blockchain.
+     * <p>
+     * The application logs of a block are fetched with a single batch request. The logs of up to
+     * {@link Neow3j#getApplicationLogPrefetch()} blocks are fetched concurrently while the downstream processes the
+     * current block, so that they are not on its critical path. At most that many blocks with their logs are held
+     * ahead of the downstream, regardless of their size.
+     *
+     * @return the flowable.
+     */
+    public Flowable<BlockWithLogs> blockWithLogsFlowable() {
+        return withApplicationLogs(blockFlowable(true));
+    }
+
+    /**
+     * Creates a flowable that emits blocks together with the application logs of their transactions starting at
+     * {@code startBlock} up to {@code endBlock} and then completes.
+     *
+     * @param startBlock The block index at which to start.
+     * @param endBlock   The block index at which to stop.
+     * @param ascending  If the blocks should be emitted in ascending or descending order.
+     * @return the flowable.
+     * @see #blockWithLogsFlowable()
+     */
+    public Flowable<BlockWithLogs> replayBlocksWithLogsFlowable(BigInteger startBlock, BigInteger endBlock,
+            boolean ascending) {
+        return withApplicationLogs(replayBlocksFlowable(startBlock, endBlock, true, ascending));
+    }
+
+    /**
+     * Creates a flowable that emits blocks together with the application logs of their transactions starting at
+     * {@code startBlock} up to the most recent block and continues with blocks that are newly created on the Neo
+     * blockchain.
+     *
+     * @param startBlock The block index at which to start catching up.
+     * @return the flowable.
+     * @see #blockWithLogsFlowable()
+     */
+    public Flowable<BlockWithLogs> catchUpToLatestAndSubscribeToNewBlocksWithLogsFlowable(BigInteger startBlock) {
+        return withApplicationLogs(catchUpToLatestAndSubscribeToNewBlocksFlowable(startBlock, true));
+    }
+
+    private Flowable<BlockWithLogs> withApplicationLogs(Flowable<NeoGetBlock> blocks) {
+        return blocks.concatMapEager(block -> fetchBlockWithLogs(block.getBlock()).toFlowable(),
+                neow3j.getApplicationLogPrefetch(), 1);
+    }
+
+    private Single<BlockWithLogs> fetchBlockWithLogs(NeoBlock block) {
+        return fetchApplicationLogs(block).map(applicationLogs -> new BlockWithLogs(block, applicationLogs));
+    }
+
+    /**
+     * Creates a flowable that emits new blocks in their binary form as they are produced by the Neo blockchain,
+     * starting with the block after the current latest block.
+     * <p>
+     * The blocks are fetched with {@code getblock} in the non-verbose form and decoded with {@link Block}, which is
+     * considerably cheaper than the verbose JSON form. Blocks are only fetched as the downstream requests them.
+     *
+     * @return the block flowable.
+     */
+    public Flowable<Block> rawBlockFlowable() {
+        return applyBackpressureStrategy(Flowable.defer(() -> {
+            BigInteger nextBlockIdx = neow3j.getChainHeadTracker().getBlockCount(0);
+            return blocksFromSync(nextBlockIdx, this::fetchRawBlockSingle);
+        }).subscribeOn(scheduler));
+    }
+
+    /**
+     * Creates a flowable that emits blocks in their binary form starting at {@code startBlock} up to
+     * {@code endBlock} and then completes.
+     *
+     * @param startBlock The block index at which to start.
+     * @param endBlock   The block index at which to stop.
+     * @param ascending  If the blocks should be emitted in ascending or descending order.
+     * @return the block flowable.
+     * @see #rawBlockFlowable()
+     */
+    public Flowable<Block> replayRawBlocksFlowable(BigInteger startBlock, BigInteger endBlock, boolean ascending) {
+        return applyBackpressureStrategy(
+                replayBlocksFlowableSync(startBlock, endBlock, ascending, this::fetchRawBlockSingle)
+                        .subscribeOn(scheduler));
+    }
+
+    /**
+     * Creates a flowable that emits blocks in their binary form starting at {@code startBlock} up to the most recent
+     * block and then completes.
+     *
+     * @param startBlock The block index at which to start catching up.
+     * @return the block flowable.
+     * @see #rawBlockFlowable()
+     */
+    public Flowable<Block> catchUpToLatestRawBlockFlowable(BigInteger startBlock) {
+        return applyBackpressureStrategy(
+                catchUpToLatestBlockFlowableSync(startBlock, this::fetchRawBlockSingle)
+                        .subscribeOn(scheduler));
+    }
+
+    /**
+     * Creates a flowable that emits blocks in their binary form starting at {@code startBlock} up to the most recent
+     * block and continues emitting blocks that are newly created on the Neo blockchain.
+     *
+     * @param startBlock The block index at which to start catching up.
+     * @return the block flowable.
+     * @see #rawBlockFlowable()
+     */
+    public Flowable<Block> catchUpToLatestAndSubscribeToNewRawBlocksFlowable(BigInteger startBlock) {
+        return applyBackpressureStrategy(
+                Flowable.defer(() -> blocksFromSync(startBlock, this::fetchRawBlockSingle))
+                        .subscribeOn(scheduler));
+    }
+
+    /**
+     * Creates a flowable that emits block headers in their binary form starting at {@code startBlock} up to
+     * {@code endBlock} and then completes.
+     * <p>
+     * The headers are fetched with {@code getblockheader} in the non-verbose form, which is considerably cheaper than
+     * fetching the blocks.
+     *
+     * @param startBlock The block index at which to start.
+     * @param endBlock   The block index at which to stop.
+     * @param ascending  If the headers should be emitted in ascending or descending order.
+     * @return the header flowable.
+     */
+    public Flowable<Header> replayRawHeadersFlowable(BigInteger startBlock, BigInteger endBlock, boolean ascending) {
+        return applyBackpressureStrategy(
+                replayBlocksFlowableSync(startBlock, endBlock, ascending, this::fetchRawHeaderSingle)
+                        .subscribeOn(scheduler));
+    }
+
+    /**
+     * Creates a flowable that emits block headers in their binary form starting at {@code startBlock} up to the most
+     * recent block and then completes.
+     *
+     * @param startBlock The block index at which to start catching up.
+     * @return the header flowable.
+     * @see #replayRawHeadersFlowable(BigInteger, BigInteger, boolean)
+     */
+    public Flowable<Header> catchUpToLatestRawHeaderFlowable(BigInteger startBlock) {
+        return applyBackpressureStrategy(
+                catchUpToLatestBlockFlowableSync(startBlock, this::fetchRawHeaderSingle)
+                        .subscribeOn(scheduler));
+    }
+
+    /**
+     * Creates a flowable that emits block headers in their binary form starting at {@code startBlock} up to the most
+     * recent block and continues emitting the headers of blocks that are newly created on the Neo blockchain.
+     *
+     * @param startBlock The block index at which to start catching up.
+     * @return the header flowable.
+     * @see #replayRawHeadersFlowable(BigInteger, BigInteger, boolean)
+     */
+    public Flowable<Header> catchUpToLatestAndSubscribeToNewRawHeadersFlowable(BigInteger startBlock) {
+        return applyBackpressureStrategy(
+                Flowable.defer(() -> blocksFromSync(startBlock, this::fetchRawHeaderSingle))
+                        .subscribeOn(scheduler));
+    }
+
+    private <T> Flowable<T> blocksFromSync(BigInteger startBlockIdx, BlockFetcher<T> fetcher) {
+        RequestLimiter limiter = RequestLimiter.fixed(neow3j.getBlockReplayParallelism());
+        return indexesFrom(startBlockIdx).concatMapEager(
+                i -> awaitBlock(i).flatMap(idx -> fetcher.fetch(idx, limiter)).toFlowable(),
+                neow3j.getBlockReplayWindow(), 1);
+    }
+
+    private BlockFetcher<NeoGetBlock> verboseBlocks(boolean fullTransactionObjects) {
+        return (blockIdx, limiter) -> fetchBlockSingle(blockIdx, fullTransactionObjects, limiter);
+    }
+
+    private Single<Block> fetchRawBlockSingle(BigInteger blockIndex, RequestLimiter limiter) {
+        return limited(limiter, () -> neow3j.getRawBlock(blockIndex).sendAsync())
+                .map(response -> Block.fromBase64(response.getRawBlock()));
+    }
+
+    private static Flowable<BigInteger> indexesFrom(BigInteger startBlockIdx) {
+        long start = startBlockIdx.longValueExact();
+        return Flowable.rangeLong(start, Long.MAX_VALUE - start).map(BigInteger::valueOf);
+    }
+
+    // Completes with the given block index as soon as the block exists.
+    private Single<BigInteger> awaitBlock(BigInteger blockIdx) {
+        return fromFuture(() -> neow3j.getChainHeadTracker().awaitBlockCount(blockIdx.add(BigInteger.ONE)))
+                .map(blockCount -> blockIdx);
+    }
+
+    private <T> Flowable<T> applyBackpressureStrategy(Flowable<T> flowable) {
+        BackpressureOverflowStrategy strategy = neow3j.getBackpressureOverflowStrategy();
+        if (strategy == null) {
+            return flowable;
+        }
+        return flowable.onBackpressureBuffer(neow3j.getBackpressureBufferSize(), null, strategy);
+    }
+
     private BigInteger getLatestBlockIdx() throws IOException {
-        return neow3j.getBlockCount().send().getBlockCount().subtract(BigInteger.ONE);
+        return neow3j.getChainHeadTracker().getLatestBlockIndex();
+    }
+
+    // Fetches the block with the given index in some form.
+    @FunctionalInterface
+    private interface BlockFetcher<T> {
+        Single<T> fetch(BigInteger blockIdx, RequestLimiter limiter);
     }
 
 }
@@ -0,0 +1,39 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.types.Hash256;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The transactions that were added to or removed from the mempool of a Neo node between two polls, as emitted by
+ * {@link Neow3jRx#memPoolChangeObservable()}.
+ * <p>
+ * A transaction is removed from the mempool if it was included in a block, expired or was evicted by transactions
+ * with a higher fee.
+ */
+public class MemPoolChange {
+
+    private final List<Hash256> added;
+    private final List<Hash256> removed;
+
+    public MemPoolChange(List<Hash256> added, List<Hash256> removed) {
+        this.added = added;
+        this.removed = removed;
+    }
+
+    /**
+     * @return the hashes of the transactions that were added to the mempool.
+     */
+    public List<Hash256> getAdded() {
+        return Collections.unmodifiableList(added);
+    }
+
+    /**
+     * @return the hashes of the transactions that were removed from the mempool.
+     */
+    public List<Hash256> getRemoved() {
+        return Collections.unmodifiableList(removed);
+    }
+
+}
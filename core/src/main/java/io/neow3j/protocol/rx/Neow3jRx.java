@@ -2,7 +2,11 @@ package io.neow3j.protocol.rx;
 
 import io.neow3j.protocol.core.response.NeoBlock;
 import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.core.response.Notification;
 import io.neow3j.protocol.core.response.Transaction;
+import io.neow3j.transaction.Block;
+import io.neow3j.transaction.Header;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 
 import java.io.IOException;
@@ -45,6 +49,25 @@ public interface Neow3jRx {
     Observable<NeoGetBlock> replayBlocksObservable(BigInteger startBlock, BigInteger endBlock,
             boolean fullTransactionObjects, boolean ascending);
 
+    /**
+     * Create an Observable that emits all blocks from the blockchain contained within the requested range.
+     * <p>
+     * Up to {@code parallelism} blocks are fetched concurrently and up to {@code window} blocks are fetched ahead of
+     * the block that is emitted next. The blocks are emitted strictly in order nevertheless.
+     *
+     * @param startBlock             the block number to commence with.
+     * @param endBlock               the block number to finish with.
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise transaction hashes.
+     * @param ascending              if true, emits blocks in ascending order between range, otherwise, in descending
+     *                               order.
+     * @param parallelism            the maximum number of blocks fetched concurrently.
+     * @param window                 the maximum number of blocks fetched ahead. Must not be smaller than
+     *                               {@code parallelism}.
+     * @return an Observable to emit these blocks.
+     */
+    Observable<NeoGetBlock> replayBlocksObservable(BigInteger startBlock, BigInteger endBlock,
+            boolean fullTransactionObjects, boolean ascending, int parallelism, int window);
+
     /**
      * Create an Observable that emits all transactions from the blockchain starting with a provided block number.
      * Once it has replayed up to the most current block, the provided Observable is invoked.
@@ -97,4 +120,209 @@ public interface Neow3jRx {
      */
     Observable<NeoGetBlock> subscribeToNewBlocksObservable(boolean fullTransactionObjects) throws IOException;
 
+    /**
+     * Creates a Flowable that emits the indexes of new blocks as they are created on the blockchain.
+     * <p>
+     * Unlike the Observables of this interface, the Flowables only poll the Neo node and fetch blocks as far as the
+     * downstream requested them.
+     *
+     * @return a Flowable that emits the indexes of all new blocks.
+     */
+    Flowable<BigInteger> blockIndexFlowable();
+
+    /**
+     * Creates a Flowable that emits new blocks as they are created on the blockchain (starting after the latest
+     * block).
+     *
+     * @param fullTransactionObjects if full {@link Transaction} objects should be provided in the {@link NeoBlock}
+     *                               responses.
+     * @return a Flowable that emits all new blocks.
+     */
+    Flowable<NeoGetBlock> blockFlowable(boolean fullTransactionObjects);
+
+    /**
+     * Creates a Flowable that emits all blocks from the blockchain contained within the requested range.
+     *
+     * @param startBlock             the block number to commence with.
+     * @param endBlock               the block number to finish with.
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise transaction hashes.
+     * @param ascending              if true, emits blocks in ascending order between range, otherwise, in descending
+     *                               order.
+     * @return a Flowable to emit these blocks.
+     */
+    Flowable<NeoGetBlock> replayBlocksFlowable(BigInteger startBlock, BigInteger endBlock,
+            boolean fullTransactionObjects, boolean ascending);
+
+    /**
+     * Creates a Flowable that emits all blocks from the requested block number to the most current. Once it has
+     * emitted the most current block, onComplete is called.
+     *
+     * @param startBlock             the block number we wish to request from.
+     * @param fullTransactionObjects if full {@link Transaction} objects should be provided in the {@link NeoBlock}
+     *                               responses.
+     * @return a Flowable to emit all requested blocks.
+     */
+    Flowable<NeoGetBlock> catchUpToLatestBlockFlowable(BigInteger startBlock, boolean fullTransactionObjects);
+
+    /**
+     * Creates a Flowable that emits all blocks from the requested block number to the most current. Once it has
+     * emitted the most current block, it starts emitting new blocks as they are created.
+     *
+     * @param startBlock             the block number of the first block that should be emitted.
+     * @param fullTransactionObjects if full {@link Transaction} objects should be provided in the {@link NeoBlock}
+     *                               responses.
+     * @return a Flowable to emit all requested blocks and future.
+     */
+    Flowable<NeoGetBlock> catchUpToLatestAndSubscribeToNewBlocksFlowable(BigInteger startBlock,
+            boolean fullTransactionObjects);
+
+    /**
+     * Creates a Flowable that emits the transactions of all blocks from the requested block number to the most
+     * current. Once it has emitted the transactions of the most current block, onComplete is called.
+     *
+     * @param startBlock the block number we wish to request from.
+     * @return a Flowable to emit all transactions of the requested blocks.
+     */
+    Flowable<Transaction> catchUpToLatestTransactionFlowable(BigInteger startBlock);
+
+    /**
+     * Creates a Flowable that emits the transactions of new blocks as they are created on the blockchain.
+     *
+     * @return a Flowable to emit all new transactions.
+     */
+    Flowable<Transaction> transactionFlowable();
+
+    /**
+     * Creates a Flowable that emits new blocks in their binary form as they are created on the blockchain (starting
+     * after the latest block).
+     *
+     * @return a Flowable that emits all new blocks.
+     */
+    Flowable<Block> rawBlockFlowable();
+
+    /**
+     * Creates a Flowable that emits all blocks in their binary form from the blockchain contained within the
+     * requested range.
+     *
+     * @param startBlock the block number to commence with.
+     * @param endBlock   the block number to finish with.
+     * @param ascending  if true, emits blocks in ascending order between range, otherwise, in descending order.
+     * @return a Flowable to emit these blocks.
+     */
+    Flowable<Block> replayRawBlocksFlowable(BigInteger startBlock, BigInteger endBlock, boolean ascending);
+
+    /**
+     * Creates a Flowable that emits all blocks in their binary form from the requested block number to the most
+     * current. Once it has emitted the most current block, onComplete is called.
+     *
+     * @param startBlock the block number we wish to request from.
+     * @return a Flowable to emit all requested blocks.
+     */
+    Flowable<Block> catchUpToLatestRawBlockFlowable(BigInteger startBlock);
+
+    /**
+     * Creates a Flowable that emits all blocks in their binary form from the requested block number to the most
+     * current. Once it has emitted the most current block, it starts emitting new blocks as they are created.
+     *
+     * @param startBlock the block number of the first block that should be emitted.
+     * @return a Flowable to emit all requested blocks and future.
+     */
+    Flowable<Block> catchUpToLatestAndSubscribeToNewRawBlocksFlowable(BigInteger startBlock);
+
+    /**
+     * Creates a Flowable that emits the headers in their binary form of all blocks contained within the requested
+     * range.
+     *
+     * @param startBlock the block number to commence with.
+     * @param endBlock   the block number to finish with.
+     * @param ascending  if true, emits headers in ascending order between range, otherwise, in descending order.
+     * @return a Flowable to emit these headers.
+     */
+    Flowable<Header> replayRawHeadersFlowable(BigInteger startBlock, BigInteger endBlock, boolean ascending);
+
+    /**
+     * Creates a Flowable that emits the headers in their binary form of all blocks from the requested block number
+     * to the most current. Once it has emitted the most current header, onComplete is called.
+     *
+     * @param startBlock the block number we wish to request from.
+     * @return a Flowable to emit all requested headers.
+     */
+    Flowable<Header> catchUpToLatestRawHeaderFlowable(BigInteger startBlock);
+
+    /**
+     * Creates a Flowable that emits the headers in their binary form of all blocks from the requested block number
+     * to the most current. Once it has emitted the most current header, it starts emitting the headers of new blocks
+     * as they are created.
+     *
+     * @param startBlock the block number of the first header that should be emitted.
+     * @return a Flowable to emit all requested headers and future.
+     */
+    Flowable<Header> catchUpToLatestAndSubscribeToNewRawHeadersFlowable(BigInteger startBlock);
+
+    /**
+     * Creates an Observable that emits the contract notifications of the transactions in new blocks that match the
+     * given filter, e.g., the {@code Transfer} events of a set of NEP-17 contracts.
+     *
+     * @param filter the filter the notifications have to match.
+     * @return an Observable that emits the matching notifications in the order of the blocks and transactions.
+     */
+    Observable<Notification> notificationObservable(NotificationFilter filter);
+
+    /**
+     * Creates an Observable that emits the contract notifications of the transactions in all blocks from the
+     * requested block number that match the given filter. Once it has caught up to the most current block, it
+     * continues with the notifications of new blocks.
+     *
+     * @param startBlock the block number of the first block whose notifications should be emitted.
+     * @param filter     the filter the notifications have to match.
+     * @return an Observable that emits the matching notifications in the order of the blocks and transactions.
+     */
+    Observable<Notification> catchUpToLatestAndSubscribeToNewNotificationsObservable(BigInteger startBlock,
+            NotificationFilter filter);
+
+    /**
+     * Creates a Flowable that emits new blocks together with the application logs of their transactions as they are
+     * created on the blockchain. The logs of the next blocks are prefetched while the current block is processed.
+     *
+     * @return a Flowable that emits all new blocks with their application logs.
+     */
+    Flowable<BlockWithLogs> blockWithLogsFlowable();
+
+    /**
+     * Creates a Flowable that emits all blocks contained within the requested range together with the application
+     * logs of their transactions.
+     *
+     * @param startBlock the block number to commence with.
+     * @param endBlock   the block number to finish with.
+     * @param ascending  if true, emits blocks in ascending order between range, otherwise, in descending order.
+     * @return a Flowable to emit these blocks with their application logs.
+     */
+    Flowable<BlockWithLogs> replayBlocksWithLogsFlowable(BigInteger startBlock, BigInteger endBlock,
+            boolean ascending);
+
+    /**
+     * Creates a Flowable that emits all blocks from the requested block number to the most current together with the
+     * application logs of their transactions. Once it has emitted the most current block, it starts emitting new
+     * blocks as they are created.
+     *
+     * @param startBlock the block number of the first block that should be emitted.
+     * @return a Flowable to emit all requested blocks and future with their application logs.
+     */
+    Flowable<BlockWithLogs> catchUpToLatestAndSubscribeToNewBlocksWithLogsFlowable(BigInteger startBlock);
+
+    /**
+     * Creates an Observable that emits the transactions that were added to or removed from the mempool since the
+     * previous poll. The first change contains all transactions that are in the mempool at subscription.
+     *
+     * @return an Observable that emits the changes of the mempool.
+     */
+    Observable<MemPoolChange> memPoolChangeObservable();
+
+    /**
+     * Creates an Observable that emits the transactions that are added to the mempool.
+     *
+     * @return an Observable that emits the new transactions in the mempool.
+     */
+    Observable<Transaction> memPoolTransactionObservable();
+
 }
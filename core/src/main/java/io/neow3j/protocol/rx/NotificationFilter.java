@@ -0,0 +1,124 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.core.response.NeoApplicationLog;
+import io.neow3j.protocol.core.response.NeoApplicationLog.Execution;
+import io.neow3j.protocol.core.response.Notification;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.NeoVMStateType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Selects the contract notifications emitted by {@link Neow3jRx#notificationObservable(NotificationFilter)}.
+ * <p>
+ * A notification matches if it was emitted by one of the contracts, has one of the event names and stems from an
+ * execution with the VM state of this filter. A criterion that is not set matches every notification. Note, that the
+ * notifications of an execution that ended in {@link NeoVMStateType#FAULT} did not take effect.
+ */
+public class NotificationFilter {
+
+    private Set<Hash160> contracts = null;
+    private Set<String> eventNames = null;
+    private NeoVMStateType vmState = null;
+
+    /**
+     * Creates a filter that matches all notifications.
+     */
+    public NotificationFilter() {
+    }
+
+    /**
+     * Sets the contracts whose notifications match.
+     *
+     * @param contracts the contract hashes.
+     * @return this.
+     */
+    public NotificationFilter setContracts(Hash160... contracts) {
+        this.contracts = new HashSet<>(Arrays.asList(contracts));
+        return this;
+    }
+
+    /**
+     * Sets the event names of the matching notifications.
+     *
+     * @param eventNames the event names, e.g., "Transfer".
+     * @return this.
+     */
+    public NotificationFilter setEventNames(String... eventNames) {
+        this.eventNames = new HashSet<>(Arrays.asList(eventNames));
+        return this;
+    }
+
+    /**
+     * Sets the VM state of the executions whose notifications match.
+     *
+     * @param vmState the VM state, e.g., {@link NeoVMStateType#HALT}.
+     * @return this.
+     */
+    public NotificationFilter setVmState(NeoVMStateType vmState) {
+        this.vmState = vmState;
+        return this;
+    }
+
+    /**
+     * @return the contracts whose notifications match, or null if the notifications of all contracts match.
+     */
+    public Set<Hash160> getContracts() {
+        return contracts;
+    }
+
+    /**
+     * @return the event names of the matching notifications, or null if all event names match.
+     */
+    public Set<String> getEventNames() {
+        return eventNames;
+    }
+
+    /**
+     * @return the VM state of the executions whose notifications match, or null if all VM states match.
+     */
+    public NeoVMStateType getVmState() {
+        return vmState;
+    }
+
+    /**
+     * Checks whether a notification of an execution with the given VM state matches this filter.
+     *
+     * @param notification the notification.
+     * @param vmState      the VM state of the execution that emitted the notification.
+     * @return true if the notification matches. False, otherwise.
+     */
+    public boolean matches(Notification notification, NeoVMStateType vmState) {
+        return (this.vmState == null || this.vmState == vmState) &&
+                (contracts == null || contracts.contains(notification.getContract())) &&
+                (eventNames == null || eventNames.contains(notification.getEventName()));
+    }
+
+    /**
+     * Selects the matching notifications of the given application logs.
+     *
+     * @param applicationLogs the application logs.
+     * @return the matching notifications in the order of the application logs and their executions.
+     */
+    public List<Notification> select(List<NeoApplicationLog> applicationLogs) {
+        List<Notification> selected = new ArrayList<>();
+        for (NeoApplicationLog applicationLog : applicationLogs) {
+            for (Execution execution : applicationLog.getExecutions()) {
+                if (vmState != null && vmState != execution.getState()) {
+                    continue;
+                }
+                for (Notification notification : execution.getNotifications()) {
+                    if (matches(notification, execution.getState())) {
+                        selected.add(notification);
+                    }
+                }
+            }
+        }
+        return selected;
+    }
+
+}
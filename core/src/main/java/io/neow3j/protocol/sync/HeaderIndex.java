@@ -0,0 +1,161 @@
+package io.neow3j.protocol.sync;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.transaction.Header;
+import io.neow3j.types.Hash256;
+
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
+/**
+ * A compact in-memory index of a contiguous range of block headers.
+ * <p>
+ * Only the hash and the timestamp of each header are kept, in primitive arrays. Headers are appended in order and
+ * each appended header is verified to be linked to the previous one, i.e., its index must be the next index and its
+ * previous block hash must be the hash of the last indexed header. The first header of an index that does not start
+ * at the genesis block is trusted as the anchor of the chain.
+ */
+public class HeaderIndex {
+
+    private static final int HASH_SIZE = NeoConstants.HASH256_SIZE;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final long startIndex;
+
+    private byte[] hashes;
+    private long[] timestamps;
+    private int size = 0;
+
+    /**
+     * Creates an empty index starting at the genesis block.
+     */
+    public HeaderIndex() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty index starting at the given block.
+     *
+     * @param startIndex the index of the first block.
+     */
+    public HeaderIndex(long startIndex) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException("The start index must not be negative.");
+        }
+        this.startIndex = startIndex;
+        this.hashes = new byte[INITIAL_CAPACITY * HASH_SIZE];
+        this.timestamps = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Appends a header to this index.
+     *
+     * @param header the header of the block following the last indexed block.
+     * @throws IllegalStateException if the header does not follow the last indexed header.
+     */
+    public synchronized void append(Header header) {
+        long expectedIndex = startIndex + size;
+        if (header.getIndex() != expectedIndex) {
+            throw new IllegalStateException(format("Expected the header of block %s but received the header of " +
+                    "block %s.", expectedIndex, header.getIndex()));
+        }
+        if (size > 0 && !Arrays.equals(header.getPrevHash().toArray(), hashAt(size - 1))) {
+            throw new IllegalStateException(format("The header of block %s is not linked to the previous header. " +
+                    "Its previous block hash is %s but the previous header has the hash %s.", header.getIndex(),
+                    header.getPrevHash(), new Hash256(hashAt(size - 1))));
+        }
+        if (size == timestamps.length) {
+            timestamps = Arrays.copyOf(timestamps, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2 * HASH_SIZE);
+        }
+        System.arraycopy(header.getHash().toArray(), 0, hashes, size * HASH_SIZE, HASH_SIZE);
+        timestamps[size] = header.getTimestamp();
+        size++;
+    }
+
+    /**
+     * @return the index of the first block in this index.
+     */
+    public long getStartIndex() {
+        return startIndex;
+    }
+
+    /**
+     * @return the index of the block whose header is appended next.
+     */
+    public synchronized long getNextIndex() {
+        return startIndex + size;
+    }
+
+    /**
+     * @return the number of indexed headers.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @param blockIndex the block index.
+     * @return true if the header of the block is indexed. False, otherwise.
+     */
+    public synchronized boolean contains(long blockIndex) {
+        return blockIndex >= startIndex && blockIndex < startIndex + size;
+    }
+
+    /**
+     * Gets the hash of an indexed block.
+     *
+     * @param blockIndex the block index.
+     * @return the block hash.
+     * @throws IndexOutOfBoundsException if the header of the block is not indexed.
+     */
+    public synchronized Hash256 getHash(long blockIndex) {
+        return new Hash256(hashAt(position(blockIndex)));
+    }
+
+    /**
+     * Gets the timestamp of an indexed block.
+     *
+     * @param blockIndex the block index.
+     * @return the timestamp in milliseconds since the epoch.
+     * @throws IndexOutOfBoundsException if the header of the block is not indexed.
+     */
+    public synchronized long getTimestamp(long blockIndex) {
+        return timestamps[position(blockIndex)];
+    }
+
+    /**
+     * Finds the latest indexed block that was created at or before the given time.
+     * <p>
+     * The timestamps of consecutive blocks are strictly increasing. Thus, the block is found with a binary search.
+     *
+     * @param timestamp the time in milliseconds since the epoch.
+     * @return the block index or -1 if no indexed block was created at or before the given time.
+     */
+    public synchronized long findBlockAt(long timestamp) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[mid] <= timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high < 0 ? -1 : startIndex + high;
+    }
+
+    private int position(long blockIndex) {
+        if (blockIndex < startIndex || blockIndex >= startIndex + size) {
+            throw new IndexOutOfBoundsException(format("The header of block %s is not indexed.", blockIndex));
+        }
+        return (int) (blockIndex - startIndex);
+    }
+
+    private byte[] hashAt(int position) {
+        return Arrays.copyOfRange(hashes, position * HASH_SIZE, (position + 1) * HASH_SIZE);
+    }
+
+}
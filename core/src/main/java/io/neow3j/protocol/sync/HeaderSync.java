@@ -0,0 +1,107 @@
+package io.neow3j.protocol.sync;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.transaction.Header;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Synchronizes the block headers of the Neo node a {@link Neow3j} instance is connected to into a
+ * {@link HeaderIndex}.
+ * <p>
+ * Only the headers are fetched, in their binary form (see
+ * {@link Neow3j#catchUpToLatestRawHeaderFlowable(BigInteger)}), which is considerably cheaper than fetching the
+ * blocks. The headers are fetched in parallel as configured with {@link Neow3j#getBlockReplayParallelism()} and
+ * appended to the index in order, which verifies that they form a chain. Full blocks can be fetched on demand
+ * afterwards by their verified hash.
+ */
+public class HeaderSync {
+
+    private final Neow3j neow3j;
+    private final HeaderIndex headerIndex;
+
+    /**
+     * Creates a header synchronization into the given index.
+     *
+     * @param neow3j      the {@code Neow3j} instance used to fetch the headers.
+     * @param headerIndex the index to synchronize.
+     */
+    public HeaderSync(Neow3j neow3j, HeaderIndex headerIndex) {
+        this.neow3j = neow3j;
+        this.headerIndex = headerIndex;
+    }
+
+    /**
+     * @return the synchronized index.
+     */
+    public HeaderIndex getHeaderIndex() {
+        return headerIndex;
+    }
+
+    /**
+     * Creates a {@code Completable} that appends the headers from the next index up to the most recent block to the
+     * index when subscribed to and then completes.
+     * <p>
+     * It fails with an {@link IllegalStateException} if a header is not linked to the previous one.
+     *
+     * @return the synchronization.
+     */
+    public Completable catchUp() {
+        return Flowable.defer(() -> neow3j.catchUpToLatestRawHeaderFlowable(nextIndex()))
+                .doOnNext(headerIndex::append)
+                .ignoreElements();
+    }
+
+    /**
+     * Creates a {@code Flowable} that appends the headers from the next index up to the most recent block to the
+     * index and continues with the headers of new blocks as they are produced. Each header is emitted after it was
+     * appended to the index.
+     * <p>
+     * It fails with an {@link IllegalStateException} if a header is not linked to the previous one.
+     *
+     * @return the appended headers.
+     */
+    public Flowable<Header> follow() {
+        return Flowable.defer(() -> neow3j.catchUpToLatestAndSubscribeToNewRawHeadersFlowable(nextIndex()))
+                .doOnNext(headerIndex::append);
+    }
+
+    /**
+     * Fetches an indexed block by its hash.
+     *
+     * @param blockIndex             the block index.
+     * @param fullTransactionObjects true, to fetch the block with its transactions.
+     * @return the block.
+     * @throws IOException               if there was a problem fetching the block.
+     * @throws IndexOutOfBoundsException if the header of the block is not indexed.
+     */
+    public NeoGetBlock getBlock(long blockIndex, boolean fullTransactionObjects) throws IOException {
+        return neow3j.getBlock(headerIndex.getHash(blockIndex), fullTransactionObjects).send();
+    }
+
+    /**
+     * Fetches the latest indexed block that was created at or before the given time.
+     *
+     * @param timestamp              the time in milliseconds since the epoch.
+     * @param fullTransactionObjects true, to fetch the block with its transactions.
+     * @return the block or null if no indexed block was created at or before the given time.
+     * @throws IOException if there was a problem fetching the block.
+     * @see HeaderIndex#findBlockAt(long)
+     */
+    public NeoGetBlock getBlockAt(long timestamp, boolean fullTransactionObjects) throws IOException {
+        long blockIndex = headerIndex.findBlockAt(timestamp);
+        if (blockIndex < 0) {
+            return null;
+        }
+        return getBlock(blockIndex, fullTransactionObjects);
+    }
+
+    private BigInteger nextIndex() {
+        return BigInteger.valueOf(headerIndex.getNextIndex());
+    }
+
+}
@@ -0,0 +1,30 @@
+package io.neow3j.protocol.websocket;
+
+import java.io.IOException;
+
+/**
+ * Listener for the events of a {@link WebSocketClient}.
+ */
+public interface WebSocketListener {
+
+    /**
+     * Called when a new text message is received.
+     *
+     * @param message the message.
+     * @throws IOException if the message could not be processed.
+     */
+    void onMessage(String message) throws IOException;
+
+    /**
+     * Called when an error occurred on the connection.
+     *
+     * @param e the error.
+     */
+    void onError(Exception e);
+
+    /**
+     * Called when the connection was closed.
+     */
+    void onClose();
+
+}
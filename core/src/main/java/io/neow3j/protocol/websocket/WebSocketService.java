@@ -0,0 +1,501 @@
+package io.neow3j.protocol.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.exceptions.WebSocketClosedException;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.Observable;
+import io.reactivex.subjects.PublishSubject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+import static java.util.Collections.singletonList;
+
+/**
+ * WebSocket implementation of the Service API.
+ * <p>
+ * Keeps one persistent connection to the Neo node over which all requests are sent. Any number of requests can be in
+ * flight at the same time. Their responses are matched back to them by their JSON-RPC id. Notifications pushed by the
+ * node are matched to their subscription by the subscription id.
+ * <p>
+ * {@link #connect()} has to be called before the service can be used.
+ */
+public class WebSocketService implements Neow3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketService.class);
+
+    /**
+     * The default time in milliseconds after which a request that was not answered fails.
+     */
+    public static final long DEFAULT_REQUEST_TIMEOUT = 60_000;
+
+    private final WebSocketClient webSocketClient;
+    private final ScheduledExecutorService executor;
+    private final boolean ownsExecutor;
+    private final ObjectMapper objectMapper;
+    private final boolean includeRawResponses;
+    private long requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+
+    // Requests that were sent but not answered yet, by their JSON-RPC id. All requests of a batch map to the same
+    // pending entry.
+    private final Map<Long, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    // Active subscriptions by the subscription id assigned by the Neo node.
+    private final Map<String, Subscription<?>> subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a WebSocket service that connects to the given URL.
+     *
+     * @param url                 the URL to the WebSocket service (JSON-RPC), e.g., "ws://localhost:10334/ws".
+     * @param includeRawResponses whether to include raw responses on the {@link Response} object.
+     */
+    public WebSocketService(String url, boolean includeRawResponses) {
+        this(new WebSocketClient(URI.create(url)), includeRawResponses);
+    }
+
+    /**
+     * Creates a WebSocket service that uses the given client.
+     *
+     * @param webSocketClient     the WebSocket client.
+     * @param includeRawResponses whether to include raw responses on the {@link Response} object.
+     */
+    public WebSocketService(WebSocketClient webSocketClient, boolean includeRawResponses) {
+        this(webSocketClient, Executors.newSingleThreadScheduledExecutor(), true, includeRawResponses);
+    }
+
+    /**
+     * Creates a WebSocket service that uses the given client.
+     *
+     * @param webSocketClient     the WebSocket client.
+     * @param executor            the executor used to time out requests that were not answered. It is not shut
+     *                            down when this service is closed.
+     * @param includeRawResponses whether to include raw responses on the {@link Response} object.
+     */
+    public WebSocketService(WebSocketClient webSocketClient, ScheduledExecutorService executor,
+            boolean includeRawResponses) {
+        this(webSocketClient, executor, false, includeRawResponses);
+    }
+
+    private WebSocketService(WebSocketClient webSocketClient, ScheduledExecutorService executor, boolean ownsExecutor,
+            boolean includeRawResponses) {
+        this.webSocketClient = webSocketClient;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.includeRawResponses = includeRawResponses;
+        this.objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+    }
+
+    /**
+     * Opens the connection to the Neo node and blocks until it is established.
+     *
+     * @throws ConnectException if the connection could not be established.
+     */
+    public void connect() throws ConnectException {
+        webSocketClient.setListener(new WebSocketListener() {
+            @Override
+            public void onMessage(String message) throws IOException {
+                WebSocketService.this.onMessage(message);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                log.error("Received error from the WebSocket connection", e);
+            }
+
+            @Override
+            public void onClose() {
+                closeAll(new WebSocketClosedException("The WebSocket connection was closed."));
+            }
+        });
+        try {
+            if (!webSocketClient.connectBlocking()) {
+                throw new ConnectException("Failed to connect to the WebSocket service.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while connecting to the WebSocket service.");
+        }
+    }
+
+    /**
+     * Sets the time after which a request that was not answered fails.
+     * <p>
+     * Defaults to {@link #DEFAULT_REQUEST_TIMEOUT}.
+     *
+     * @param requestTimeout the timeout in milliseconds.
+     */
+    public void setRequestTimeout(long requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Performs a synchronous JSON-RPC request over the WebSocket connection.
+     *
+     * @param request      the request to perform.
+     * @param responseType the class of a data item returned by the request.
+     * @param <T>          the type of a data item returned by the request.
+     * @return the deserialized JSON-RPC response.
+     * @throws IOException if the request could not be performed.
+     */
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return await(sendAsync(request, responseType));
+    }
+
+    /**
+     * Performs an asynchronous JSON-RPC request over the WebSocket connection.
+     *
+     * @param request      the request to perform.
+     * @param responseType the class of a data item returned by the request.
+     * @param <T>          the type of a data item returned by the request.
+     * @return a CompletableFuture that will be completed when a result is returned or the request has failed.
+     */
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long id = request.getId();
+        PendingRequest pending = new PendingRequest(singletonList(id)) {
+            @Override
+            void onReply(String message, JsonNode reply) throws IOException {
+                result.complete(readResponse(message, reply, responseType));
+            }
+
+            @Override
+            void onFailure(Throwable e) {
+                result.completeExceptionally(e);
+            }
+        };
+        sendPending(request, pending);
+        return result;
+    }
+
+    /**
+     * Performs a synchronous JSON-RPC batch request over the WebSocket connection.
+     *
+     * @param batchRequest the batch request to perform.
+     * @return the deserialized JSON-RPC responses.
+     * @throws IOException if the batch request could not be performed.
+     */
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return await(sendBatchAsync(batchRequest));
+    }
+
+    /**
+     * Performs an asynchronous JSON-RPC batch request over the WebSocket connection.
+     *
+     * @param batchRequest the batch request to perform.
+     * @return a CompletableFuture that will be completed when the responses are returned or the batch request has
+     * failed.
+     */
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<Request<?, ?>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(new BatchResponse(requests, new ArrayList<>()));
+        }
+        CompletableFuture<BatchResponse> result = new CompletableFuture<>();
+        List<Long> ids = new ArrayList<>(requests.size());
+        requests.forEach(r -> ids.add(r.getId()));
+        PendingRequest pending = new PendingRequest(ids) {
+            @Override
+            void onReply(String message, JsonNode reply) throws IOException {
+                result.complete(BatchResponse.fromJson(requests, reply, objectMapper));
+            }
+
+            @Override
+            void onFailure(Throwable e) {
+                result.completeExceptionally(e);
+            }
+        };
+        sendPending(requests, pending);
+        return result;
+    }
+
+    /**
+     * Subscribes to a stream of notifications pushed by the Neo node.
+     * <p>
+     * See {@link Neow3jService#subscribe(Request, String, Class)} for more details.
+     *
+     * @param request           the JSON-RPC request that will be send to subscribe to a stream of events.
+     * @param unsubscribeMethod the method that will be called to unsubscribe from a stream of notifications.
+     * @param responseType      the class of incoming events objects in a stream.
+     * @param <T>               the type of incoming event objects.
+     * @return an Observable that emits incoming events.
+     */
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(Request request, String unsubscribeMethod,
+            Class<T> responseType) {
+
+        PublishSubject<T> subject = PublishSubject.create();
+        Subscription<T> subscription = new Subscription<>(subject, responseType);
+        // The subscription is registered while the reply is handled, i.e., before the next message of the Neo node
+        // is read. Thus, no notification that the node sends after its reply is missed.
+        PendingRequest pending = new PendingRequest(singletonList(request.getId())) {
+            @Override
+            void onReply(String message, JsonNode reply) throws IOException {
+                SubscriptionResponse response = readResponse(message, reply, SubscriptionResponse.class);
+                if (response.hasError()) {
+                    subject.onError(new IOException(format("Subscription request failed with error: %s",
+                            response.getError())));
+                    return;
+                }
+                if (!register(subscription, response.getResult())) {
+                    // The observable was disposed before the reply arrived.
+                    sendUnsubscribe(response.getResult(), unsubscribeMethod);
+                }
+            }
+
+            @Override
+            void onFailure(Throwable e) {
+                subject.onError(e);
+            }
+        };
+        sendPending(request, pending);
+        return subject.doOnDispose(() -> unsubscribe(subscription, unsubscribeMethod));
+    }
+
+    /**
+     * Closes the WebSocket connection. All requests that were not answered yet and all subscriptions fail with a
+     * {@link WebSocketClosedException}.
+     */
+    @Override
+    public void close() {
+        try {
+            webSocketClient.closeBlocking();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closeAll(new WebSocketClosedException("The WebSocket service was closed."));
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    private void sendPending(Object payload, PendingRequest pending) {
+        try {
+            String message = objectMapper.writeValueAsString(payload);
+            pending.ids.forEach(id -> pendingRequests.put(id, pending));
+            pending.timeout = executor.schedule(
+                    () -> fail(pending, new IOException(format("Request with id %d timed out.", pending.ids.get(0)))),
+                    requestTimeout, TimeUnit.MILLISECONDS);
+            webSocketClient.send(message);
+        } catch (Exception e) {
+            fail(pending, e);
+        }
+    }
+
+    void onMessage(String message) throws IOException {
+        JsonNode node = objectMapper.readTree(message);
+        if (node.isArray()) {
+            onBatchReply(message, node);
+        } else if (node.has("id") && !node.get("id").isNull()) {
+            onReply(message, node, node.get("id"));
+        } else if (node.has("method") && node.has("params")) {
+            onNotification(node);
+        } else {
+            log.warn("Received message that is neither a reply nor a notification: {}", message);
+        }
+    }
+
+    // The replies of a batch can be in any order and error replies can lack an id. Thus, the batch is identified by
+    // any of its ids.
+    private void onBatchReply(String message, JsonNode reply) throws IOException {
+        for (JsonNode element : reply) {
+            JsonNode id = element.get("id");
+            if (id != null && id.canConvertToLong() && pendingRequests.containsKey(id.asLong())) {
+                onReply(message, reply, id);
+                return;
+            }
+        }
+        log.warn("Received batch reply to an unknown or already answered request: {}", message);
+    }
+
+    private void onReply(String message, JsonNode reply, JsonNode id) throws IOException {
+        if (id == null || !id.canConvertToLong()) {
+            log.warn("Received reply without a valid id: {}", message);
+            return;
+        }
+        PendingRequest pending = pendingRequests.get(id.asLong());
+        if (pending == null || !remove(pending)) {
+            log.warn("Received reply to an unknown or already answered request: {}", message);
+            return;
+        }
+        try {
+            pending.onReply(message, reply);
+        } catch (IOException | RuntimeException e) {
+            pending.onFailure(e);
+        }
+    }
+
+    private void onNotification(JsonNode node) throws IOException {
+        JsonNode subscriptionId = node.get("params").get("subscription");
+        if (subscriptionId == null) {
+            log.warn("Received notification without a subscription id: {}", node);
+            return;
+        }
+        Subscription<?> subscription = subscriptions.get(subscriptionId.asText());
+        if (subscription == null) {
+            log.warn("Received notification for an unknown subscription: {}", node);
+            return;
+        }
+        subscription.emit(node);
+    }
+
+    private <T extends Response> T readResponse(String message, JsonNode reply, Class<T> responseType)
+            throws IOException {
+        if (includeRawResponses) {
+            // The raw response deserializer resets the input stream in order to read the raw response.
+            return objectMapper.readValue(
+                    new ByteArrayInputStream(message.getBytes(StandardCharsets.UTF_8)), responseType);
+        }
+        return objectMapper.treeToValue(reply, responseType);
+    }
+
+    // Registers the subscription under the id assigned by the Neo node. Returns false if it was already disposed.
+    private boolean register(Subscription<?> subscription, String id) {
+        synchronized (subscription) {
+            if (subscription.disposed) {
+                return false;
+            }
+            subscription.id = id;
+            subscriptions.put(id, subscription);
+            return true;
+        }
+    }
+
+    private void unsubscribe(Subscription<?> subscription, String unsubscribeMethod) {
+        String id;
+        synchronized (subscription) {
+            subscription.disposed = true;
+            id = subscription.id;
+        }
+        if (id == null) {
+            // The subscription is either not confirmed yet, in which case the reply unsubscribes it, or it failed.
+            return;
+        }
+        subscriptions.remove(id);
+        sendUnsubscribe(id, unsubscribeMethod);
+    }
+
+    private void sendUnsubscribe(String id, String unsubscribeMethod) {
+        Request<String, SubscriptionResponse> request = new Request<>(unsubscribeMethod, singletonList(id), this,
+                SubscriptionResponse.class);
+        sendAsync(request, SubscriptionResponse.class).whenComplete((response, e) -> {
+            if (e != null || response.hasError()) {
+                log.warn("Failed to unsubscribe from subscription {}", id, e);
+            }
+        });
+    }
+
+    // Removes the pending request. Returns false if it was already removed, e.g., because it timed out.
+    private boolean remove(PendingRequest pending) {
+        if (!pending.done.compareAndSet(false, true)) {
+            return false;
+        }
+        pending.ids.forEach(id -> pendingRequests.remove(id, pending));
+        if (pending.timeout != null) {
+            pending.timeout.cancel(false);
+        }
+        return true;
+    }
+
+    private void fail(PendingRequest pending, Throwable e) {
+        if (remove(pending)) {
+            pending.onFailure(e);
+        }
+    }
+
+    // Subscriptions fail instead of completing, so that subscribers can tell a lost connection from the end of a
+    // stream.
+    private void closeAll(WebSocketClosedException e) {
+        new ArrayList<>(pendingRequests.values()).forEach(pending -> fail(pending, e));
+        List<Subscription<?>> closedSubscriptions = new ArrayList<>(subscriptions.values());
+        subscriptions.clear();
+        closedSubscriptions.forEach(s -> s.subject.onError(e));
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the response.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private abstract static class PendingRequest {
+
+        private final List<Long> ids;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private volatile ScheduledFuture<?> timeout;
+
+        PendingRequest(List<Long> ids) {
+            this.ids = Collections.unmodifiableList(ids);
+        }
+
+        abstract void onReply(String message, JsonNode reply) throws IOException;
+
+        abstract void onFailure(Throwable e);
+
+    }
+
+    private class Subscription<T extends Notification<?>> {
+
+        private final PublishSubject<T> subject;
+        private final Class<T> notificationType;
+        // Both are guarded by the subscription's lock.
+        private String id;
+        private boolean disposed;
+
+        Subscription(PublishSubject<T> subject, Class<T> notificationType) {
+            this.subject = subject;
+            this.notificationType = notificationType;
+        }
+
+        void emit(JsonNode node) throws IOException {
+            subject.onNext(objectMapper.treeToValue(node, notificationType));
+        }
+
+    }
+
+    /**
+     * The response to a subscribe or unsubscribe request.
+     */
+    public static class SubscriptionResponse extends Response<String> {
+    }
+
+}
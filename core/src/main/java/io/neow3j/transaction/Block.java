@@ -0,0 +1,106 @@
+package io.neow3j.transaction;
+
+import io.neow3j.crypto.Base64;
+import io.neow3j.serialization.BinaryReader;
+import io.neow3j.serialization.BinaryWriter;
+import io.neow3j.serialization.IOUtils;
+import io.neow3j.serialization.NeoSerializable;
+import io.neow3j.serialization.NeoSerializableInterface;
+import io.neow3j.serialization.exceptions.DeserializationException;
+import io.neow3j.types.Hash256;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * A block in its binary form, e.g., as returned by {@code getblock} with {@code verbose = 0}.
+ * <p>
+ * Decoding the binary form is considerably cheaper than parsing the verbose JSON representation
+ * ({@link io.neow3j.protocol.core.response.NeoBlock}). The transactions are decoded as {@link Transaction}s.
+ */
+public class Block extends NeoSerializable {
+
+    /**
+     * The maximum number of transactions a block can contain.
+     */
+    public static final int MAX_TRANSACTIONS_PER_BLOCK = 0xFFFF;
+
+    private Header header;
+    private List<Transaction> transactions;
+
+    public Block() {
+    }
+
+    /**
+     * Decodes a block from its base64-encoded binary form, e.g., as returned by
+     * {@link io.neow3j.protocol.core.response.NeoGetRawBlock#getRawBlock()}.
+     *
+     * @param base64 the base64-encoded block.
+     * @return the block.
+     * @throws DeserializationException if the data is not a valid block.
+     */
+    public static Block fromBase64(String base64) throws DeserializationException {
+        return NeoSerializableInterface.from(Base64.decode(base64), Block.class);
+    }
+
+    /**
+     * @return the header of this block.
+     */
+    public Header getHeader() {
+        return header;
+    }
+
+    /**
+     * @return the transactions of this block.
+     */
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    /**
+     * @return the hash of this block.
+     */
+    public Hash256 getHash() {
+        return header.getHash();
+    }
+
+    /**
+     * @return the index of this block.
+     */
+    public long getIndex() {
+        return header.getIndex();
+    }
+
+    @Override
+    public void deserialize(BinaryReader reader) throws DeserializationException {
+        this.header = reader.readSerializable(Header.class);
+        try {
+            long nrOfTransactions = reader.readVarInt();
+            if (nrOfTransactions > MAX_TRANSACTIONS_PER_BLOCK) {
+                throw new DeserializationException(format("A block can hold at most %s transactions. Input data " +
+                        "had %s transactions.", MAX_TRANSACTIONS_PER_BLOCK, nrOfTransactions));
+            }
+            this.transactions = new ArrayList<>((int) nrOfTransactions);
+            for (int i = 0; i < nrOfTransactions; i++) {
+                this.transactions.add(reader.readSerializable(Transaction.class));
+            }
+        } catch (IOException e) {
+            throw new DeserializationException(e);
+        }
+    }
+
+    @Override
+    public void serialize(BinaryWriter writer) throws IOException {
+        header.serialize(writer);
+        writer.writeSerializableVariable(transactions);
+    }
+
+    @Override
+    public int getSize() {
+        return header.getSize() + IOUtils.getVarSize(transactions);
+    }
+
+}
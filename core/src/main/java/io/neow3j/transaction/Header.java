@@ -0,0 +1,200 @@
+package io.neow3j.transaction;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.crypto.Base64;
+import io.neow3j.serialization.BinaryReader;
+import io.neow3j.serialization.BinaryWriter;
+import io.neow3j.serialization.NeoSerializable;
+import io.neow3j.serialization.NeoSerializableInterface;
+import io.neow3j.serialization.exceptions.DeserializationException;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+
+import static io.neow3j.crypto.Hash.sha256;
+import static io.neow3j.utils.ArrayUtils.reverseArray;
+import static java.lang.String.format;
+
+/**
+ * The header of a block in its binary form, e.g., as returned by {@code getblockheader} with {@code verbose = 0}.
+ */
+public class Header extends NeoSerializable {
+
+    public static final int UNSIGNED_SIZE = 4 +  // Version
+            NeoConstants.HASH256_SIZE +          // Previous block hash
+            NeoConstants.HASH256_SIZE +          // Merkle root
+            8 +                                  // Timestamp
+            8 +                                  // Nonce
+            4 +                                  // Index
+            1 +                                  // Primary index
+            NeoConstants.HASH160_SIZE;           // Next consensus
+
+    private long version;
+    private Hash256 prevHash;
+    private Hash256 merkleRoot;
+    private long timestamp;
+    private BigInteger nonce;
+    private long index;
+    private int primaryIndex;
+    private Hash160 nextConsensus;
+    private Witness witness;
+
+    private Hash256 hash;
+
+    public Header() {
+    }
+
+    /**
+     * Decodes a header from its base64-encoded binary form, e.g., as returned by
+     * {@link io.neow3j.protocol.core.response.NeoGetRawBlock#getRawBlock()} for a {@code getblockheader} request.
+     *
+     * @param base64 the base64-encoded header.
+     * @return the header.
+     * @throws DeserializationException if the data is not a valid header.
+     */
+    public static Header fromBase64(String base64) throws DeserializationException {
+        return NeoSerializableInterface.from(Base64.decode(base64), Header.class);
+    }
+
+    /**
+     * @return the version of the block.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the hash of the previous block.
+     */
+    public Hash256 getPrevHash() {
+        return prevHash;
+    }
+
+    /**
+     * @return the merkle root of the transactions of the block.
+     */
+    public Hash256 getMerkleRoot() {
+        return merkleRoot;
+    }
+
+    /**
+     * @return the time the block was created in milliseconds since the unix epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the nonce of the block.
+     */
+    public BigInteger getNonce() {
+        return nonce;
+    }
+
+    /**
+     * @return the index of the block.
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the index of the consensus node that proposed the block.
+     */
+    public int getPrimaryIndex() {
+        return primaryIndex;
+    }
+
+    /**
+     * @return the script hash of the consensus nodes that create the next block.
+     */
+    public Hash160 getNextConsensus() {
+        return nextConsensus;
+    }
+
+    /**
+     * @return the witness of the block.
+     */
+    public Witness getWitness() {
+        return witness;
+    }
+
+    /**
+     * Gets the hash of the block. It is computed from the header without the witness.
+     *
+     * @return the block hash.
+     */
+    public Hash256 getHash() {
+        if (hash == null) {
+            hash = new Hash256(reverseArray(sha256(toArrayWithoutWitness())));
+        }
+        return hash;
+    }
+
+    @Override
+    public void deserialize(BinaryReader reader) throws DeserializationException {
+        try {
+            this.version = reader.readUInt32();
+            this.prevHash = reader.readSerializable(Hash256.class);
+            this.merkleRoot = reader.readSerializable(Hash256.class);
+            this.timestamp = reader.readInt64();
+            this.nonce = reader.readUInt64();
+            this.index = reader.readUInt32();
+            this.primaryIndex = reader.readUnsignedByte();
+            this.nextConsensus = reader.readSerializable(Hash160.class);
+            long nrOfWitnesses = reader.readVarInt();
+            if (nrOfWitnesses != 1) {
+                throw new DeserializationException(
+                        format("A block header must have exactly one witness. Input data had %s.", nrOfWitnesses));
+            }
+            this.witness = reader.readSerializable(Witness.class);
+            this.hash = null;
+        } catch (IOException e) {
+            throw new DeserializationException(e);
+        }
+    }
+
+    private void serializeWithoutWitness(BinaryWriter writer) throws IOException {
+        writer.writeUInt32(this.version);
+        writer.writeSerializableFixed(this.prevHash);
+        writer.writeSerializableFixed(this.merkleRoot);
+        writer.writeInt64(this.timestamp);
+        writer.writeUInt64(this.nonce);
+        writer.writeUInt32(this.index);
+        writer.writeByte((byte) this.primaryIndex);
+        writer.writeSerializableFixed(this.nextConsensus);
+    }
+
+    @Override
+    public void serialize(BinaryWriter writer) throws IOException {
+        serializeWithoutWitness(writer);
+        writer.writeVarInt(1);
+        this.witness.serialize(writer);
+    }
+
+    @Override
+    public int getSize() {
+        return UNSIGNED_SIZE + 1 + this.witness.getSize();
+    }
+
+    /**
+     * Serializes this header without its witness, i.e., in the form that is used to compute the block hash.
+     *
+     * @return the serialized header.
+     */
+    public byte[] toArrayWithoutWitness() {
+        try (ByteArrayOutputStream ms = new ByteArrayOutputStream()) {
+            try (BinaryWriter writer = new BinaryWriter(ms)) {
+                serializeWithoutWitness(writer);
+                writer.flush();
+                return ms.toByteArray();
+            }
+        } catch (IOException ex) {
+            throw new UnsupportedOperationException(ex);
+        }
+    }
+
+}
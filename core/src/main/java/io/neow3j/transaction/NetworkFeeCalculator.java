@@ -0,0 +1,227 @@
+package io.neow3j.transaction;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.InvocationResult;
+import io.neow3j.protocol.core.response.NeoInvokeFunction;
+import io.neow3j.script.InteropService;
+import io.neow3j.script.OpCode;
+import io.neow3j.script.ScriptBuilder;
+import io.neow3j.script.VerificationScript;
+import io.neow3j.serialization.IOUtils;
+import io.neow3j.transaction.exceptions.TransactionConfigurationException;
+import io.neow3j.types.Hash160;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static io.neow3j.types.ContractParameter.integer;
+import static java.util.Collections.singletonList;
+
+/**
+ * Calculates the network fee of transactions with standard single-sig and multi-sig witnesses without sending the
+ * transaction to the Neo node.
+ * <p>
+ * The network fee of such a transaction is deterministic. It consists of the price of the instructions and the
+ * {@link InteropService#SYSTEM_CRYPTO_CHECKSIG} calls of the verification scripts multiplied with the execution fee
+ * factor, the size of the signed transaction multiplied with the fee per byte and the fees of the transaction
+ * attributes.
+ * <p>
+ * The fee is never lower than the one of the {@code calculatenetworkfee} RPC method. If the execution fee factor has
+ * no fractional part, it is the same. Otherwise, the execution fee of each witness is rounded up separately, thus, the
+ * fee may be higher by at most one fraction of GAS per witness.
+ * <p>
+ * The fee per byte, the execution fee factor and the attribute fees are read from the native PolicyContract with a
+ * single batch request and cached for {@link Neow3j#getPolicyCacheMaxAge()} milliseconds.
+ */
+public class NetworkFeeCalculator {
+
+    // Derived like PolicyContract.SCRIPT_HASH of the contract module, which depends on this module.
+    private static final Hash160 POLICY_CONTRACT_HASH = Hash160.fromScript(
+            ScriptBuilder.buildContractHashScript(Hash160.ZERO, 0, "PolicyContract"));
+    private static final String GET_FEE_PER_BYTE = "getFeePerByte";
+    private static final String GET_EXEC_FEE_FACTOR = "getExecFeeFactor";
+    private static final String GET_EXEC_PICO_FEE_FACTOR = "getExecPicoFeeFactor";
+    private static final String GET_ATTRIBUTE_FEE = "getAttributeFee";
+
+    // The pico fee factor has 4 decimal places of additional precision.
+    static final long PICO_FEE_FACTOR_PRECISION = 10_000;
+    // PUSHDATA1, the length byte and the signature.
+    private static final int SIGNATURE_PUSH_SIZE = 2 + NeoConstants.SIGNATURE_SIZE;
+
+    private final Neow3j neow3j;
+    private PolicyValues policyValues;
+    private long fetchNanos;
+
+    /**
+     * Creates a calculator that reads the policy values from the Neo node the given {@code Neow3j} instance is
+     * connected to.
+     *
+     * @param neow3j the {@code Neow3j} instance used to fetch the policy values.
+     */
+    public NetworkFeeCalculator(Neow3j neow3j) {
+        this.neow3j = neow3j;
+    }
+
+    /**
+     * Calculates the network fee of the given transaction.
+     * <p>
+     * The transaction needs a witness for each signer. Only the verification scripts of the witnesses are
+     * considered, i.e., the invocation scripts can be empty. The size of the signatures is accounted for.
+     *
+     * @param tx the transaction.
+     * @return the network fee in fractions of GAS.
+     * @throws TransactionConfigurationException if a witness has a verification script that is neither a single-sig
+     *                                           nor a multi-sig script.
+     * @throws IOException                       if there was a problem fetching the policy values from the Neo node.
+     */
+    public long calcNetworkFee(Transaction tx) throws IOException {
+        return calcNetworkFee(tx, getPolicyValues());
+    }
+
+    static long calcNetworkFee(Transaction tx, PolicyValues policyValues) {
+        long size = tx.getSize();
+        long networkFee = 0;
+        for (Witness witness : tx.getWitnesses()) {
+            VerificationScript verificationScript = witness.getVerificationScript();
+            int signingThreshold;
+            long executionCost;
+            if (verificationScript.isSingleSigScript()) {
+                signingThreshold = 1;
+                executionCost = signatureContractCost();
+            } else if (verificationScript.isMultiSigScript()) {
+                signingThreshold = verificationScript.getSigningThreshold();
+                executionCost = multiSigContractCost(signingThreshold, verificationScript.getNrOfAccounts());
+            } else {
+                throw new TransactionConfigurationException("The network fee can only be calculated locally for " +
+                        "single-sig and multi-sig witnesses.");
+            }
+            // The invocation script of the signed transaction pushes one signature per required signer.
+            int invocationSize = SIGNATURE_PUSH_SIZE * signingThreshold;
+            size += IOUtils.getVarSize(invocationSize) + invocationSize - witness.getInvocationScript().getSize();
+            // Rounding up per witness never results in a lower fee than the Neo node calculates.
+            networkFee += ceilDiv(executionCost * policyValues.execPicoFeeFactor, PICO_FEE_FACTOR_PRECISION);
+        }
+        for (TransactionAttribute attribute : tx.getAttributes()) {
+            long attributeFee = policyValues.getAttributeFee(attribute.getType());
+            if (attribute.getType() == TransactionAttributeType.CONFLICTS) {
+                // The fee of a conflicts attribute is paid for each signer.
+                attributeFee *= tx.getSigners().size();
+            }
+            networkFee += attributeFee;
+        }
+        return networkFee + size * policyValues.feePerByte;
+    }
+
+    // PUSHDATA1 for the signature and the public key and the syscall.
+    private static long signatureContractCost() {
+        return OpCode.PUSHDATA1.getPrice() * 2 + OpCode.SYSCALL.getPrice() +
+                InteropService.SYSTEM_CRYPTO_CHECKSIG.getPrice();
+    }
+
+    // PUSHDATA1 for each signature and public key, the pushes of the signing threshold and the number of public keys
+    // and the syscall that checks each public key.
+    private static long multiSigContractCost(int signingThreshold, int nrOfAccounts) {
+        return OpCode.PUSHDATA1.getPrice() * (signingThreshold + nrOfAccounts) +
+                pushIntegerPrice(signingThreshold) +
+                pushIntegerPrice(nrOfAccounts) +
+                OpCode.SYSCALL.getPrice() +
+                InteropService.SYSTEM_CRYPTO_CHECKSIG.getPrice() * nrOfAccounts;
+    }
+
+    private static long pushIntegerPrice(int value) {
+        return OpCode.get(new ScriptBuilder().pushInteger(value).toArray()[0]).getPrice();
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    private synchronized PolicyValues getPolicyValues() throws IOException {
+        long maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(neow3j.getPolicyCacheMaxAge());
+        if (policyValues == null || System.nanoTime() - fetchNanos > maxAgeNanos) {
+            long start = System.nanoTime();
+            policyValues = fetchPolicyValues();
+            fetchNanos = start;
+        }
+        return policyValues;
+    }
+
+    private PolicyValues fetchPolicyValues() throws IOException {
+        Request<?, NeoInvokeFunction> feePerByteRequest =
+                neow3j.invokeFunction(POLICY_CONTRACT_HASH, GET_FEE_PER_BYTE);
+        Request<?, NeoInvokeFunction> execFeeFactorRequest =
+                neow3j.invokeFunction(POLICY_CONTRACT_HASH, GET_EXEC_FEE_FACTOR);
+        Request<?, NeoInvokeFunction> execPicoFeeFactorRequest =
+                neow3j.invokeFunction(POLICY_CONTRACT_HASH, GET_EXEC_PICO_FEE_FACTOR);
+        BatchRequest batch = neow3j.newBatch()
+                .add(feePerByteRequest)
+                .add(execFeeFactorRequest)
+                .add(execPicoFeeFactorRequest);
+        Map<TransactionAttributeType, Request<?, NeoInvokeFunction>> attributeFeeRequests =
+                new EnumMap<>(TransactionAttributeType.class);
+        for (TransactionAttributeType type : TransactionAttributeType.values()) {
+            Request<?, NeoInvokeFunction> request = neow3j.invokeFunction(POLICY_CONTRACT_HASH, GET_ATTRIBUTE_FEE,
+                    singletonList(integer(type.byteValue())));
+            attributeFeeRequests.put(type, request);
+            batch.add(request);
+        }
+        BatchResponse response = batch.send();
+
+        long feePerByte = readInteger(response.getResponse(feePerByteRequest));
+        // The execution fee factor only has the additional precision since the Faun hard fork.
+        Long execPicoFeeFactor = readIntegerIfSupported(response.getResponse(execPicoFeeFactorRequest));
+        if (execPicoFeeFactor == null) {
+            execPicoFeeFactor = readInteger(response.getResponse(execFeeFactorRequest)) * PICO_FEE_FACTOR_PRECISION;
+        }
+        Map<TransactionAttributeType, Long> attributeFees = new EnumMap<>(TransactionAttributeType.class);
+        for (Map.Entry<TransactionAttributeType, Request<?, NeoInvokeFunction>> e : attributeFeeRequests.entrySet()) {
+            // Nodes without attribute fees do not charge for attributes.
+            Long attributeFee = readIntegerIfSupported(response.getResponse(e.getValue()));
+            attributeFees.put(e.getKey(), attributeFee == null ? 0L : attributeFee);
+        }
+        return new PolicyValues(feePerByte, execPicoFeeFactor, attributeFees);
+    }
+
+    private static long readInteger(NeoInvokeFunction response) {
+        Long value = readIntegerIfSupported(response);
+        if (value == null) {
+            throw new IllegalStateException("The PolicyContract faulted with the following exception: " +
+                    response.getInvocationResult().getException());
+        }
+        return value;
+    }
+
+    // Returns null if the PolicyContract of the node does not have the invoked function.
+    private static Long readIntegerIfSupported(NeoInvokeFunction response) {
+        InvocationResult result = response.getInvocationResult();
+        if (result.hasStateFault()) {
+            return null;
+        }
+        return result.getFirstStackItem().getInteger().longValue();
+    }
+
+    static class PolicyValues {
+
+        private final long feePerByte;
+        private final long execPicoFeeFactor;
+        private final Map<TransactionAttributeType, Long> attributeFees;
+
+        PolicyValues(long feePerByte, long execPicoFeeFactor, Map<TransactionAttributeType, Long> attributeFees) {
+            this.feePerByte = feePerByte;
+            this.execPicoFeeFactor = execPicoFeeFactor;
+            this.attributeFees = attributeFees;
+        }
+
+        long getAttributeFee(TransactionAttributeType type) {
+            return attributeFees.getOrDefault(type, 0L);
+        }
+
+    }
+
+}
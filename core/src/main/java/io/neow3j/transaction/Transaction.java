@@ -18,6 +18,7 @@ import io.neow3j.serialization.IOUtils;
 import io.neow3j.serialization.NeoSerializable;
 import io.neow3j.serialization.exceptions.DeserializationException;
 import io.neow3j.transaction.exceptions.TransactionConfigurationException;
+import io.neow3j.transaction.exceptions.TransactionExpiredException;
 import io.neow3j.types.ContractParameter;
 import io.neow3j.types.ContractParameterType;
 import io.neow3j.types.Hash160;
@@ -35,6 +36,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -352,7 +354,7 @@ public class Transaction extends NeoSerializable {
                     " The maximum size is %s bytes while the transaction has size %s.", MAX_TRANSACTION_SIZE, size));
         }
         String hex = toHexStringNoPrefix(toArray());
-        blockCountWhenSent = neow3j.getBlockCount().send().getBlockCount();
+        blockCountWhenSent = neow3j.getChainHeadTracker().getBlockCount();
         return neow3j.sendRawTransaction(hex).send();
     }
 
@@ -360,7 +362,8 @@ public class Transaction extends NeoSerializable {
      * Creates an {@code Observable} that emits the block number containing this transaction as soon as it has been
      * integrated in one. The observable completes right after emitting the block number.
      * <p>
-     * The observable starts tracking the blocks from the point at which the transaction has been sent.
+     * The observable starts tracking the blocks from the point at which the transaction has been sent. Each
+     * subscription polls the blocks on its own. To track many transactions, use {@link #trackAsync()} instead.
      *
      * @return the observable.
      * @throws IllegalStateException if this transaction has not yet been sent.
@@ -370,8 +373,9 @@ public class Transaction extends NeoSerializable {
             throw new IllegalStateException("Cannot subscribe before transaction has been sent.");
         }
 
+        Hash256 txId = getTxId();
         Predicate<NeoGetBlock> pred = neoGetBlock -> neoGetBlock.getBlock().getTransactions() != null &&
-                neoGetBlock.getBlock().getTransactions().stream().anyMatch(tx -> tx.getHash().equals(getTxId()));
+                neoGetBlock.getBlock().getTransactions().stream().anyMatch(tx -> tx.getHash().equals(txId));
 
         return neow3j.catchUpToLatestAndSubscribeToNewBlocksObservable(blockCountWhenSent, true)
                 .takeUntil(pred)
@@ -379,6 +383,24 @@ public class Transaction extends NeoSerializable {
                 .map(neoGetBlock -> neoGetBlock.getBlock().getIndex());
     }
 
+    /**
+     * Returns a future that completes with the number of the block containing this transaction as soon as it has
+     * been integrated in one.
+     * <p>
+     * All transactions sent with the same {@code Neow3j} instance are tracked with a single block subscription (see
+     * {@link Neow3j#getTransactionTracker()}). The future fails with a {@link TransactionExpiredException} if the
+     * transaction was not integrated in a block up to its {@code validUntilBlock}.
+     *
+     * @return the future.
+     * @throws IllegalStateException if this transaction has not yet been sent.
+     */
+    public CompletableFuture<Long> trackAsync() {
+        if (blockCountWhenSent == null) {
+            throw new IllegalStateException("Cannot subscribe before transaction has been sent.");
+        }
+        return neow3j.getTransactionTracker().track(getTxId(), blockCountWhenSent, validUntilBlock);
+    }
+
     /**
      * Gets the application log of this transaction.
      * <p>
@@ -417,7 +417,7 @@ public class TransactionBuilder {
     }
 
     private long fetchCurrentBlockCount() throws IOException {
-        return neow3j.getBlockCount().send().getBlockCount().longValue();
+        return neow3j.getChainHeadTracker().getBlockCount().longValue();
     }
 
     /*
@@ -440,14 +440,18 @@ public class TransactionBuilder {
     // `getnetworkfee` RPC method. Signers that are contracts do not need a verification script. Instead, their
     // `verify` method will be consulted by the Neo node. The static method createContractWitness is used to
     // instantiate a witness with the parameters for the verify method in its invocation script.
+    // If the network fee is calculated locally and there are only account signers, the temporary transaction is
+    // passed to the network fee calculator instead.
     private long calcNetworkFee() throws IOException {
         Transaction tx = new Transaction(neow3j, version, nonce, validUntilBlock, signers, 0, 0, attributes, script,
                 new ArrayList<>());
         boolean hasAtLeastOneSigningAccount = false;
+        boolean hasContractSigner = false;
         for (Signer signer : signers) {
             if (signer instanceof ContractSigner) {
                 ContractSigner contractSigner = (ContractSigner) signer;
                 tx.addWitness(createContractWitness(contractSigner.getVerifyParameters()));
+                hasContractSigner = true;
             } else {
                 Account a = ((AccountSigner) signer).getAccount();
                 VerificationScript verificationScript;
@@ -464,6 +468,9 @@ public class TransactionBuilder {
             throw new TransactionConfigurationException("A transaction requires at least one signing account (i.e. an" +
                     " AccountSigner). None was provided.");
         }
+        if (neow3j.isLocalNetworkFee() && !hasContractSigner) {
+            return neow3j.getNetworkFeeCalculator().calcNetworkFee(tx);
+        }
         String txHex = toHexStringNoPrefix(tx.toArray());
         return neow3j.calculateNetworkFee(txHex).send().getNetworkFee().getNetworkFee().longValue();
     }
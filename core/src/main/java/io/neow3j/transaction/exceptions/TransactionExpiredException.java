@@ -0,0 +1,35 @@
+package io.neow3j.transaction.exceptions;
+
+import io.neow3j.types.Hash256;
+
+/**
+ * Is thrown if a tracked {@link io.neow3j.transaction.Transaction} was not included in a block up to its
+ * {@code validUntilBlock} and thus cannot be included in the blockchain anymore.
+ */
+public class TransactionExpiredException extends RuntimeException {
+
+    private final Hash256 txId;
+    private final long validUntilBlock;
+
+    public TransactionExpiredException(Hash256 txId, long validUntilBlock) {
+        super("The transaction " + txId + " was not included in a block up to its validUntilBlock " +
+                validUntilBlock + ".");
+        this.txId = txId;
+        this.validUntilBlock = validUntilBlock;
+    }
+
+    /**
+     * @return the ID of the expired transaction.
+     */
+    public Hash256 getTxId() {
+        return txId;
+    }
+
+    /**
+     * @return the block up to which the transaction was valid.
+     */
+    public long getValidUntilBlock() {
+        return validUntilBlock;
+    }
+
+}
@@ -1,7 +1,6 @@
 package io.neow3j.utils;
 
 import io.neow3j.protocol.Neow3j;
-import io.neow3j.protocol.core.response.NeoBlockCount;
 import io.neow3j.protocol.core.response.NeoGetContractState;
 import io.neow3j.protocol.core.response.NeoGetNep17Balances.Nep17Balance;
 import io.neow3j.protocol.core.response.NeoGetTransactionHeight;
@@ -134,8 +133,7 @@ public class Await {
     private static Callable<BigInteger> callableGetBlockCount(Neow3j neow3j) {
         return () -> {
             try {
-                NeoBlockCount response = neow3j.getBlockCount().send();
-                return response.getBlockCount();
+                return neow3j.getChainHeadTracker().getBlockCount();
             } catch (IOException | RpcResponseErrorException e) {
                 return BigInteger.ZERO;
             }
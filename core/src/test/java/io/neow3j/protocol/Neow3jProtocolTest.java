@@ -0,0 +1,80 @@
+package io.neow3j.protocol;
+
+import io.neow3j.protocol.core.response.NeoGetVersion;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static io.neow3j.protocol.Neow3jConfig.defaultNeow3jConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class Neow3jProtocolTest {
+
+    @Test
+    public void testProtocolIsCachedAfterBuild() throws IOException {
+        Neow3jService service = mockService(768L);
+        Neow3j neow3j = Neow3j.build(service);
+
+        assertThat(neow3j.getNetworkMagic(), is(768L));
+        assertThat(neow3j.getNetworkMagic(), is(768L));
+
+        verify(service, times(1)).send(any(), eq(NeoGetVersion.class));
+    }
+
+    @Test
+    public void testRefreshProtocol() throws IOException {
+        Neow3jService service = mockService(768L);
+        Neow3j neow3j = Neow3j.build(service);
+        when(service.send(any(), eq(NeoGetVersion.class))).thenReturn(version(769L));
+
+        assertThat(neow3j.getNetworkMagic(), is(768L));
+        assertThat(neow3j.refreshProtocol().getNetwork(), is(769L));
+        assertThat(neow3j.getNetworkMagic(), is(769L));
+
+        verify(service, times(2)).send(any(), eq(NeoGetVersion.class));
+    }
+
+    @Test
+    public void testZeroProtocolTtlFetchesEveryTime() throws IOException {
+        Neow3jService service = mockService(768L);
+        Neow3j neow3j = Neow3j.build(service, defaultNeow3jConfig().setProtocolTtl(0));
+
+        neow3j.getNetworkMagic();
+        neow3j.getNetworkMagic();
+
+        verify(service, times(3)).send(any(), eq(NeoGetVersion.class));
+    }
+
+    @Test
+    public void testNegativeProtocolTtl() {
+        assertThrows(IllegalArgumentException.class, () -> defaultNeow3jConfig().setProtocolTtl(-1));
+    }
+
+    private static Neow3jService mockService(long network) throws IOException {
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(), eq(NeoGetVersion.class))).thenReturn(version(network));
+        return service;
+    }
+
+    private static NeoGetVersion version(long network) {
+        NeoGetVersion.NeoVersion.Protocol protocol = new NeoGetVersion.NeoVersion.Protocol();
+        protocol.setNetwork(network);
+        protocol.setMilliSecondsPerBlock(1000L);
+
+        NeoGetVersion.NeoVersion version = new NeoGetVersion.NeoVersion();
+        version.setProtocol(protocol);
+
+        NeoGetVersion neoGetVersion = new NeoGetVersion();
+        neoGetVersion.setResult(version);
+        return neoGetVersion;
+    }
+
+}
@@ -0,0 +1,108 @@
+package io.neow3j.protocol;
+
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoConnectionCount;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.Observable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+
+public class Neow3jServiceTest {
+
+    // A third-party service that does not implement batches.
+    private static class SingleRequestService implements Neow3jService {
+
+        private final List<String> sentMethods = new ArrayList<>();
+
+        @Override
+        public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+            sentMethods.add(request.getMethod());
+            try {
+                T response = responseType.newInstance();
+                response.setId(request.getId());
+                return response;
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+            try {
+                return CompletableFuture.completedFuture(send(request, responseType));
+            } catch (IOException e) {
+                CompletableFuture<T> future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+                return future;
+            }
+        }
+
+        @Override
+        public <T extends Notification<?>> Observable<T> subscribe(Request request, String unsubscribeMethod,
+                Class<T> responseType) {
+            return Observable.empty();
+        }
+
+        @Override
+        public void close() {
+        }
+
+    }
+
+    @Test
+    public void testDefaultBatchSendsRequestsIndividually() throws IOException {
+        SingleRequestService service = new SingleRequestService();
+        Request<?, NeoBlockCount> blockCount =
+                new Request<>("getblockcount", emptyList(), service, NeoBlockCount.class);
+        Request<?, NeoConnectionCount> connectionCount =
+                new Request<>("getconnectioncount", emptyList(), service, NeoConnectionCount.class);
+
+        BatchResponse response = new BatchRequest(service).add(blockCount).add(connectionCount).send();
+
+        assertThat(service.sentMethods, is(asList("getblockcount", "getconnectioncount")));
+        assertThat(response.getResponse(blockCount).getId(), is(blockCount.getId()));
+        assertThat(response.getResponse(connectionCount).getId(), is(connectionCount.getId()));
+    }
+
+    @Test
+    public void testNeow3jDefaultBatchSendsRequestsWithTheirService() throws IOException {
+        // An extending class of Neow3j that does not implement batches.
+        Neow3j neow3j = mock(Neow3j.class, CALLS_REAL_METHODS);
+        SingleRequestService service = new SingleRequestService();
+        Request<?, NeoBlockCount> blockCount =
+                new Request<>("getblockcount", emptyList(), service, NeoBlockCount.class);
+
+        BatchResponse response = neow3j.newBatch().add(blockCount).send();
+
+        assertThat(service.sentMethods, is(asList("getblockcount")));
+        assertThat(response.getResponse(blockCount).getId(), is(blockCount.getId()));
+    }
+
+    @Test
+    public void testDefaultBatchAsync() throws Exception {
+        SingleRequestService service = new SingleRequestService();
+        Request<?, NeoBlockCount> blockCount =
+                new Request<>("getblockcount", emptyList(), service, NeoBlockCount.class);
+
+        BatchResponse response = new BatchRequest(service).add(blockCount).sendAsync().get();
+
+        assertThat(service.sentMethods, is(asList("getblockcount")));
+        assertThat(response.getResponse(blockCount).getId(), is(blockCount.getId()));
+    }
+
+}
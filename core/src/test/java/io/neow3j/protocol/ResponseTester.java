@@ -40,10 +40,18 @@ public abstract class ResponseTester {
         neow3jService = new HttpService(okHttpClient, includeRawResponses);
     }
 
+    protected HttpService getNeow3jService() {
+        return neow3jService;
+    }
+
     protected <T extends Response<?>> T deserialiseResponse(Class<T> type) {
+        return deserialiseResponse(new Request<>(), type);
+    }
+
+    protected <T extends Response<?>> T deserialiseResponse(Request<?, ?> request, Class<T> type) {
         T response = null;
         try {
-            response = neow3jService.send(new Request<>(), type);
+            response = neow3jService.send(request, type);
         } catch (IOException e) {
             fail(e.getMessage());
         }
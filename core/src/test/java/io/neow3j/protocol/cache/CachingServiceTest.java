@@ -0,0 +1,130 @@
+package io.neow3j.protocol.cache;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoGetRawTransaction;
+import io.neow3j.types.Hash256;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingServiceTest {
+
+    private static final Hash256 TX_HASH =
+            new Hash256("22ffa2d8680cea4928e2e74ceee560eedfa6e35f199640a7fe725c1f9da0b19e");
+
+    @Test
+    public void testCacheImmutableResponse() throws IOException {
+        NeoGetRawTransaction response = rawTransaction("AAEC");
+        Neow3jService delegate = mock(Neow3jService.class);
+        when(delegate.send(any(), eq(NeoGetRawTransaction.class))).thenReturn(response);
+        CachingService service = new CachingService(delegate, new ResponseCache());
+
+        assertThat(service.send(getRawTransaction(service, 0), NeoGetRawTransaction.class), is(response));
+        assertThat(service.send(getRawTransaction(service, 0), NeoGetRawTransaction.class), sameInstance(response));
+
+        verify(delegate, times(1)).send(any(), eq(NeoGetRawTransaction.class));
+        assertThat(service.getCache().getHitCount(), is(1L));
+        assertThat(service.getCache().getMissCount(), is(1L));
+    }
+
+    @Test
+    public void testCacheAsync() throws Exception {
+        NeoGetRawTransaction response = rawTransaction("AAEC");
+        Neow3jService delegate = mock(Neow3jService.class);
+        when(delegate.sendAsync(any(), eq(NeoGetRawTransaction.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+        CachingService service = new CachingService(delegate, new ResponseCache());
+
+        service.sendAsync(getRawTransaction(service, 0), NeoGetRawTransaction.class).get(5, TimeUnit.SECONDS);
+        NeoGetRawTransaction cached = service.sendAsync(getRawTransaction(service, 0), NeoGetRawTransaction.class)
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(cached, sameInstance(response));
+        verify(delegate, times(1)).sendAsync(any(), eq(NeoGetRawTransaction.class));
+    }
+
+    @Test
+    public void testDoNotCacheMutableOrVerboseRequests() {
+        ResponseCache cache = new ResponseCache();
+        Neow3jService service = mock(Neow3jService.class);
+
+        assertThat(cache.getKey(new Request<>("getblockcount", emptyList(), service, NeoBlockCount.class)),
+                is(nullValue()));
+        assertThat(cache.getKey(getRawTransaction(service, 1)), is(nullValue()));
+        cache.setCacheVerboseResponses(true);
+        assertThat(cache.getKey(getRawTransaction(service, 1)) == null, is(false));
+    }
+
+    @Test
+    public void testDoNotCacheErrors() throws IOException {
+        NeoGetRawTransaction error = new NeoGetRawTransaction();
+        error.setError(new Response.Error(-100, "Unknown transaction"));
+        Neow3jService delegate = mock(Neow3jService.class);
+        when(delegate.send(any(), eq(NeoGetRawTransaction.class))).thenReturn(error);
+        CachingService service = new CachingService(delegate, new ResponseCache());
+
+        service.send(getRawTransaction(service, 0), NeoGetRawTransaction.class);
+        service.send(getRawTransaction(service, 0), NeoGetRawTransaction.class);
+
+        verify(delegate, times(2)).send(any(), eq(NeoGetRawTransaction.class));
+        assertThat(service.getCache().size(), is(0));
+    }
+
+    @Test
+    public void testEvictByEntryCount() {
+        ResponseCache cache = new ResponseCache(2, ResponseCache.DEFAULT_MAX_BYTES);
+        cache.put("a", rawTransaction("AA"));
+        cache.put("b", rawTransaction("BB"));
+        // Accessing "a" makes "b" the least recently used entry.
+        cache.get("a", NeoGetRawTransaction.class);
+        cache.put("c", rawTransaction("CC"));
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get("b", NeoGetRawTransaction.class), is(nullValue()));
+        assertThat(cache.get("a", NeoGetRawTransaction.class).getRawTransaction(), is("AA"));
+        assertThat(cache.getEvictionCount(), is(1L));
+    }
+
+    @Test
+    public void testEvictByByteSize() {
+        String result = new String(new char[1000]).replace('\0', 'A');
+        ResponseCache cache = new ResponseCache(100, 5000);
+        cache.put("a", rawTransaction(result));
+        cache.put("b", rawTransaction(result));
+        cache.put("c", rawTransaction(result));
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.getByteSize() <= 5000, is(true));
+        assertThat(cache.get("a", NeoGetRawTransaction.class), is(nullValue()));
+    }
+
+    private static Request<?, NeoGetRawTransaction> getRawTransaction(Neow3jService service, int verbose) {
+        return new Request<>("getrawtransaction", asList(TX_HASH, verbose), service, NeoGetRawTransaction.class);
+    }
+
+    private static NeoGetRawTransaction rawTransaction(String result) {
+        NeoGetRawTransaction response = new NeoGetRawTransaction();
+        response.setResult(result);
+        return response;
+    }
+
+}
@@ -0,0 +1,125 @@
+package io.neow3j.protocol.coalescing;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoSendRawTransaction;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CoalescingServiceTest {
+
+    @Test
+    public void testCoalesceConcurrentRequests() throws Exception {
+        NeoBlockCount response = blockCount(5);
+        CountDownLatch release = new CountDownLatch(1);
+        Neow3jService delegate = mock(Neow3jService.class);
+        when(delegate.send(any(), eq(NeoBlockCount.class))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return response;
+        });
+        CoalescingService service = new CoalescingService(delegate);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<NeoBlockCount>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> service.send(getBlockCount(service), NeoBlockCount.class)));
+            }
+            // Wait until all threads joined the request in flight.
+            long deadline = System.currentTimeMillis() + 5000;
+            while (service.getCoalescedCount() < 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+            for (Future<NeoBlockCount> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS), sameInstance(response));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(delegate, times(1)).send(any(), eq(NeoBlockCount.class));
+        assertThat(service.getCoalescedCount(), is(3L));
+    }
+
+    @Test
+    public void testCoalesceAsyncRequests() throws Exception {
+        CompletableFuture<NeoBlockCount> inFlight = new CompletableFuture<>();
+        Neow3jService delegate = mock(Neow3jService.class);
+        when(delegate.sendAsync(any(), eq(NeoBlockCount.class))).thenReturn(inFlight);
+        CoalescingService service = new CoalescingService(delegate);
+
+        CompletableFuture<NeoBlockCount> first = service.sendAsync(getBlockCount(service), NeoBlockCount.class);
+        CompletableFuture<NeoBlockCount> second = service.sendAsync(getBlockCount(service), NeoBlockCount.class);
+        // Cancelling one caller does not affect the other.
+        second.cancel(true);
+        inFlight.complete(blockCount(5));
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getBlockCount().intValue(), is(5));
+        verify(delegate, times(1)).sendAsync(any(), eq(NeoBlockCount.class));
+
+        // The request is not in flight anymore, thus, a new call is made.
+        service.sendAsync(getBlockCount(service), NeoBlockCount.class);
+        verify(delegate, times(2)).sendAsync(any(), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testFailureIsPropagatedAndNotRetained() throws IOException {
+        Neow3jService delegate = mock(Neow3jService.class);
+        when(delegate.send(any(), eq(NeoBlockCount.class)))
+                .thenThrow(new IOException("Connection reset"))
+                .thenReturn(blockCount(5));
+        CoalescingService service = new CoalescingService(delegate);
+
+        assertThrows(IOException.class, () -> service.send(getBlockCount(service), NeoBlockCount.class));
+        assertThat(service.send(getBlockCount(service), NeoBlockCount.class).getBlockCount().intValue(), is(5));
+    }
+
+    @Test
+    public void testDoNotCoalesceMethodsNotInAllowlist() throws IOException {
+        Neow3jService delegate = mock(Neow3jService.class);
+        CoalescingService service = new CoalescingService(delegate, singleton("getblockcount"));
+        Request<?, NeoSendRawTransaction> request = new Request<>("sendrawtransaction", singletonList("AAEC"),
+                service, NeoSendRawTransaction.class);
+
+        service.sendAsync(request, NeoSendRawTransaction.class);
+        service.sendAsync(request, NeoSendRawTransaction.class);
+
+        verify(delegate, times(2)).sendAsync(any(), eq(NeoSendRawTransaction.class));
+    }
+
+    private static Request<?, NeoBlockCount> getBlockCount(Neow3jService service) {
+        return new Request<>("getblockcount", emptyList(), service, NeoBlockCount.class);
+    }
+
+    private static NeoBlockCount blockCount(int blockCount) {
+        NeoBlockCount response = new NeoBlockCount();
+        response.setResult(BigInteger.valueOf(blockCount));
+        return response;
+    }
+
+}
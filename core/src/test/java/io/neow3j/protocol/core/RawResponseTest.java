@@ -4,6 +4,8 @@ import io.neow3j.protocol.ResponseTester;
 import io.neow3j.protocol.core.response.NeoGetVersion;
 import org.junit.jupiter.api.Test;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -37,6 +39,44 @@ public class RawResponseTest extends ResponseTester {
         assertThat(web3ClientVersion.getRawResponse(), nullValue());
     }
 
+    @Test
+    public void testRawResponseForMethod() {
+        configureWeb3Service(false);
+        getNeow3jService().setRawResponseMethods(singleton("getversion"));
+        buildResponse(RAW_RESPONSE);
+
+        NeoGetVersion version = deserialiseResponse(getVersionRequest("getversion"), NeoGetVersion.class);
+        assertThat(version.getRawResponse(), is(RAW_RESPONSE));
+        assertThat(version.getVersion().getNonce(), is(12345678L));
+
+        NeoGetVersion other = deserialiseResponse(getVersionRequest("getpeers"), NeoGetVersion.class);
+        assertThat(other.getRawResponse(), nullValue());
+    }
+
+    @Test
+    public void testRawResponseWithTrailingLineTerminator() {
+        configureWeb3Service(true);
+        buildResponse(RAW_RESPONSE + "\r\n");
+
+        NeoGetVersion version = deserialiseResponse(NeoGetVersion.class);
+        assertThat(version.getRawResponse(), is(RAW_RESPONSE));
+    }
+
+    @Test
+    public void testRawResponseExceedingMaxSize() {
+        configureWeb3Service(true);
+        getNeow3jService().setMaxRawResponseSize(RAW_RESPONSE.length() - 1);
+        buildResponse(RAW_RESPONSE);
+
+        NeoGetVersion version = deserialiseResponse(NeoGetVersion.class);
+        assertThat(version.getRawResponse(), nullValue());
+        assertThat(version.getVersion().getNonce(), is(12345678L));
+    }
+
+    private Request<?, NeoGetVersion> getVersionRequest(String method) {
+        return new Request<>(method, emptyList(), getNeow3jService(), NeoGetVersion.class);
+    }
+
     private NeoGetVersion deserialiseWeb3ClientVersionResponse() {
         buildResponse(RAW_RESPONSE);
 
@@ -0,0 +1,72 @@
+package io.neow3j.protocol.core.polling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AdaptivePollingScheduleTest {
+
+    private static final long BLOCK_TIME = 15_000;
+
+    @Test
+    public void testWaitsForExpectedArrival() {
+        AdaptivePollingSchedule schedule = new AdaptivePollingSchedule(BLOCK_TIME, BLOCK_TIME);
+        // The block was produced 2 seconds before it was observed.
+        schedule.onNewBlock(100_000, 102_000);
+
+        assertThat(schedule.nextDelay(102_000), is(13_000L));
+        assertThat(schedule.nextDelay(110_000), is(5_000L));
+    }
+
+    @Test
+    public void testPollsTightlyAroundExpectedArrival() {
+        AdaptivePollingSchedule schedule = new AdaptivePollingSchedule(BLOCK_TIME, BLOCK_TIME);
+        schedule.onNewBlock(100_000, 100_000);
+
+        assertThat(schedule.nextDelay(115_000), is(750L));
+        assertThat(schedule.nextDelay(117_000), is(750L));
+    }
+
+    @Test
+    public void testBacksOffIfBlockIsLate() {
+        AdaptivePollingSchedule schedule = new AdaptivePollingSchedule(BLOCK_TIME, 4_000);
+        schedule.onNewBlock(100_000, 100_000);
+
+        assertThat(schedule.nextDelay(120_000), is(750L));
+        assertThat(schedule.nextDelay(121_000), is(1_500L));
+        assertThat(schedule.nextDelay(123_000), is(3_000L));
+        assertThat(schedule.nextDelay(126_000), is(4_000L));
+        assertThat(schedule.nextDelay(130_000), is(4_000L));
+
+        schedule.onNewBlock(130_000, 130_500);
+        assertThat(schedule.nextDelay(145_000), is(750L));
+    }
+
+    @Test
+    public void testClockSkewIsBounded() {
+        AdaptivePollingSchedule schedule = new AdaptivePollingSchedule(BLOCK_TIME, BLOCK_TIME);
+
+        // The node's clock is ahead of the local clock.
+        schedule.onNewBlock(200_000, 100_000);
+        assertThat(schedule.nextDelay(100_000), is(BLOCK_TIME));
+
+        // The node's clock is behind the local clock.
+        schedule.onNewBlock(50_000, 100_000);
+        assertThat(schedule.nextDelay(100_000), is(750L));
+    }
+
+    @Test
+    public void testUnknownArrival() {
+        AdaptivePollingSchedule schedule = new AdaptivePollingSchedule(BLOCK_TIME, 5_000);
+
+        assertThat(schedule.nextDelay(100_000), is(5_000L));
+    }
+
+    @Test
+    public void testInvalidBlockTime() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptivePollingSchedule(0, 1000));
+    }
+
+}
@@ -0,0 +1,116 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoGetVersion;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.neow3j.protocol.Neow3jConfig.defaultNeow3jConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ChainHeadTrackerTest {
+
+    @Test
+    public void testBlockCountIsShared() throws IOException {
+        Neow3jService service = mockService();
+        when(service.send(any(), eq(NeoBlockCount.class))).thenReturn(blockCount(1000));
+        Neow3j neow3j = Neow3j.build(service, defaultNeow3jConfig().setBlockCountMaxAge(60_000));
+        ChainHeadTracker tracker = neow3j.getChainHeadTracker();
+
+        assertThat(tracker.getBlockCount(), is(BigInteger.valueOf(1000)));
+        assertThat(tracker.getLatestBlockIndex(), is(BigInteger.valueOf(999)));
+        assertThat(tracker.getLastKnownBlockCount(), is(BigInteger.valueOf(1000)));
+
+        verify(service, times(1)).send(any(), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testZeroMaxAgeFetchesEveryTime() throws IOException {
+        Neow3jService service = mockService();
+        when(service.send(any(), eq(NeoBlockCount.class))).thenReturn(blockCount(1000), blockCount(1001));
+        Neow3j neow3j = Neow3j.build(service, defaultNeow3jConfig().setBlockCountMaxAge(0));
+        ChainHeadTracker tracker = neow3j.getChainHeadTracker();
+
+        assertThat(tracker.getBlockCount(), is(BigInteger.valueOf(1000)));
+        assertThat(tracker.getBlockCount(), is(BigInteger.valueOf(1001)));
+
+        verify(service, times(2)).send(any(), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testBlockCountIsNotCachedByDefault() throws IOException {
+        Neow3jService service = mockService();
+        when(service.send(any(), eq(NeoBlockCount.class))).thenReturn(blockCount(1000), blockCount(1001));
+        Neow3j neow3j = Neow3j.build(service, defaultNeow3jConfig());
+        ChainHeadTracker tracker = neow3j.getChainHeadTracker();
+
+        assertThat(tracker.getBlockCount(), is(BigInteger.valueOf(1000)));
+        assertThat(tracker.getBlockCount(), is(BigInteger.valueOf(1001)));
+
+        verify(service, times(2)).send(any(), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testAwaitBlockCount() throws Exception {
+        Neow3jService service = mockService();
+        when(service.send(any(), eq(NeoBlockCount.class)))
+                .thenReturn(blockCount(5), blockCount(6), blockCount(8), blockCount(9));
+        Neow3j neow3j = Neow3j.build(service, defaultNeow3jConfig().setPollingInterval(10));
+        ChainHeadTracker tracker = neow3j.getChainHeadTracker();
+
+        CompletableFuture<BigInteger> first = tracker.awaitBlockCount(BigInteger.valueOf(7));
+        CompletableFuture<BigInteger> second = tracker.awaitBlockCount(BigInteger.valueOf(8));
+
+        assertThat(first.get(5, TimeUnit.SECONDS), is(BigInteger.valueOf(8)));
+        assertThat(second.get(5, TimeUnit.SECONDS), is(BigInteger.valueOf(8)));
+        assertThat(tracker.awaitBlockCount(BigInteger.valueOf(3)).isDone(), is(true));
+    }
+
+    @Test
+    public void testUpdateCompletesWaiters() throws Exception {
+        Neow3jService service = mockService();
+        when(service.send(any(), eq(NeoBlockCount.class))).thenReturn(blockCount(5));
+        Neow3j neow3j = Neow3j.build(service, defaultNeow3jConfig().setPollingInterval(60_000));
+        ChainHeadTracker tracker = neow3j.getChainHeadTracker();
+
+        CompletableFuture<BigInteger> future = tracker.awaitBlockCount(BigInteger.valueOf(10));
+        tracker.update(BigInteger.valueOf(10));
+
+        assertThat(future.get(5, TimeUnit.SECONDS), is(BigInteger.valueOf(10)));
+        assertThat(tracker.getLastKnownBlockCount(), is(BigInteger.valueOf(10)));
+    }
+
+    private static Neow3jService mockService() throws IOException {
+        NeoGetVersion.NeoVersion.Protocol protocol = new NeoGetVersion.NeoVersion.Protocol();
+        protocol.setNetwork(768L);
+        protocol.setMilliSecondsPerBlock(1000L);
+        NeoGetVersion.NeoVersion version = new NeoGetVersion.NeoVersion();
+        version.setProtocol(protocol);
+        NeoGetVersion neoGetVersion = new NeoGetVersion();
+        neoGetVersion.setResult(version);
+
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(), eq(NeoGetVersion.class))).thenReturn(neoGetVersion);
+        return service;
+    }
+
+    private static NeoBlockCount blockCount(long count) {
+        NeoBlockCount blockCount = new NeoBlockCount();
+        blockCount.setResult(BigInteger.valueOf(count));
+        return blockCount;
+    }
+
+}
@@ -0,0 +1,157 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.core.response.NeoGetTransactionHeight;
+import io.neow3j.protocol.core.response.NeoGetVersion;
+import io.neow3j.protocol.core.response.Transaction;
+import io.neow3j.transaction.exceptions.TransactionExpiredException;
+import io.neow3j.types.Hash256;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static io.neow3j.protocol.Neow3jConfig.defaultNeow3jConfig;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TransactionTrackerTest {
+
+    private static final Hash256 TX_1 =
+            new Hash256("1bf80f98084ede43fba9e347b0af546e2e7da9038e019baf0258f09b59f019f0");
+    private static final Hash256 TX_2 =
+            new Hash256("2bf80f98084ede43fba9e347b0af546e2e7da9038e019baf0258f09b59f019f0");
+    private static final Hash256 TX_3 =
+            new Hash256("3bf80f98084ede43fba9e347b0af546e2e7da9038e019baf0258f09b59f019f0");
+    private static final Hash256 TX_4 =
+            new Hash256("4bf80f98084ede43fba9e347b0af546e2e7da9038e019baf0258f09b59f019f0");
+
+    @Test
+    public void testTransactionsShareTheBlockSubscription() throws Exception {
+        Neow3jService service = mockService();
+        Neow3j neow3j = Neow3j.build(service, defaultNeow3jConfig().setPollingInterval(10));
+        TransactionTracker tracker = neow3j.getTransactionTracker();
+
+        CompletableFuture<Long> tx1 = tracker.track(TX_1, BigInteger.ZERO, 100);
+        CompletableFuture<Long> tx2 = tracker.track(TX_2, BigInteger.ZERO, 100);
+
+        assertThat(tx1.get(5, TimeUnit.SECONDS), is(3L));
+        assertThat(tx2.get(5, TimeUnit.SECONDS), is(3L));
+        assertThat(tracker.getPendingCount(), is(0));
+        // The blocks 0 to 4 are fetched once for both transactions.
+        verify(service, atMost(5)).sendAsync(any(), eq(NeoGetBlock.class));
+    }
+
+    @Test
+    public void testTransactionExpires() throws Exception {
+        Neow3jService service = mockService();
+        Neow3j neow3j = Neow3j.build(service, defaultNeow3jConfig().setPollingInterval(10));
+        TransactionTracker tracker = neow3j.getTransactionTracker();
+
+        CompletableFuture<Long> tx3 = tracker.track(TX_3, BigInteger.ZERO, 2);
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> tx3.get(5, TimeUnit.SECONDS));
+        assertThat(thrown.getCause(), instanceOf(TransactionExpiredException.class));
+        assertThat(((TransactionExpiredException) thrown.getCause()).getValidUntilBlock(), is(2L));
+        assertThat(tracker.getPendingCount(), is(0));
+    }
+
+    @Test
+    public void testSameTransactionTrackedTwice() throws Exception {
+        Neow3jService service = mockService();
+        Neow3j neow3j = Neow3j.build(service, defaultNeow3jConfig().setPollingInterval(10));
+        TransactionTracker tracker = neow3j.getTransactionTracker();
+
+        CompletableFuture<Long> first = tracker.track(TX_1, BigInteger.ZERO, 100);
+        CompletableFuture<Long> second = tracker.track(TX_1, BigInteger.ZERO, 100);
+        second.cancel(false);
+
+        assertThat(first.get(5, TimeUnit.SECONDS), is(3L));
+    }
+
+    @Test
+    public void testCancellingFirstCallerKeepsTrackingForOthers() throws Exception {
+        Neow3jService service = mockService();
+        Neow3j neow3j = Neow3j.build(service, defaultNeow3jConfig().setPollingInterval(10));
+        TransactionTracker tracker = neow3j.getTransactionTracker();
+
+        CompletableFuture<Long> first = tracker.track(TX_1, BigInteger.ZERO, 100);
+        CompletableFuture<Long> second = tracker.track(TX_1, BigInteger.ZERO, 100);
+        first.cancel(false);
+
+        assertThat(second.get(5, TimeUnit.SECONDS), is(3L));
+    }
+
+    @Test
+    public void testTrackingStopsWhenAllCallersCancelled() throws Exception {
+        Neow3jService service = mockService();
+        Neow3j neow3j = Neow3j.build(service, defaultNeow3jConfig().setPollingInterval(10));
+        TransactionTracker tracker = neow3j.getTransactionTracker();
+
+        // TX_4 is not contained in any block.
+        CompletableFuture<Long> first = tracker.track(TX_4, BigInteger.ZERO, 100);
+        CompletableFuture<Long> second = tracker.track(TX_4, BigInteger.ZERO, 100);
+        first.cancel(false);
+        assertThat(tracker.getPendingCount(), is(1));
+        second.cancel(false);
+        assertThat(tracker.getPendingCount(), is(0));
+    }
+
+    // Mocks a chain of 5 blocks in which block 3 contains the transactions TX_1 and TX_2.
+    private static Neow3jService mockService() throws IOException {
+        Neow3jService service = mock(Neow3jService.class);
+        NeoGetVersion.NeoVersion.Protocol protocol = new NeoGetVersion.NeoVersion.Protocol();
+        protocol.setNetwork(768L);
+        protocol.setMilliSecondsPerBlock(1000L);
+        NeoGetVersion.NeoVersion version = new NeoGetVersion.NeoVersion();
+        version.setProtocol(protocol);
+        NeoGetVersion neoGetVersion = new NeoGetVersion();
+        neoGetVersion.setResult(version);
+        when(service.send(any(Request.class), eq(NeoGetVersion.class))).thenReturn(neoGetVersion);
+
+        NeoBlockCount blockCount = new NeoBlockCount();
+        blockCount.setResult(BigInteger.valueOf(5));
+        when(service.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(blockCount);
+
+        when(service.sendAsync(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            Request<?, ?> request = invocation.getArgument(0);
+            int index = ((BigInteger) request.getParams().get(0)).intValue();
+            List<Transaction> txs = index == 3 ? asList(tx(TX_1), tx(TX_2)) : Collections.emptyList();
+            NeoGetBlock neoGetBlock = new NeoGetBlock();
+            neoGetBlock.setResult(new NeoBlock(null, 0L, 0, null, null, 123456789, "7F8EEE652D4BC959", index, 0,
+                    "nonce", null, txs, 1, null));
+            return CompletableFuture.completedFuture(neoGetBlock);
+        });
+
+        NeoGetTransactionHeight unknown = new NeoGetTransactionHeight();
+        unknown.setError(new Response.Error(-100, "Unknown transaction"));
+        when(service.sendAsync(any(Request.class), eq(NeoGetTransactionHeight.class)))
+                .thenReturn(CompletableFuture.completedFuture(unknown));
+        return service;
+    }
+
+    private static Transaction tx(Hash256 txHash) {
+        return new Transaction(txHash, 0, 0, 0L, "", "", "", 0L, null, null, null, null);
+    }
+
+}
@@ -1,20 +1,34 @@
 package io.neow3j.protocol.http;
 
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.response.NeoBlockCount;
 import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.exceptions.RpcResponseErrorException;
+import io.neow3j.protocol.metrics.RequestEvent;
+import io.neow3j.protocol.metrics.RequestRecorder;
 import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
+import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.Buffer;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -27,9 +41,14 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static java.lang.String.format;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class HttpServiceTest {
@@ -103,6 +122,50 @@ public class HttpServiceTest {
         fail("No exception");
     }
 
+    @Test
+    public void testSendBatch() throws IOException {
+        Request<String, NeoBlockCount> request1 = new Request<>(
+                "getblockcount",
+                Collections.emptyList(),
+                httpService,
+                NeoBlockCount.class);
+        Request<String, NeoBlockCount> request2 = new Request<>(
+                "getblockcount",
+                Collections.emptyList(),
+                httpService,
+                NeoBlockCount.class);
+
+        // The responses are deliberately returned in a different order than the requests.
+        String content = format("[{\"jsonrpc\":\"2.0\",\"id\":%d,\"result\":2}," +
+                "{\"jsonrpc\":\"2.0\",\"id\":%d,\"result\":1}]", request2.getId(), request1.getId());
+        HttpService mockedHttpService = new HttpService(mockHttpClient(content));
+
+        BatchResponse batchResponse = new BatchRequest(mockedHttpService)
+                .add(request1)
+                .add(request2)
+                .send();
+
+        assertThat(batchResponse.getResponses().size(), is(2));
+        assertThat(batchResponse.getResponse(request1).getBlockCount().intValue(), is(1));
+        assertThat(batchResponse.getResponse(request2).getBlockCount().intValue(), is(2));
+    }
+
+    @Test
+    public void testSendBatchWithErrorObject() {
+        String content = "{\"jsonrpc\":\"2.0\",\"id\":null,\"error\":{\"code\":-32600," +
+                "\"message\":\"Invalid Request\"}}";
+        HttpService mockedHttpService = new HttpService(mockHttpClient(content));
+        Request<String, NeoBlockCount> request = new Request<>(
+                "getblockcount",
+                Collections.emptyList(),
+                mockedHttpService,
+                NeoBlockCount.class);
+
+        RpcResponseErrorException thrown = assertThrows(RpcResponseErrorException.class,
+                () -> new BatchRequest(mockedHttpService).add(request).send());
+        assertThat(thrown.getMessage(), containsString("Invalid Request"));
+    }
+
     @Test
     public void testAsyncWithExternalExecutor() {
         TestExecutorService executor = new TestExecutorService();
@@ -149,6 +212,165 @@ public class HttpServiceTest {
         assertThat(executor.isCalled(), is(true));
     }
 
+    @Test
+    public void testSendAsyncEnqueuesCall() throws Exception {
+        Response response = new Response.Builder()
+                .code(200)
+                .message("")
+                .body(ResponseBody.create("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":5}",
+                        HttpService.JSON_MEDIA_TYPE))
+                .request(new okhttp3.Request.Builder()
+                        .url(HttpService.DEFAULT_URL)
+                        .build())
+                .protocol(Protocol.HTTP_1_1)
+                .build();
+
+        Call call = Mockito.mock(Call.class);
+        Mockito.doAnswer(invocation -> {
+            Callback callback = invocation.getArgument(0);
+            callback.onResponse(call, response);
+            return null;
+        }).when(call).enqueue(Mockito.any());
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        Mockito.when(httpClient.newCall(Mockito.any())).thenReturn(call);
+        HttpService mockedHttpService = new HttpService(httpClient);
+
+        Request<String, NeoBlockCount> request = new Request<>(
+                "getblockcount",
+                Collections.emptyList(),
+                mockedHttpService,
+                NeoBlockCount.class);
+
+        NeoBlockCount result = mockedHttpService.sendAsync(request, NeoBlockCount.class).get(5, TimeUnit.SECONDS);
+        assertThat(result.getBlockCount().intValue(), is(5));
+        Mockito.verify(call, Mockito.never()).execute();
+    }
+
+    @Test
+    public void testRequestBodyIsBufferedByDefault() throws IOException {
+        OkHttpClient httpClient = mockHttpClient("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":5}");
+        HttpService mockedHttpService = new HttpService(httpClient);
+        Request<String, NeoBlockCount> request = new Request<>(
+                "sendrawtransaction",
+                Collections.singletonList("AAECAwQFBgcICQ=="),
+                mockedHttpService,
+                NeoBlockCount.class);
+
+        mockedHttpService.send(request, NeoBlockCount.class);
+
+        ArgumentCaptor<okhttp3.Request> captor = ArgumentCaptor.forClass(okhttp3.Request.class);
+        Mockito.verify(httpClient).newCall(captor.capture());
+        RequestBody body = captor.getValue().body();
+        String expected = format("{\"jsonrpc\":\"2.0\",\"method\":\"sendrawtransaction\"," +
+                "\"params\":[\"AAECAwQFBgcICQ==\"],\"id\":%d}", request.getId());
+        assertThat(body.contentLength(), is((long) expected.length()));
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        assertThat(buffer.readUtf8(), is(expected));
+    }
+
+    @Test
+    public void testRequestBodyIsStreamed() throws IOException {
+        OkHttpClient httpClient = mockHttpClient("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":5}");
+        HttpService mockedHttpService = new HttpService(httpClient);
+        mockedHttpService.setStreamRequests(true);
+        Request<String, NeoBlockCount> request = new Request<>(
+                "sendrawtransaction",
+                Collections.singletonList("AAECAwQFBgcICQ=="),
+                mockedHttpService,
+                NeoBlockCount.class);
+
+        mockedHttpService.send(request, NeoBlockCount.class);
+
+        ArgumentCaptor<okhttp3.Request> captor = ArgumentCaptor.forClass(okhttp3.Request.class);
+        Mockito.verify(httpClient).newCall(captor.capture());
+        RequestBody body = captor.getValue().body();
+        assertThat(body, is(instanceOf(JsonRequestBody.class)));
+        assertThat(body.contentLength(), is(-1L));
+
+        // The body can be written more than once, e.g., if OkHttp retries the request.
+        for (int i = 0; i < 2; i++) {
+            Buffer buffer = new Buffer();
+            body.writeTo(buffer);
+            assertThat(buffer.readUtf8(), is(format("{\"jsonrpc\":\"2.0\",\"method\":\"sendrawtransaction\"," +
+                    "\"params\":[\"AAECAwQFBgcICQ==\"],\"id\":%d}", request.getId())));
+        }
+    }
+
+    @Test
+    public void testOverriddenPerformIOReceivesRequests() throws Exception {
+        List<String> payloads = new ArrayList<>();
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        HttpService customService = new HttpService(httpClient) {
+            {
+                setCustomPerformIO(true);
+            }
+
+            @Override
+            protected InputStream performIO(String request) {
+                payloads.add(request);
+                return new ByteArrayInputStream("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":5}"
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        Request<String, NeoBlockCount> request = new Request<>(
+                "getblockcount",
+                Collections.emptyList(),
+                customService,
+                NeoBlockCount.class);
+
+        assertThat(customService.send(request, NeoBlockCount.class).getBlockCount().intValue(), is(5));
+        assertThat(customService.sendAsync(request, NeoBlockCount.class).get(5, TimeUnit.SECONDS)
+                .getBlockCount().intValue(), is(5));
+
+        String expected = format("{\"jsonrpc\":\"2.0\",\"method\":\"getblockcount\",\"params\":[],\"id\":%d}",
+                request.getId());
+        assertThat(payloads, is(asList(expected, expected)));
+        Mockito.verify(httpClient, Mockito.never()).newCall(Mockito.any());
+    }
+
+    @Test
+    public void testStreamedRequestBytesAreRecordedOnce() throws IOException {
+        RequestEvent[] events = new RequestEvent[1];
+        RequestRecorder recorder = RequestRecorder.start(event -> events[0] = event, "getblockcount");
+        Request<String, NeoBlockCount> request = new Request<>(
+                "getblockcount",
+                Collections.emptyList(),
+                new HttpService(),
+                NeoBlockCount.class);
+        JsonRequestBody body = new JsonRequestBody(ObjectMapperFactory.getObjectMapper(), request, recorder);
+
+        // The body is written again if OkHttp retries the request.
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        long size = buffer.size();
+        body.writeTo(new Buffer());
+        recorder.onSuccess(null);
+
+        assertThat(events[0].getRequestBytes(), is(size));
+    }
+
+    private OkHttpClient mockHttpClient(String content) {
+        Response response = new Response.Builder()
+                .code(200)
+                .message("")
+                .body(ResponseBody.create(content, HttpService.JSON_MEDIA_TYPE))
+                .request(new okhttp3.Request.Builder()
+                        .url(HttpService.DEFAULT_URL)
+                        .build())
+                .protocol(Protocol.HTTP_1_1)
+                .build();
+
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        Mockito.when(httpClient.newCall(Mockito.any()))
+                .thenAnswer(invocation -> {
+                    Call call = Mockito.mock(Call.class);
+                    Mockito.when(call.execute()).thenReturn(response);
+                    return call;
+                });
+        return httpClient;
+    }
+
     private class TestExecutorService implements ExecutorService {
 
         private boolean isCalled = false;
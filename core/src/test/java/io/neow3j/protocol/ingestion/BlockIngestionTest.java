@@ -0,0 +1,128 @@
+package io.neow3j.protocol.ingestion;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.core.response.NeoGetVersion;
+import io.reactivex.disposables.Disposable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static io.neow3j.protocol.Neow3jConfig.defaultNeow3jConfig;
+import static java.util.Arrays.asList;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BlockIngestionTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testFileCursorStore() throws IOException {
+        Path file = tempDir.resolve("cursor");
+        FileCursorStore store = new FileCursorStore(file);
+        assertThat(store.load(), is(nullValue()));
+
+        store.store(BigInteger.valueOf(41));
+        store.store(BigInteger.valueOf(42));
+
+        assertThat(new FileCursorStore(file).load(), is(BigInteger.valueOf(42)));
+        assertThat(Files.exists(tempDir.resolve("cursor.tmp")), is(false));
+    }
+
+    @Test
+    public void testFileCursorStoreWithInvalidContent() throws IOException {
+        Path file = tempDir.resolve("cursor");
+        Files.write(file, "invalid".getBytes());
+
+        assertThrows(IOException.class, () -> new FileCursorStore(file).load());
+    }
+
+    @Test
+    public void testResumeFromStoredCursor() throws Exception {
+        FileCursorStore store = new FileCursorStore(tempDir.resolve("cursor"));
+        store.store(BigInteger.valueOf(2));
+        BlockIngestion ingestion = new BlockIngestion(buildNeow3j(5), store);
+        assertThat(ingestion.getResumeBlock(), is(BigInteger.valueOf(3)));
+
+        List<Long> handled = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        Disposable disposable = ingestion.run(block -> {
+            handled.add(block.getBlock().getIndex());
+            latch.countDown();
+        }).subscribe();
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        // The cursor is committed right after the handler returned.
+        await().atMost(5, TimeUnit.SECONDS).until(() -> BigInteger.valueOf(4).equals(store.load()));
+        disposable.dispose();
+
+        assertThat(handled, is(asList(3L, 4L)));
+    }
+
+    @Test
+    public void testFailedBlockIsNotCommitted() throws Exception {
+        FileCursorStore store = new FileCursorStore(tempDir.resolve("cursor"));
+        BlockIngestion ingestion = new BlockIngestion(buildNeow3j(5), store).setCommitInterval(10);
+
+        Throwable error = ingestion.run(block -> {
+            if (block.getBlock().getIndex() == 2) {
+                throw new IllegalStateException("Processing failed.");
+            }
+        }).blockingGet();
+
+        assertThat(error.getMessage(), is("Processing failed."));
+        // The blocks processed before the failure are committed when the ingestion stops.
+        assertThat(store.load(), is(BigInteger.ONE));
+        assertThat(ingestion.getResumeBlock(), is(BigInteger.valueOf(2)));
+    }
+
+    private static Neow3j buildNeow3j(long blockCount) throws IOException {
+        Neow3jService service = mock(Neow3jService.class);
+        NeoGetVersion.NeoVersion.Protocol protocol = new NeoGetVersion.NeoVersion.Protocol();
+        protocol.setNetwork(768L);
+        protocol.setMilliSecondsPerBlock(1000L);
+        NeoGetVersion.NeoVersion version = new NeoGetVersion.NeoVersion();
+        version.setProtocol(protocol);
+        NeoGetVersion neoGetVersion = new NeoGetVersion();
+        neoGetVersion.setResult(version);
+        when(service.send(any(Request.class), eq(NeoGetVersion.class))).thenReturn(neoGetVersion);
+
+        NeoBlockCount neoBlockCount = new NeoBlockCount();
+        neoBlockCount.setResult(BigInteger.valueOf(blockCount));
+        when(service.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(neoBlockCount);
+
+        when(service.sendAsync(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            Request<?, ?> request = invocation.getArgument(0);
+            int index = ((BigInteger) request.getParams().get(0)).intValue();
+            NeoGetBlock neoGetBlock = new NeoGetBlock();
+            neoGetBlock.setResult(new NeoBlock(null, 0L, 0, null, null, 123456789, "7F8EEE652D4BC959", index, 0,
+                    "nonce", null, null, 1, null));
+            return CompletableFuture.completedFuture(neoGetBlock);
+        });
+        return Neow3j.build(service, defaultNeow3jConfig().setPollingInterval(50));
+    }
+
+}
@@ -0,0 +1,74 @@
+package io.neow3j.protocol.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RequestLimiterTest {
+
+    @Test
+    public void testMaxInFlight() throws Exception {
+        RequestLimiter limiter = RequestLimiter.fixed(2);
+
+        CompletableFuture<Void> first = limiter.acquireAsync();
+        CompletableFuture<Void> second = limiter.acquireAsync();
+        CompletableFuture<Void> third = limiter.acquireAsync();
+        assertThat(first.isDone(), is(true));
+        assertThat(second.isDone(), is(true));
+        assertThat(third.isDone(), is(false));
+        assertThat(limiter.getInFlight(), is(2));
+        assertThat(limiter.getWaiting(), is(1));
+
+        limiter.release(0, false);
+        third.get(1, TimeUnit.SECONDS);
+        assertThat(limiter.getInFlight(), is(2));
+        assertThat(limiter.getWaiting(), is(0));
+    }
+
+    @Test
+    public void testRateLimit() throws Exception {
+        RequestLimiter limiter = RequestLimiter.fixed(10, 20);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+            limiter.release(0, false);
+        }
+        // 5 requests at 20 per second take at least 4 * 50 ms.
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(190L));
+    }
+
+    @Test
+    public void testAdaptiveLimit() throws Exception {
+        RequestLimiter limiter = RequestLimiter.adaptive(10, 2, 20, 0, 100);
+
+        limiter.acquire();
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(10), true);
+        assertThat(limiter.getLimit(), is(9));
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire();
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(500), false);
+        }
+        assertThat(limiter.getLimit(), is(2));
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire();
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+        }
+        assertThat(limiter.getLimit(), greaterThanOrEqualTo(10));
+    }
+
+    @Test
+    public void testInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> RequestLimiter.fixed(0));
+        assertThrows(IllegalArgumentException.class, () -> RequestLimiter.adaptive(1, 2, 3, 0, 100));
+    }
+
+}
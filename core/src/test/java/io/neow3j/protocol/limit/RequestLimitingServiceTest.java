@@ -0,0 +1,61 @@
+package io.neow3j.protocol.limit;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RequestLimitingServiceTest {
+
+    @Test
+    public void testCancelledRequestReleasesItsSlot() {
+        CompletableFuture<NeoBlockCount> pending = new CompletableFuture<>();
+        Neow3jService delegate = mock(Neow3jService.class);
+        when(delegate.sendAsync(any(), eq(NeoBlockCount.class))).thenReturn(pending);
+        RequestLimiter limiter = RequestLimiter.adaptive(2, 1, 20, 0, 100);
+        RequestLimitingService service = new RequestLimitingService(delegate, limiter);
+
+        CompletableFuture<NeoBlockCount> result = new Request<>("getblockcount", Collections.emptyList(), service,
+                NeoBlockCount.class).sendAsync();
+        assertThat(limiter.getInFlight(), is(1));
+
+        result.cancel(true);
+        assertThat(limiter.getInFlight(), is(0));
+        assertThat(limiter.getLimit(), is(2));
+        assertThat(pending.isCancelled(), is(true));
+    }
+
+    @Test
+    public void testRequestCancelledWhileWaitingIsNotSent() {
+        CompletableFuture<NeoBlockCount> pending = new CompletableFuture<>();
+        Neow3jService delegate = mock(Neow3jService.class);
+        when(delegate.sendAsync(any(), eq(NeoBlockCount.class))).thenReturn(pending);
+        RequestLimiter limiter = RequestLimiter.fixed(1);
+        RequestLimitingService service = new RequestLimitingService(delegate, limiter);
+
+        CompletableFuture<NeoBlockCount> first = new Request<>("getblockcount", Collections.emptyList(), service,
+                NeoBlockCount.class).sendAsync();
+        CompletableFuture<NeoBlockCount> second = new Request<>("getblockcount", Collections.emptyList(), service,
+                NeoBlockCount.class).sendAsync();
+        assertThat(limiter.getWaiting(), is(1));
+
+        second.cancel(true);
+        first.cancel(true);
+        assertThat(limiter.getInFlight(), is(0));
+        assertThat(limiter.getWaiting(), is(0));
+        verify(delegate, times(1)).sendAsync(any(), eq(NeoBlockCount.class));
+    }
+
+}
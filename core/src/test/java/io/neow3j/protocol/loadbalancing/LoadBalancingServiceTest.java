@@ -0,0 +1,291 @@
+package io.neow3j.protocol.loadbalancing;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.InvocationResult;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoInvokeFunction;
+import io.neow3j.protocol.core.response.NeoSendRawTransaction;
+import io.neow3j.protocol.core.response.NeoTerminateSession;
+import io.neow3j.protocol.core.response.NeoTraverseIterator;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LoadBalancingServiceTest {
+
+    @Test
+    public void testRoundRobin() throws IOException {
+        Neow3jService service1 = mockService(1);
+        Neow3jService service2 = mockService(2);
+        LoadBalancingService service = new LoadBalancingService(Arrays.asList(service1, service2));
+
+        assertThat(send(service).getBlockCount().intValue(), is(1));
+        assertThat(send(service).getBlockCount().intValue(), is(2));
+        assertThat(send(service).getBlockCount().intValue(), is(1));
+    }
+
+    @Test
+    public void testFailoverAndEjection() throws IOException {
+        Neow3jService failing = mock(Neow3jService.class);
+        when(failing.send(any(), eq(NeoBlockCount.class)))
+                .thenThrow(new ClientConnectionException("Invalid response received: 503; N/A"));
+        Neow3jService healthy = mockService(2);
+        LoadBalancingService service = new LoadBalancingService(Arrays.asList(failing, healthy))
+                .setFailureThreshold(1);
+
+        // The first request is routed to the failing endpoint and fails over to the healthy one.
+        assertThat(send(service).getBlockCount().intValue(), is(2));
+        assertThat(service.getEndpoints().get(0).isEjected(System.currentTimeMillis()), is(true));
+
+        // The failing endpoint is ejected, thus, it does not receive any further requests.
+        send(service);
+        send(service);
+        verify(failing, times(1)).send(any(), eq(NeoBlockCount.class));
+        verify(healthy, times(3)).send(any(), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testReadmission() throws IOException {
+        Neow3jService failing = mock(Neow3jService.class);
+        when(failing.send(any(), eq(NeoBlockCount.class)))
+                .thenThrow(new ClientConnectionException("Invalid response received: 503; N/A"));
+        Neow3jService healthy = mockService(2);
+        LoadBalancingService service = new LoadBalancingService(Arrays.asList(failing, healthy))
+                .setFailureThreshold(1)
+                .setEjectionTime(0);
+
+        send(service);
+        // With an ejection time of zero the failing endpoint is readmitted immediately.
+        send(service);
+        verify(failing, times(2)).send(any(), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testReadmissionResetsHealth() throws IOException {
+        Neow3jService failing = mock(Neow3jService.class);
+        when(failing.send(any(), eq(NeoBlockCount.class)))
+                .thenThrow(new ClientConnectionException("Invalid response received: 503; N/A"));
+        Neow3jService healthy = mockService(2);
+        LoadBalancingService service = new LoadBalancingService(Arrays.asList(failing, healthy),
+                SelectionPolicy.lowestLatency())
+                .setFailureThreshold(1)
+                .setEjectionTime(0);
+        Endpoint failingEndpoint = service.getEndpoints().get(0);
+        Endpoint healthyEndpoint = service.getEndpoints().get(1);
+
+        send(service);
+        assertThat(failingEndpoint.getConsecutiveFailures(), is(1));
+        assertThat(failingEndpoint.getLatencyEwma(), is(0.0));
+
+        // The failing endpoint is readmitted on the next selection. It must not be preferred because it never
+        // answered.
+        service.selectEndpoint(Collections.emptyList());
+        assertThat(failingEndpoint.getConsecutiveFailures(), is(0));
+        assertThat(failingEndpoint.getLatencyEwma(), is(healthyEndpoint.getLatencyEwma()));
+        assertThat(failingEndpoint.getLatencyEwma(), greaterThan(0.0));
+    }
+
+    @Test
+    public void testTimedOutSendRawTransactionIsNotFailedOver() throws IOException {
+        Neow3jService timingOut = mock(Neow3jService.class);
+        when(timingOut.send(any(), eq(NeoSendRawTransaction.class))).thenThrow(new SocketTimeoutException("timeout"));
+        Neow3jService other = mock(Neow3jService.class);
+        LoadBalancingService service = new LoadBalancingService(Arrays.asList(timingOut, other));
+
+        // The node may have received the transaction, thus, it must not be sent to another node.
+        assertThrows(SocketTimeoutException.class, () -> sendRawTransaction(service).send());
+        verify(other, never()).send(any(), any());
+    }
+
+    @Test
+    public void testTimedOutSendRawTransactionIsNotFailedOverAsync() {
+        CompletableFuture<NeoSendRawTransaction> timeout = new CompletableFuture<>();
+        timeout.completeExceptionally(new SocketTimeoutException("timeout"));
+        Neow3jService timingOut = mock(Neow3jService.class);
+        when(timingOut.sendAsync(any(), eq(NeoSendRawTransaction.class))).thenReturn(timeout);
+        Neow3jService other = mock(Neow3jService.class);
+        LoadBalancingService service = new LoadBalancingService(Arrays.asList(timingOut, other));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> sendRawTransaction(service).sendAsync().get(5, TimeUnit.SECONDS));
+        assertThat(thrown.getCause(), instanceOf(SocketTimeoutException.class));
+        verify(other, never()).sendAsync(any(), any());
+    }
+
+    @Test
+    public void testSendRawTransactionFailsOverIfNotConnected() throws IOException {
+        Neow3jService unreachable = mock(Neow3jService.class);
+        when(unreachable.send(any(), eq(NeoSendRawTransaction.class)))
+                .thenThrow(new ConnectException("Connection refused"));
+        NeoSendRawTransaction response = new NeoSendRawTransaction();
+        Neow3jService other = mock(Neow3jService.class);
+        when(other.send(any(), eq(NeoSendRawTransaction.class))).thenReturn(response);
+        LoadBalancingService service = new LoadBalancingService(Arrays.asList(unreachable, other));
+
+        assertThat(sendRawTransaction(service).send(), is(response));
+    }
+
+    @Test
+    public void testAllEndpointsFail() throws IOException {
+        Neow3jService failing1 = mock(Neow3jService.class);
+        when(failing1.send(any(), eq(NeoBlockCount.class))).thenThrow(new IOException("Connection refused"));
+        Neow3jService failing2 = mock(Neow3jService.class);
+        when(failing2.send(any(), eq(NeoBlockCount.class))).thenThrow(new IOException("Connection refused"));
+        LoadBalancingService service = new LoadBalancingService(Arrays.asList(failing1, failing2));
+
+        assertThrows(IOException.class, () -> send(service));
+        verify(failing1, times(1)).send(any(), eq(NeoBlockCount.class));
+        verify(failing2, times(1)).send(any(), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testLeastOutstandingRequests() throws IOException {
+        Neow3jService service1 = mockService(1);
+        Neow3jService service2 = mockService(2);
+        LoadBalancingService service = new LoadBalancingService(Arrays.asList(service1, service2),
+                SelectionPolicy.leastOutstandingRequests());
+        // Simulate a request that is still in flight on the first endpoint.
+        service.getEndpoints().get(0).onRequestStart();
+
+        assertThat(send(service).getBlockCount().intValue(), is(2));
+        verify(service1, never()).send(any(), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testHedging() throws Exception {
+        Neow3jService slow = mock(Neow3jService.class);
+        when(slow.sendAsync(any(), eq(NeoBlockCount.class))).thenReturn(new CompletableFuture<>());
+        Neow3jService fast = mockService(2);
+        LoadBalancingService service = new LoadBalancingService(Arrays.asList(slow, fast))
+                .enableHedging(0.95, 10);
+
+        Request<?, NeoBlockCount> request = new Request<>("getblockcount", Collections.emptyList(), service,
+                NeoBlockCount.class);
+        NeoBlockCount result = request.sendAsync().get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getBlockCount().intValue(), is(2));
+        verify(slow, times(1)).sendAsync(any(), eq(NeoBlockCount.class));
+        verify(fast, times(1)).sendAsync(any(), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testSendRawTransactionIsNotHedged() throws Exception {
+        NeoSendRawTransaction response = new NeoSendRawTransaction();
+        Neow3jService slow = mock(Neow3jService.class);
+        when(slow.sendAsync(any(), eq(NeoSendRawTransaction.class))).thenReturn(
+                CompletableFuture.supplyAsync(() -> {
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException ignored) {
+                    }
+                    return response;
+                }));
+        Neow3jService other = mock(Neow3jService.class);
+        LoadBalancingService service = new LoadBalancingService(Arrays.asList(slow, other))
+                .enableHedging(0.95, 1);
+
+        Request<?, NeoSendRawTransaction> request = new Request<>("sendrawtransaction",
+                Collections.singletonList("AAAA"), service, NeoSendRawTransaction.class);
+
+        assertThat(request.sendAsync().get(5, TimeUnit.SECONDS), is(response));
+        verify(other, never()).sendAsync(any(), any());
+    }
+
+    @Test
+    public void testInvokeFunctionIsNotHedged() throws Exception {
+        NeoInvokeFunction response = new NeoInvokeFunction();
+        response.setResult(new InvocationResult(null, null, null, null, null, null, null, null, null, "s1"));
+        Neow3jService slow = mock(Neow3jService.class);
+        when(slow.sendAsync(any(), eq(NeoInvokeFunction.class))).thenReturn(
+                CompletableFuture.supplyAsync(() -> {
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException ignored) {
+                    }
+                    return response;
+                }));
+        Neow3jService other = mock(Neow3jService.class);
+        LoadBalancingService service = new LoadBalancingService(Arrays.asList(slow, other))
+                .enableHedging(0.95, 1);
+
+        Request<?, NeoInvokeFunction> request = new Request<>("invokefunction",
+                Arrays.asList("0x1234", "iterate"), service, NeoInvokeFunction.class);
+
+        assertThat(request.sendAsync().get(5, TimeUnit.SECONDS), is(response));
+        verify(other, never()).sendAsync(any(), any());
+    }
+
+    @Test
+    public void testSessionRequestsAreSentToTheEndpointThatOpenedTheSession() throws Exception {
+        NeoInvokeFunction invokeResponse = new NeoInvokeFunction();
+        invokeResponse.setResult(new InvocationResult(null, null, null, null, null, null, null, null, null, "s1"));
+        Neow3jService first = mock(Neow3jService.class);
+        when(first.send(any(), eq(NeoInvokeFunction.class))).thenReturn(invokeResponse);
+        when(first.send(any(), eq(NeoTraverseIterator.class))).thenReturn(new NeoTraverseIterator());
+        when(first.sendAsync(any(), eq(NeoTerminateSession.class)))
+                .thenReturn(CompletableFuture.completedFuture(new NeoTerminateSession()));
+        Neow3jService second = mockService(2);
+        LoadBalancingService service = new LoadBalancingService(Arrays.asList(first, second));
+
+        new Request<>("invokefunction", Arrays.asList("0x1234", "iterate"), service, NeoInvokeFunction.class)
+                .send();
+        // Without pinning, round-robin would route the following requests to the second endpoint.
+        new Request<>("traverseiterator", Arrays.asList("s1", "i1", 10), service, NeoTraverseIterator.class)
+                .send();
+        new Request<>("terminatesession", Collections.singletonList("s1"), service, NeoTerminateSession.class)
+                .sendAsync().get(5, TimeUnit.SECONDS);
+
+        verify(first, times(1)).send(any(), eq(NeoTraverseIterator.class));
+        verify(first, times(1)).sendAsync(any(), eq(NeoTerminateSession.class));
+        verify(second, never()).send(any(), any());
+        verify(second, never()).sendAsync(any(), any());
+
+        // The terminated session is forgotten, thus, requests referring to it are balanced again.
+        send(service);
+        verify(second, times(1)).send(any(), eq(NeoBlockCount.class));
+    }
+
+    private Request<?, NeoSendRawTransaction> sendRawTransaction(LoadBalancingService service) {
+        return new Request<>("sendrawtransaction", Collections.singletonList("AAAA"), service,
+                NeoSendRawTransaction.class);
+    }
+
+    private NeoBlockCount send(LoadBalancingService service) throws IOException {
+        Request<?, NeoBlockCount> request = new Request<>("getblockcount", Collections.emptyList(), service,
+                NeoBlockCount.class);
+        return request.send();
+    }
+
+    private Neow3jService mockService(int blockCount) throws IOException {
+        NeoBlockCount response = new NeoBlockCount();
+        response.setResult(BigInteger.valueOf(blockCount));
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(), eq(NeoBlockCount.class))).thenReturn(response);
+        when(service.sendAsync(any(), eq(NeoBlockCount.class))).thenReturn(CompletableFuture.completedFuture(response));
+        return service;
+    }
+
+}
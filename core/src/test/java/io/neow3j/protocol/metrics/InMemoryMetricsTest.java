@@ -0,0 +1,90 @@
+package io.neow3j.protocol.metrics;
+
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.http.HttpService;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class InMemoryMetricsTest {
+
+    private static final String RESULT = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":5}";
+    private static final String ERROR = "{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":-100,\"message\":\"x\"}}";
+
+    @Test
+    public void testRecordRequests() throws IOException {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        HttpService service = new HttpService(mockHttpClient(200, RESULT, 200, ERROR, 503, "N/A"));
+        service.setMetrics(metrics);
+
+        service.send(getBlockCount(service), NeoBlockCount.class);
+        service.send(getBlockCount(service), NeoBlockCount.class);
+        assertThrows(ClientConnectionException.class, () -> service.send(getBlockCount(service),
+                NeoBlockCount.class));
+
+        MethodMetrics methodMetrics = metrics.getMethodMetrics("getblockcount");
+        assertThat(methodMetrics.getRequestCount(), is(3L));
+        assertThat(methodMetrics.getCount(RequestEvent.Outcome.SUCCESS), is(1L));
+        assertThat(methodMetrics.getCount(RequestEvent.Outcome.RPC_ERROR), is(1L));
+        assertThat(methodMetrics.getCount(RequestEvent.Outcome.STATUS_ERROR), is(1L));
+        assertThat(methodMetrics.getErrorCount(), is(2L));
+        assertThat(methodMetrics.getResponseBytes(), is((long) (RESULT.length() + ERROR.length())));
+        assertThat(methodMetrics.getDeserialization().getCount(), is(2L));
+        assertThat(methodMetrics.getTimeToFirstByte().getCount(), is(3L));
+        assertThat(methodMetrics.getLatency().getMax(), greaterThan(0L));
+    }
+
+    @Test
+    public void testListenerReceivesErrorCode() throws IOException {
+        RequestEvent[] events = new RequestEvent[1];
+        HttpService service = new HttpService(mockHttpClient(200, ERROR));
+        service.setMetrics(event -> events[0] = event);
+
+        service.send(getBlockCount(service), NeoBlockCount.class);
+
+        assertThat(events[0].getMethod(), is("getblockcount"));
+        assertThat(events[0].getOutcome(), is(RequestEvent.Outcome.RPC_ERROR));
+        assertThat(events[0].getErrorCode(), is(-100));
+        assertThat(events[0].getResponseBytes(), is((long) ERROR.length()));
+    }
+
+    private static Request<?, NeoBlockCount> getBlockCount(HttpService service) {
+        return new Request<>("getblockcount", Collections.emptyList(), service, NeoBlockCount.class);
+    }
+
+    // Takes pairs of status codes and bodies that are returned in the given order.
+    private static OkHttpClient mockHttpClient(Object... responses) {
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        int[] next = {0};
+        Mockito.when(httpClient.newCall(Mockito.any())).thenAnswer(invocation -> {
+            int i = next[0];
+            next[0] += 2;
+            Response response = new Response.Builder()
+                    .code((int) responses[i])
+                    .message("")
+                    .body(ResponseBody.create((String) responses[i + 1], HttpService.JSON_MEDIA_TYPE))
+                    .request(invocation.getArgument(0))
+                    .protocol(Protocol.HTTP_1_1)
+                    .build();
+            Call call = Mockito.mock(Call.class);
+            Mockito.when(call.execute()).thenReturn(response);
+            return call;
+        });
+        return httpClient;
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.neow3j.protocol.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+        assertThat(histogram.getCount(), is(10L));
+        assertThat(histogram.getSum(), is(55L));
+        assertThat(histogram.getMax(), is(10L));
+        assertThat(histogram.getValueAtPercentile(0.5), is(5L));
+        assertThat(histogram.getValueAtPercentile(1), is(10L));
+    }
+
+    @Test
+    public void testPercentilesOfLargeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000);
+        }
+        long p99 = histogram.getValueAtPercentile(0.99);
+        assertThat(p99, greaterThanOrEqualTo(990_000_000L));
+        assertThat(p99, lessThanOrEqualTo((long) (990_000_000L * (1 + 1.0 / LatencyHistogram.SUB_BUCKET_COUNT))));
+        assertThat(histogram.getValueAtPercentile(1), is(1_000_000_000L));
+    }
+
+    @Test
+    public void testBucketBounds() {
+        long[] values = {0, 31, 32, 63, 64, 65, 1000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertThat(LatencyHistogram.highestValueInBucket(index), greaterThanOrEqualTo(value));
+            if (index > 0) {
+                assertThat(LatencyHistogram.highestValueInBucket(index - 1), lessThanOrEqualTo(value - 1));
+            }
+        }
+    }
+
+    @Test
+    public void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+        histogram.reset();
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getValueAtPercentile(0.5), is(0L));
+    }
+
+}
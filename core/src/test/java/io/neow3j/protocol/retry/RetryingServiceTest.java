@@ -0,0 +1,168 @@
+package io.neow3j.protocol.retry;
+
+import io.neow3j.crypto.Base64;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoGetRawTransaction;
+import io.neow3j.protocol.core.response.NeoSendRawTransaction;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.transaction.Transaction;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RetryingServiceTest {
+
+    private final RetryPolicy policy = new RetryPolicy().setBackoff(0, 0, 2);
+
+    @Test
+    public void testRetryIdempotentRequest() throws IOException {
+        Neow3jService delegate = mock(Neow3jService.class);
+        when(delegate.send(any(), eq(NeoBlockCount.class)))
+                .thenThrow(new IOException("Connection reset"))
+                .thenReturn(blockCount(5));
+        RetryingService service = new RetryingService(delegate, policy);
+
+        assertThat(service.send(getBlockCount(service), NeoBlockCount.class).getBlockCount().intValue(), is(5));
+        verify(delegate, times(2)).send(any(), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testRetryAsync() throws Exception {
+        Neow3jService delegate = mock(Neow3jService.class);
+        CompletableFuture<NeoBlockCount> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new ClientConnectionException("Invalid response received: 503; N/A", 503));
+        when(delegate.sendAsync(any(), eq(NeoBlockCount.class)))
+                .thenReturn(failed)
+                .thenReturn(CompletableFuture.completedFuture(blockCount(5)));
+        RetryingService service = new RetryingService(delegate, policy);
+
+        NeoBlockCount result = service.sendAsync(getBlockCount(service), NeoBlockCount.class)
+                .get(5, TimeUnit.SECONDS);
+        assertThat(result.getBlockCount().intValue(), is(5));
+        verify(delegate, times(2)).sendAsync(any(), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testStopAfterMaxAttempts() throws IOException {
+        Neow3jService delegate = mock(Neow3jService.class);
+        when(delegate.send(any(), eq(NeoBlockCount.class))).thenThrow(new IOException("Connection reset"));
+        RetryingService service = new RetryingService(delegate, policy.setMaxAttempts(3));
+
+        assertThrows(IOException.class, () -> service.send(getBlockCount(service), NeoBlockCount.class));
+        verify(delegate, times(3)).send(any(), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testDoNotRetryClientError() throws IOException {
+        Neow3jService delegate = mock(Neow3jService.class);
+        when(delegate.send(any(), eq(NeoBlockCount.class)))
+                .thenThrow(new ClientConnectionException("Invalid response received: 400; N/A", 400));
+        RetryingService service = new RetryingService(delegate, policy);
+
+        assertThrows(ClientConnectionException.class,
+                () -> service.send(getBlockCount(service), NeoBlockCount.class));
+        verify(delegate, times(1)).send(any(), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testRetryBudget() throws IOException {
+        Neow3jService delegate = mock(Neow3jService.class);
+        when(delegate.send(any(), eq(NeoBlockCount.class))).thenThrow(new IOException("Connection reset"));
+        RetryingService service = new RetryingService(delegate, policy.setMaxAttempts(2).setRetryBudget(0, 1));
+
+        // The reserve allows one retry.
+        assertThrows(IOException.class, () -> service.send(getBlockCount(service), NeoBlockCount.class));
+        verify(delegate, times(2)).send(any(), eq(NeoBlockCount.class));
+
+        // The budget is exhausted.
+        assertThrows(IOException.class, () -> service.send(getBlockCount(service), NeoBlockCount.class));
+        verify(delegate, times(3)).send(any(), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testSendRawTransactionIsNotResentIfKnown() throws IOException {
+        Transaction tx = transaction();
+        Neow3jService delegate = mock(Neow3jService.class);
+        when(delegate.send(any(), eq(NeoSendRawTransaction.class))).thenThrow(new IOException("Read timed out"));
+        NeoGetRawTransaction known = new NeoGetRawTransaction();
+        known.setResult(Base64.encode(tx.toArray()));
+        when(delegate.send(any(), eq(NeoGetRawTransaction.class))).thenReturn(known);
+        RetryingService service = new RetryingService(delegate, policy);
+
+        NeoSendRawTransaction response = service.send(sendRawTransaction(service, tx), NeoSendRawTransaction.class);
+        assertThat(response.getSendRawTransaction().getHash(), is(tx.getTxId()));
+        verify(delegate, times(1)).send(any(), eq(NeoSendRawTransaction.class));
+    }
+
+    @Test
+    public void testSendRawTransactionIsResentIfUnknown() throws IOException {
+        Transaction tx = transaction();
+        NeoSendRawTransaction sent = new NeoSendRawTransaction();
+        sent.setResult(new NeoSendRawTransaction.RawTransaction(tx.getTxId()));
+        Neow3jService delegate = mock(Neow3jService.class);
+        when(delegate.send(any(), eq(NeoSendRawTransaction.class)))
+                .thenThrow(new IOException("Read timed out"))
+                .thenReturn(sent);
+        NeoGetRawTransaction unknown = new NeoGetRawTransaction();
+        unknown.setError(new Response.Error(-100, "Unknown transaction"));
+        when(delegate.send(any(), eq(NeoGetRawTransaction.class))).thenReturn(unknown);
+        RetryingService service = new RetryingService(delegate, policy);
+
+        NeoSendRawTransaction response = service.send(sendRawTransaction(service, tx), NeoSendRawTransaction.class);
+        assertThat(response, is(sent));
+        verify(delegate, times(2)).send(any(), eq(NeoSendRawTransaction.class));
+    }
+
+    @Test
+    public void testSendRawTransactionIsNotResentIfDisabled() throws IOException {
+        Neow3jService delegate = mock(Neow3jService.class);
+        when(delegate.send(any(), eq(NeoSendRawTransaction.class))).thenThrow(new IOException("Read timed out"));
+        RetryingService service = new RetryingService(delegate, policy.setRetrySendRawTransaction(false));
+
+        assertThrows(IOException.class,
+                () -> service.send(sendRawTransaction(service, transaction()), NeoSendRawTransaction.class));
+        verify(delegate, times(1)).send(any(), eq(NeoSendRawTransaction.class));
+        verify(delegate, never()).send(any(), eq(NeoGetRawTransaction.class));
+    }
+
+    private static Request<?, NeoBlockCount> getBlockCount(Neow3jService service) {
+        return new Request<>("getblockcount", emptyList(), service, NeoBlockCount.class);
+    }
+
+    private static Request<?, NeoSendRawTransaction> sendRawTransaction(Neow3jService service, Transaction tx) {
+        return new Request<>("sendrawtransaction", asList(Base64.encode(tx.toArray())), service,
+                NeoSendRawTransaction.class);
+    }
+
+    private static NeoBlockCount blockCount(int blockCount) {
+        NeoBlockCount response = new NeoBlockCount();
+        response.setResult(BigInteger.valueOf(blockCount));
+        return response;
+    }
+
+    private static Transaction transaction() {
+        return new Transaction(null, (byte) 0, 226292130L, 2103398, new ArrayList<>(), 9007990L, 1244390L,
+                new ArrayList<>(), new byte[]{0x11, 0x40}, new ArrayList<>());
+    }
+
+}
@@ -1,23 +1,45 @@
 package io.neow3j.protocol.rx;
 
+import io.neow3j.crypto.Base64;
 import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.NeoApplicationLog;
 import io.neow3j.protocol.core.response.NeoBlock;
 import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoGetApplicationLog;
 import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.core.response.NeoGetMemPool;
+import io.neow3j.protocol.core.response.NeoGetRawBlock;
+import io.neow3j.protocol.core.response.NeoGetRawMemPool;
+import io.neow3j.protocol.core.response.NeoGetTransaction;
 import io.neow3j.protocol.core.response.NeoGetVersion;
+import io.neow3j.protocol.core.response.Notification;
+import io.neow3j.protocol.core.response.Transaction;
+import io.neow3j.protocol.core.stackitem.IntegerStackItem;
+import io.neow3j.protocol.exceptions.RpcResponseErrorException;
+import io.neow3j.transaction.Block;
+import io.neow3j.transaction.BlockTest;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+import io.neow3j.types.NeoVMStateType;
 import io.reactivex.Observable;
 import io.reactivex.disposables.Disposable;
+import io.reactivex.subscribers.TestSubscriber;
 
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
@@ -127,6 +149,340 @@ public class JsonRpc2_0RxTest {
         assertThat(transactionLatch.getCount(), is(0L));
     }
 
+    @Test
+    public void testParallelReplayBlocksObservableIsOrdered() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            Request<?, ?> request = invocation.getArgument(0);
+            int index = ((BigInteger) request.getParams().get(0)).intValue();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    // Later blocks are answered faster than earlier ones.
+                    Thread.sleep(50 - index * 2L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                return createBlock(index);
+            });
+        });
+
+        List<NeoGetBlock> results = neow3j.replayBlocksObservable(BigInteger.ZERO, BigInteger.valueOf(19), false,
+                true, 4, 8).toList().blockingGet();
+
+        assertThat(results.size(), is(20));
+        for (int i = 0; i < 20; i++) {
+            assertThat(results.get(i).getBlock().getIndex(), is((long) i));
+        }
+        assertTrue(maxInFlight.get() <= 4);
+    }
+
+    @Test
+    public void testParallelReplayBlocksObservableLimitsEachSubscription() throws Exception {
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(Request.class), eq(NeoGetVersion.class))).thenReturn(getDummyNeoGetVersionResponse());
+        AtomicInteger requested = new AtomicInteger();
+        // The blocks are never answered, so that every admitted request stays in flight.
+        when(service.sendAsync(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            requested.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        Neow3j replayNeow3j = Neow3j.build(service, defaultNeow3jConfig());
+        Observable<NeoGetBlock> replay = replayNeow3j.replayBlocksObservable(BigInteger.ZERO, BigInteger.valueOf(19),
+                false, true, 2, 8);
+
+        Disposable first = replay.subscribe();
+        Disposable second = replay.subscribe();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (requested.get() < 4 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        // Each subscription has its own limit of 2 requests in flight.
+        assertThat(requested.get(), is(4));
+        first.dispose();
+        second.dispose();
+    }
+
+    @Test
+    public void testReplayBlocksFlowableFetchesOnDemand() throws Exception {
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(Request.class), eq(NeoGetVersion.class))).thenReturn(getDummyNeoGetVersionResponse());
+        AtomicInteger fetched = stubBlocksAsync(service);
+        Neow3j flowableNeow3j = Neow3j.build(service, defaultNeow3jConfig());
+
+        TestSubscriber<NeoGetBlock> subscriber = flowableNeow3j
+                .replayBlocksFlowable(BigInteger.ZERO, BigInteger.valueOf(99), false, true)
+                .test(3);
+        subscriber.awaitCount(3);
+        Thread.sleep(200);
+
+        subscriber.assertValueCount(3);
+        // At most one block is fetched ahead of the demand with the default window.
+        assertTrue(fetched.get() <= 4);
+
+        subscriber.request(2);
+        subscriber.awaitCount(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(subscriber.values().get(i).getBlock().getIndex(), is((long) i));
+        }
+        subscriber.dispose();
+    }
+
+    @Test
+    public void testReplayRawBlocksFlowable() throws Exception {
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(Request.class), eq(NeoGetVersion.class))).thenReturn(getDummyNeoGetVersionResponse());
+        when(service.sendAsync(any(Request.class), eq(NeoGetRawBlock.class))).thenAnswer(invocation -> {
+            Request<?, ?> request = invocation.getArgument(0);
+            NeoGetRawBlock rawBlock = new NeoGetRawBlock();
+            long index = ((BigInteger) request.getParams().get(0)).longValue();
+            rawBlock.setResult(Base64.encode(BlockTest.serializeBlock(index, 0)));
+            return CompletableFuture.completedFuture(rawBlock);
+        });
+        Neow3j flowableNeow3j = Neow3j.build(service, defaultNeow3jConfig().setBlockReplayParallelism(4));
+
+        List<Block> blocks = flowableNeow3j
+                .replayRawBlocksFlowable(BigInteger.valueOf(10), BigInteger.valueOf(19), false)
+                .toList()
+                .blockingGet();
+
+        assertThat(blocks.size(), is(10));
+        for (int i = 0; i < 10; i++) {
+            assertThat(blocks.get(i).getIndex(), is(19L - i));
+        }
+    }
+
+    @Test
+    public void testCatchUpToLatestAndSubscribeToNewNotificationsObservable() throws Exception {
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(Request.class), eq(NeoGetVersion.class))).thenReturn(getDummyNeoGetVersionResponse());
+        NeoBlockCount blockCount = new NeoBlockCount();
+        blockCount.setResult(BigInteger.valueOf(3));
+        when(service.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(blockCount);
+        Hash256 tx1 = new Hash256("1bf80f98084ede43fba9e347b0af546e2e7da9038e019baf0258f09b59f019f0");
+        Hash256 tx2 = new Hash256("2bf80f98084ede43fba9e347b0af546e2e7da9038e019baf0258f09b59f019f0");
+        Hash256 tx3 = new Hash256("3bf80f98084ede43fba9e347b0af546e2e7da9038e019baf0258f09b59f019f0");
+        when(service.sendAsync(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            Request<?, ?> request = invocation.getArgument(0);
+            int index = ((BigInteger) request.getParams().get(0)).intValue();
+            List<Transaction> txs = index == 1 ? Arrays.asList(createTx(tx1), createTx(tx2))
+                    : index == 2 ? Arrays.asList(createTx(tx3)) : new ArrayList<>();
+            NeoGetBlock neoGetBlock = new NeoGetBlock();
+            neoGetBlock.setResult(new NeoBlock(null, 0L, 0, null, null, 123456789, "7F8EEE652D4BC959", index, 0,
+                    "nonce", null, txs, 1, null));
+            return CompletableFuture.completedFuture(neoGetBlock);
+        });
+        Hash160 contract = new Hash160("0xef4073a0f2b305a38ec4050e4d3d28bc40ea63f5");
+        when(service.sendBatchAsync(any(BatchRequest.class))).thenAnswer(invocation -> {
+            BatchRequest batch = invocation.getArgument(0);
+            List<Response<?>> responses = new ArrayList<>();
+            for (Request<?, ?> request : batch.getRequests()) {
+                Hash256 txHash = (Hash256) request.getParams().get(0);
+                // The state of the transfer identifies the transaction, i.e., it is 1 for tx1.
+                BigInteger txNr = BigInteger.valueOf(Character.digit(txHash.toString().charAt(0), 16));
+                Notification transfer = new Notification(contract, "Transfer", new IntegerStackItem(txNr));
+                Notification vote = new Notification(contract, "Vote", null);
+                NeoApplicationLog.Execution execution = new NeoApplicationLog.Execution("Application",
+                        NeoVMStateType.HALT, null, "0", null, Arrays.asList(vote, transfer));
+                NeoGetApplicationLog applicationLog = new NeoGetApplicationLog();
+                applicationLog.setResult(new NeoApplicationLog(txHash, Arrays.asList(execution)));
+                responses.add(applicationLog);
+            }
+            return CompletableFuture.completedFuture(new BatchResponse(batch.getRequests(), responses));
+        });
+        Neow3j notificationNeow3j = Neow3j.build(service, defaultNeow3jConfig()
+                .setPollingInterval(1000)
+                .setBlockReplayParallelism(2)
+                .setApplicationLogPrefetch(2));
+
+        List<Notification> notifications = notificationNeow3j
+                .catchUpToLatestAndSubscribeToNewNotificationsObservable(BigInteger.ZERO,
+                        new NotificationFilter().setEventNames("Transfer"))
+                .take(3)
+                .timeout(5, TimeUnit.SECONDS)
+                .toList()
+                .blockingGet();
+
+        assertThat(notifications.size(), is(3));
+        for (int i = 0; i < 3; i++) {
+            assertThat(notifications.get(i).getState().getInteger(), is(BigInteger.valueOf(i + 1)));
+        }
+    }
+
+    @Test
+    public void testNotificationsObservableFailsOnApplicationLogError() throws Exception {
+        Neow3j notificationNeow3j = Neow3j.build(mockServiceWithApplicationLogError(), defaultNeow3jConfig()
+                .setPollingInterval(1000));
+
+        notificationNeow3j.catchUpToLatestAndSubscribeToNewNotificationsObservable(BigInteger.ZERO,
+                        new NotificationFilter())
+                .test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .assertError(RpcResponseErrorException.class);
+    }
+
+    @Test
+    public void testReplayBlocksWithLogsFlowable() throws Exception {
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(Request.class), eq(NeoGetVersion.class))).thenReturn(getDummyNeoGetVersionResponse());
+        when(service.sendAsync(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            Request<?, ?> request = invocation.getArgument(0);
+            int index = ((BigInteger) request.getParams().get(0)).intValue();
+            // Block i contains i transactions whose hashes start with the block index.
+            List<Transaction> txs = new ArrayList<>();
+            for (int i = 0; i < index; i++) {
+                txs.add(createTx(new Hash256(index + "" + i +
+                        "f80f98084ede43fba9e347b0af546e2e7da9038e019baf0258f09b59f019f0")));
+            }
+            NeoGetBlock neoGetBlock = new NeoGetBlock();
+            neoGetBlock.setResult(new NeoBlock(null, 0L, 0, null, null, 123456789, "7F8EEE652D4BC959", index, 0,
+                    "nonce", null, txs, 1, null));
+            return CompletableFuture.completedFuture(neoGetBlock);
+        });
+        AtomicInteger batches = new AtomicInteger();
+        when(service.sendBatchAsync(any(BatchRequest.class))).thenAnswer(invocation -> {
+            batches.incrementAndGet();
+            BatchRequest batch = invocation.getArgument(0);
+            List<Response<?>> responses = new ArrayList<>();
+            for (Request<?, ?> request : batch.getRequests()) {
+                NeoGetApplicationLog applicationLog = new NeoGetApplicationLog();
+                applicationLog.setResult(new NeoApplicationLog((Hash256) request.getParams().get(0),
+                        new ArrayList<>()));
+                responses.add(applicationLog);
+            }
+            return CompletableFuture.completedFuture(new BatchResponse(batch.getRequests(), responses));
+        });
+        Neow3j logsNeow3j = Neow3j.build(service, defaultNeow3jConfig()
+                .setBlockReplayParallelism(2)
+                .setApplicationLogPrefetch(2));
+
+        List<BlockWithLogs> blocks = logsNeow3j
+                .replayBlocksWithLogsFlowable(BigInteger.ZERO, BigInteger.valueOf(3), true)
+                .toList()
+                .blockingGet();
+
+        assertThat(blocks.size(), is(4));
+        for (int i = 0; i < 4; i++) {
+            BlockWithLogs block = blocks.get(i);
+            assertThat(block.getBlock().getIndex(), is((long) i));
+            assertThat(block.getApplicationLogs().size(), is(i));
+            for (Transaction tx : block.getBlock().getTransactions()) {
+                assertThat(block.getApplicationLog(tx.getHash()).getTransactionId(), is(tx.getHash()));
+            }
+        }
+        // One batch per block with transactions.
+        assertThat(batches.get(), is(3));
+    }
+
+    @Test
+    public void testReplayBlocksWithLogsFlowableFailsOnApplicationLogError() throws Exception {
+        Neow3j logsNeow3j = Neow3j.build(mockServiceWithApplicationLogError(), defaultNeow3jConfig());
+
+        logsNeow3j.replayBlocksWithLogsFlowable(BigInteger.ZERO, BigInteger.valueOf(2), true)
+                .test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .assertError(RpcResponseErrorException.class)
+                .assertNoValues();
+    }
+
+    @Test
+    public void testMemPoolChangeObservable() throws Exception {
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(Request.class), eq(NeoGetVersion.class))).thenReturn(getDummyNeoGetVersionResponse());
+        Hash256 tx1 = new Hash256("1bf80f98084ede43fba9e347b0af546e2e7da9038e019baf0258f09b59f019f0");
+        Hash256 tx2 = new Hash256("2bf80f98084ede43fba9e347b0af546e2e7da9038e019baf0258f09b59f019f0");
+        Hash256 tx3 = new Hash256("3bf80f98084ede43fba9e347b0af546e2e7da9038e019baf0258f09b59f019f0");
+        when(service.send(any(Request.class), eq(NeoGetMemPool.class))).thenReturn(
+                createMemPool(Arrays.asList(tx1), Arrays.asList(tx2)),
+                createMemPool(Arrays.asList(tx1), Arrays.asList(tx2)),
+                createMemPool(Arrays.asList(tx2, tx3), new ArrayList<>()));
+        Neow3j memPoolNeow3j = Neow3j.build(service, defaultNeow3jConfig().setPollingInterval(50));
+
+        List<MemPoolChange> changes = memPoolNeow3j.memPoolChangeObservable()
+                .take(2)
+                .timeout(5, TimeUnit.SECONDS)
+                .toList()
+                .blockingGet();
+
+        assertThat(changes.get(0).getAdded(), is(Arrays.asList(tx1, tx2)));
+        assertTrue(changes.get(0).getRemoved().isEmpty());
+        // The unchanged mempool of the second poll is not emitted.
+        assertThat(changes.get(1).getAdded(), is(Arrays.asList(tx3)));
+        assertThat(changes.get(1).getRemoved(), is(Arrays.asList(tx1)));
+    }
+
+    @Test
+    public void testMemPoolTransactionObservable() throws Exception {
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(Request.class), eq(NeoGetVersion.class))).thenReturn(getDummyNeoGetVersionResponse());
+        Hash256 tx1 = new Hash256("1bf80f98084ede43fba9e347b0af546e2e7da9038e019baf0258f09b59f019f0");
+        Hash256 tx2 = new Hash256("2bf80f98084ede43fba9e347b0af546e2e7da9038e019baf0258f09b59f019f0");
+        Hash256 tx3 = new Hash256("3bf80f98084ede43fba9e347b0af546e2e7da9038e019baf0258f09b59f019f0");
+        // The node does not list unverified transactions.
+        NeoGetMemPool unsupported = new NeoGetMemPool();
+        unsupported.setError(new Response.Error(-32602, "Invalid params"));
+        when(service.send(any(Request.class), eq(NeoGetMemPool.class))).thenReturn(unsupported);
+        NeoGetRawMemPool rawMemPool = new NeoGetRawMemPool();
+        rawMemPool.setResult(Arrays.asList(tx1, tx2, tx3));
+        when(service.send(any(Request.class), eq(NeoGetRawMemPool.class))).thenReturn(rawMemPool);
+        when(service.sendAsync(any(Request.class), eq(NeoGetTransaction.class))).thenAnswer(invocation -> {
+            Request<?, ?> request = invocation.getArgument(0);
+            Hash256 txHash = (Hash256) request.getParams().get(0);
+            NeoGetTransaction neoGetTransaction = new NeoGetTransaction();
+            if (txHash.equals(tx2)) {
+                // The transaction was dropped from the mempool before it was fetched.
+                neoGetTransaction.setError(new Response.Error(-100, "Unknown transaction"));
+            } else {
+                neoGetTransaction.setResult(createTx(txHash));
+            }
+            return CompletableFuture.completedFuture(neoGetTransaction);
+        });
+        Neow3j memPoolNeow3j = Neow3j.build(service, defaultNeow3jConfig()
+                .setPollingInterval(50)
+                .setMemPoolFetchParallelism(2));
+
+        List<Transaction> txs = memPoolNeow3j.memPoolTransactionObservable()
+                .take(2)
+                .timeout(5, TimeUnit.SECONDS)
+                .toList()
+                .blockingGet();
+
+        assertThat(txs.get(0).getHash(), is(tx1));
+        assertThat(txs.get(1).getHash(), is(tx3));
+    }
+
+    @Test
+    public void testCatchUpToLatestAndSubscribeToNewBlocksFlowable() throws Exception {
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(Request.class), eq(NeoGetVersion.class))).thenReturn(getDummyNeoGetVersionResponse());
+        stubBlocksAsync(service);
+        NeoBlockCount blockCount = new NeoBlockCount();
+        blockCount.setResult(BigInteger.valueOf(3));
+        when(service.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(blockCount);
+        Neow3j flowableNeow3j = Neow3j.build(service, defaultNeow3jConfig()
+                .setPollingInterval(50)
+                .setBlockReplayParallelism(2)
+                .setBlockReplayWindow(4));
+
+        TestSubscriber<NeoGetBlock> subscriber = flowableNeow3j
+                .catchUpToLatestAndSubscribeToNewBlocksFlowable(BigInteger.ZERO, false)
+                .test();
+        subscriber.awaitCount(3);
+
+        NeoBlockCount newBlockCount = new NeoBlockCount();
+        newBlockCount.setResult(BigInteger.valueOf(5));
+        when(service.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(newBlockCount);
+        subscriber.awaitCount(5);
+
+        subscriber.assertNoErrors();
+        for (int i = 0; i < 5; i++) {
+            assertThat(subscriber.values().get(i).getBlock().getIndex(), is((long) i));
+        }
+        subscriber.dispose();
+    }
+
     @Test
     public void testCatchUpToLatestAndSubscribeToNewBlockObservable() throws Exception {
 
@@ -342,6 +698,47 @@ public class JsonRpc2_0RxTest {
         assertTrue(disposable.isDisposed());
     }
 
+    // Mocks a chain of 3 blocks with one transaction each, whose application logs are not available.
+    private Neow3jService mockServiceWithApplicationLogError() throws IOException {
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(Request.class), eq(NeoGetVersion.class))).thenReturn(getDummyNeoGetVersionResponse());
+        NeoBlockCount blockCount = new NeoBlockCount();
+        blockCount.setResult(BigInteger.valueOf(3));
+        when(service.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(blockCount);
+        when(service.sendAsync(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            Request<?, ?> request = invocation.getArgument(0);
+            int index = ((BigInteger) request.getParams().get(0)).intValue();
+            List<Transaction> txs = Arrays.asList(createTx(new Hash256(index +
+                    "bf80f98084ede43fba9e347b0af546e2e7da9038e019baf0258f09b59f019f0")));
+            NeoGetBlock neoGetBlock = new NeoGetBlock();
+            neoGetBlock.setResult(new NeoBlock(null, 0L, 0, null, null, 123456789, "7F8EEE652D4BC959", index, 0,
+                    "nonce", null, txs, 1, null));
+            return CompletableFuture.completedFuture(neoGetBlock);
+        });
+        when(service.sendBatchAsync(any(BatchRequest.class))).thenAnswer(invocation -> {
+            BatchRequest batch = invocation.getArgument(0);
+            List<Response<?>> responses = new ArrayList<>();
+            for (int i = 0; i < batch.getRequests().size(); i++) {
+                NeoGetApplicationLog applicationLog = new NeoGetApplicationLog();
+                applicationLog.setError(new Response.Error(-100, "Unknown transaction"));
+                responses.add(applicationLog);
+            }
+            return CompletableFuture.completedFuture(new BatchResponse(batch.getRequests(), responses));
+        });
+        return service;
+    }
+
+    private AtomicInteger stubBlocksAsync(Neow3jService service) {
+        AtomicInteger fetched = new AtomicInteger();
+        when(service.sendAsync(any(Request.class), eq(NeoGetBlock.class))).thenAnswer(invocation -> {
+            Request<?, ?> request = invocation.getArgument(0);
+            fetched.incrementAndGet();
+            return CompletableFuture.completedFuture(
+                    createBlock(((BigInteger) request.getParams().get(0)).intValue()));
+        });
+        return fetched;
+    }
+
     private NeoGetBlock createBlock(int number) {
         NeoGetBlock neoGetBlock = new NeoGetBlock();
         NeoBlock block = new NeoBlock(null, 0L, 0, null, null, 123456789, "7F8EEE652D4BC959", number, 0, "nonce",
@@ -350,6 +747,16 @@ public class JsonRpc2_0RxTest {
         return neoGetBlock;
     }
 
+    private NeoGetMemPool createMemPool(List<Hash256> verified, List<Hash256> unverified) {
+        NeoGetMemPool memPool = new NeoGetMemPool();
+        memPool.setResult(new NeoGetMemPool.MemPoolDetails(0L, verified, unverified));
+        return memPool;
+    }
+
+    private Transaction createTx(Hash256 txHash) {
+        return new Transaction(txHash, 0, 0, 0L, "", "", "", 0L, null, null, null, null);
+    }
+
     private NeoGetVersion getDummyNeoGetVersionResponse() {
         NeoGetVersion.NeoVersion.Protocol protocol = new NeoGetVersion.NeoVersion.Protocol();
         protocol.setNetwork(768L);
@@ -0,0 +1,73 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.core.response.NeoApplicationLog;
+import io.neow3j.protocol.core.response.NeoApplicationLog.Execution;
+import io.neow3j.protocol.core.response.Notification;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+import io.neow3j.types.NeoVMStateType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class NotificationFilterTest {
+
+    private static final Hash160 NEO = new Hash160("0xef4073a0f2b305a38ec4050e4d3d28bc40ea63f5");
+    private static final Hash160 GAS = new Hash160("0xd2a4cff31913016155e38e474a2c06d08be276cf");
+
+    private static final Notification NEO_TRANSFER = new Notification(NEO, "Transfer", null);
+    private static final Notification GAS_TRANSFER = new Notification(GAS, "Transfer", null);
+    private static final Notification NEO_VOTE = new Notification(NEO, "Vote", null);
+    private static final Notification FAULTED_GAS_TRANSFER = new Notification(GAS, "Transfer", null);
+
+    private final List<NeoApplicationLog> applicationLogs = asList(
+            applicationLog(NeoVMStateType.HALT, NEO_TRANSFER, GAS_TRANSFER),
+            applicationLog(NeoVMStateType.FAULT, FAULTED_GAS_TRANSFER),
+            applicationLog(NeoVMStateType.HALT, NEO_VOTE));
+
+    @Test
+    public void testEmptyFilterMatchesAll() {
+        assertThat(new NotificationFilter().select(applicationLogs), hasSize(4));
+    }
+
+    @Test
+    public void testFilterByContract() {
+        NotificationFilter filter = new NotificationFilter().setContracts(NEO);
+
+        assertThat(filter.select(applicationLogs), contains(NEO_TRANSFER, NEO_VOTE));
+    }
+
+    @Test
+    public void testFilterByEventNameAndVmState() {
+        NotificationFilter filter = new NotificationFilter()
+                .setEventNames("Transfer")
+                .setVmState(NeoVMStateType.HALT);
+
+        assertThat(filter.select(applicationLogs), contains(NEO_TRANSFER, GAS_TRANSFER));
+    }
+
+    @Test
+    public void testFilterByAllCriteria() {
+        NotificationFilter filter = new NotificationFilter()
+                .setContracts(GAS)
+                .setEventNames("Transfer")
+                .setVmState(NeoVMStateType.FAULT);
+
+        List<Notification> selected = filter.select(applicationLogs);
+        assertThat(selected, hasSize(1));
+        assertThat(selected.get(0), sameInstance(FAULTED_GAS_TRANSFER));
+    }
+
+    private static NeoApplicationLog applicationLog(NeoVMStateType state, Notification... notifications) {
+        Execution execution = new Execution("Application", state, null, "0", null, asList(notifications));
+        return new NeoApplicationLog(Hash256.ZERO, singletonList(execution));
+    }
+
+}
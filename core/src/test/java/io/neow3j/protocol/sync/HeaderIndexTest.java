@@ -0,0 +1,113 @@
+package io.neow3j.protocol.sync;
+
+import io.neow3j.serialization.BinaryWriter;
+import io.neow3j.serialization.NeoSerializableInterface;
+import io.neow3j.transaction.Header;
+import io.neow3j.transaction.Witness;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HeaderIndexTest {
+
+    @Test
+    public void testAppendLinkedHeaders() throws Exception {
+        List<Header> chain = chain(0, 3000, 1000);
+        HeaderIndex index = new HeaderIndex();
+        chain.forEach(index::append);
+
+        assertThat(index.size(), is(3000));
+        assertThat(index.getNextIndex(), is(3000L));
+        assertTrue(index.contains(2999));
+        assertFalse(index.contains(3000));
+        assertThat(index.getHash(1234), is(chain.get(1234).getHash()));
+        assertThat(index.getTimestamp(1234), is(chain.get(1234).getTimestamp()));
+    }
+
+    @Test
+    public void testAppendUnlinkedHeader() throws Exception {
+        HeaderIndex index = new HeaderIndex();
+        index.append(chain(0, 1, 1000).get(0));
+
+        Header unlinked = header(1, Hash256.ZERO, 2000);
+        assertThrows(IllegalStateException.class, () -> index.append(unlinked));
+        assertThat(index.size(), is(1));
+    }
+
+    @Test
+    public void testAppendHeaderWithGap() throws Exception {
+        List<Header> chain = chain(0, 3, 1000);
+        HeaderIndex index = new HeaderIndex();
+        index.append(chain.get(0));
+
+        assertThrows(IllegalStateException.class, () -> index.append(chain.get(2)));
+    }
+
+    @Test
+    public void testStartIndex() throws Exception {
+        List<Header> chain = chain(100, 3, 1000);
+        HeaderIndex index = new HeaderIndex(100);
+        chain.forEach(index::append);
+
+        assertThat(index.getNextIndex(), is(103L));
+        assertThat(index.getHash(101), is(chain.get(1).getHash()));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.getHash(99));
+    }
+
+    @Test
+    public void testFindBlockAt() throws Exception {
+        HeaderIndex index = new HeaderIndex();
+        chain(0, 10, 1000).forEach(index::append);
+
+        assertThat(index.findBlockAt(999), is(-1L));
+        assertThat(index.findBlockAt(1000), is(0L));
+        assertThat(index.findBlockAt(5500), is(4L));
+        assertThat(index.findBlockAt(6000), is(5L));
+        assertThat(index.findBlockAt(100000), is(9L));
+    }
+
+    // Creates a linked chain of headers with one block per second, starting at the given time.
+    static List<Header> chain(long startIndex, int count, long startTimestamp) throws Exception {
+        List<Header> chain = new ArrayList<>();
+        Hash256 prevHash = Hash256.ZERO;
+        for (int i = 0; i < count; i++) {
+            Header header = header(startIndex + i, prevHash, startTimestamp + i * 1000L);
+            chain.add(header);
+            prevHash = header.getHash();
+        }
+        return chain;
+    }
+
+    static Header header(long index, Hash256 prevHash, long timestamp) throws Exception {
+        return NeoSerializableInterface.from(serializeHeader(index, prevHash, timestamp), Header.class);
+    }
+
+    static byte[] serializeHeader(long index, Hash256 prevHash, long timestamp) throws Exception {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        BinaryWriter writer = new BinaryWriter(stream);
+        writer.writeUInt32(0);
+        writer.writeSerializableFixed(prevHash);
+        writer.writeSerializableFixed(Hash256.ZERO);
+        writer.writeInt64(timestamp);
+        writer.writeUInt64(BigInteger.valueOf(index));
+        writer.writeUInt32(index);
+        writer.writeByte((byte) 0);
+        writer.writeSerializableFixed(Hash160.ZERO);
+        writer.writeVarInt(1);
+        writer.writeSerializableFixed(new Witness(new byte[]{0x01}, new byte[]{0x02}));
+        writer.flush();
+        return stream.toByteArray();
+    }
+
+}
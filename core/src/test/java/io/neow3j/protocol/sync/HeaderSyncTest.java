@@ -0,0 +1,84 @@
+package io.neow3j.protocol.sync;
+
+import io.neow3j.crypto.Base64;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.core.response.NeoGetRawBlock;
+import io.neow3j.protocol.core.response.NeoGetVersion;
+import io.neow3j.transaction.Header;
+import io.neow3j.types.Hash256;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static io.neow3j.protocol.Neow3jConfig.defaultNeow3jConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class HeaderSyncTest {
+
+    @Test
+    public void testCatchUp() throws Exception {
+        List<byte[]> chain = new ArrayList<>();
+        for (Header header : HeaderIndexTest.chain(0, 20, 1000)) {
+            chain.add(header.toArray());
+        }
+        HeaderSync sync = new HeaderSync(buildNeow3j(chain), new HeaderIndex());
+
+        sync.catchUp().blockingAwait();
+
+        assertThat(sync.getHeaderIndex().getNextIndex(), is(20L));
+        assertThat(sync.getHeaderIndex().findBlockAt(10500), is(9L));
+    }
+
+    @Test
+    public void testCatchUpFailsOnUnlinkedHeader() throws Exception {
+        List<byte[]> chain = new ArrayList<>();
+        for (Header header : HeaderIndexTest.chain(0, 10, 1000)) {
+            chain.add(header.toArray());
+        }
+        chain.set(5, HeaderIndexTest.serializeHeader(5, Hash256.ZERO, 6000));
+        HeaderIndex index = new HeaderIndex();
+        HeaderSync sync = new HeaderSync(buildNeow3j(chain), index);
+
+        assertThrows(IllegalStateException.class, () -> sync.catchUp().blockingAwait());
+        assertThat(index.getNextIndex(), is(5L));
+    }
+
+    private static Neow3j buildNeow3j(List<byte[]> chain) throws IOException {
+        Neow3jService service = mock(Neow3jService.class);
+        NeoGetVersion.NeoVersion.Protocol protocol = new NeoGetVersion.NeoVersion.Protocol();
+        protocol.setNetwork(768L);
+        protocol.setMilliSecondsPerBlock(1000L);
+        NeoGetVersion.NeoVersion version = new NeoGetVersion.NeoVersion();
+        version.setProtocol(protocol);
+        NeoGetVersion neoGetVersion = new NeoGetVersion();
+        neoGetVersion.setResult(version);
+        when(service.send(any(Request.class), eq(NeoGetVersion.class))).thenReturn(neoGetVersion);
+
+        NeoBlockCount neoBlockCount = new NeoBlockCount();
+        neoBlockCount.setResult(BigInteger.valueOf(chain.size()));
+        when(service.send(any(Request.class), eq(NeoBlockCount.class))).thenReturn(neoBlockCount);
+
+        when(service.sendAsync(any(Request.class), eq(NeoGetRawBlock.class))).thenAnswer(invocation -> {
+            Request<?, ?> request = invocation.getArgument(0);
+            int index = ((BigInteger) request.getParams().get(0)).intValue();
+            NeoGetRawBlock rawHeader = new NeoGetRawBlock();
+            rawHeader.setResult(Base64.encode(chain.get(index)));
+            return CompletableFuture.completedFuture(rawHeader);
+        });
+        return Neow3j.build(service, defaultNeow3jConfig().setBlockReplayParallelism(4));
+    }
+
+}
@@ -0,0 +1,161 @@
+package io.neow3j.protocol.websocket;
+
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.NeoBlockCount;
+import io.neow3j.protocol.exceptions.WebSocketClosedException;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.observers.TestObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.lang.String.format;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class WebSocketServiceTest {
+
+    private WebSocketClient webSocketClient;
+    private WebSocketService service;
+
+    @BeforeEach
+    public void setUp() {
+        webSocketClient = mock(WebSocketClient.class);
+        service = new WebSocketService(webSocketClient, false);
+    }
+
+    @Test
+    public void testMultiplexedRequests() throws Exception {
+        Request<String, NeoBlockCount> request1 = createBlockCountRequest();
+        Request<String, NeoBlockCount> request2 = createBlockCountRequest();
+
+        CompletableFuture<NeoBlockCount> future1 = service.sendAsync(request1, NeoBlockCount.class);
+        CompletableFuture<NeoBlockCount> future2 = service.sendAsync(request2, NeoBlockCount.class);
+        verify(webSocketClient, times(2)).send(anyString());
+        assertThat(future1.isDone(), is(false));
+        assertThat(future2.isDone(), is(false));
+
+        // Replies arrive in a different order than the requests were sent.
+        service.onMessage(format("{\"jsonrpc\":\"2.0\",\"id\":%d,\"result\":2}", request2.getId()));
+        assertThat(future1.isDone(), is(false));
+        service.onMessage(format("{\"jsonrpc\":\"2.0\",\"id\":%d,\"result\":1}", request1.getId()));
+
+        assertThat(future1.get().getBlockCount().intValue(), is(1));
+        assertThat(future2.get().getBlockCount().intValue(), is(2));
+    }
+
+    @Test
+    public void testBatchRequest() throws Exception {
+        Request<String, NeoBlockCount> request1 = createBlockCountRequest();
+        Request<String, NeoBlockCount> request2 = createBlockCountRequest();
+
+        CompletableFuture<BatchResponse> future = service.sendBatchAsync(
+                new BatchRequest(service).add(request1).add(request2));
+        service.onMessage(format("[{\"jsonrpc\":\"2.0\",\"id\":%d,\"result\":2}," +
+                "{\"jsonrpc\":\"2.0\",\"id\":%d,\"result\":1}]", request2.getId(), request1.getId()));
+
+        BatchResponse batchResponse = future.get();
+        assertThat(batchResponse.getResponse(request1).getBlockCount().intValue(), is(1));
+        assertThat(batchResponse.getResponse(request2).getBlockCount().intValue(), is(2));
+    }
+
+    @Test
+    public void testBatchReplyStartingWithErrorWithoutId() throws Exception {
+        Request<String, NeoBlockCount> request = createBlockCountRequest();
+
+        CompletableFuture<BatchResponse> future = service.sendBatchAsync(new BatchRequest(service).add(request));
+        service.onMessage(format("[{\"jsonrpc\":\"2.0\",\"id\":null,\"error\":{\"code\":-32600," +
+                "\"message\":\"Invalid Request\"}},{\"jsonrpc\":\"2.0\",\"id\":%d,\"result\":1}]",
+                request.getId()));
+
+        assertThat(future.get().getResponse(request).getBlockCount().intValue(), is(1));
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testSubscriptionFailsWhenConnectionIsClosed() throws Exception {
+        Request<String, WebSocketService.SubscriptionResponse> subscribeRequest = new Request<>("subscribe",
+                Collections.singletonList("block_added"), service, WebSocketService.SubscriptionResponse.class);
+
+        TestObserver<Notification> observer = service.subscribe(subscribeRequest, "unsubscribe", Notification.class)
+                .test();
+        service.onMessage(format("{\"jsonrpc\":\"2.0\",\"id\":%d,\"result\":\"sub-1\"}",
+                subscribeRequest.getId()));
+        service.close();
+
+        observer.assertError(WebSocketClosedException.class);
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testSubscription() throws Exception {
+        Request<String, WebSocketService.SubscriptionResponse> subscribeRequest = new Request<>("subscribe",
+                Collections.singletonList("block_added"), service, WebSocketService.SubscriptionResponse.class);
+
+        List<Notification> notifications = new ArrayList<>();
+        Disposable disposable = service.subscribe(subscribeRequest, "unsubscribe", Notification.class)
+                .subscribe(notifications::add);
+        service.onMessage(format("{\"jsonrpc\":\"2.0\",\"id\":%d,\"result\":\"sub-1\"}",
+                subscribeRequest.getId()));
+
+        service.onMessage("{\"jsonrpc\":\"2.0\",\"method\":\"block_added\"," +
+                "\"params\":{\"subscription\":\"sub-1\",\"result\":12}}");
+        service.onMessage("{\"jsonrpc\":\"2.0\",\"method\":\"block_added\"," +
+                "\"params\":{\"subscription\":\"sub-2\",\"result\":13}}");
+        assertThat(notifications.size(), is(1));
+        assertThat(notifications.get(0).getMethod(), is("block_added"));
+
+        disposable.dispose();
+        verify(webSocketClient).send(contains("\"method\":\"unsubscribe\",\"params\":[\"sub-1\"]"));
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testSubscriptionDisposedBeforeReply() throws Exception {
+        Request<String, WebSocketService.SubscriptionResponse> subscribeRequest = new Request<>("subscribe",
+                Collections.singletonList("block_added"), service, WebSocketService.SubscriptionResponse.class);
+
+        List<Notification> notifications = new ArrayList<>();
+        Disposable disposable = service.subscribe(subscribeRequest, "unsubscribe", Notification.class)
+                .subscribe(notifications::add);
+        disposable.dispose();
+        verify(webSocketClient, never()).send(contains("\"method\":\"unsubscribe\""));
+
+        // The late reply unsubscribes right away and does not register the subscription.
+        service.onMessage(format("{\"jsonrpc\":\"2.0\",\"id\":%d,\"result\":\"sub-1\"}",
+                subscribeRequest.getId()));
+        verify(webSocketClient).send(contains("\"method\":\"unsubscribe\",\"params\":[\"sub-1\"]"));
+        service.onMessage("{\"jsonrpc\":\"2.0\",\"method\":\"block_added\"," +
+                "\"params\":{\"subscription\":\"sub-1\",\"result\":12}}");
+        assertThat(notifications.size(), is(0));
+    }
+
+    @Test
+    public void testRequestTimeout() {
+        service.setRequestTimeout(10);
+        CompletableFuture<NeoBlockCount> future = service.sendAsync(createBlockCountRequest(), NeoBlockCount.class);
+
+        Exception thrown = assertThrows(Exception.class, future::get);
+        assertThat(thrown.getMessage(), containsString("timed out"));
+    }
+
+    private Request<String, NeoBlockCount> createBlockCountRequest() {
+        return new Request<>("getblockcount", Collections.emptyList(), service, NeoBlockCount.class);
+    }
+
+}
@@ -0,0 +1,98 @@
+package io.neow3j.transaction;
+
+import io.neow3j.crypto.Base64;
+import io.neow3j.serialization.BinaryWriter;
+import io.neow3j.serialization.NeoSerializableInterface;
+import io.neow3j.serialization.exceptions.DeserializationException;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static io.neow3j.crypto.Hash.sha256;
+import static io.neow3j.utils.ArrayUtils.reverseArray;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BlockTest {
+
+    private static final Hash256 PREV_HASH =
+            new Hash256("0x3c9a3e2b6e3b0a4f0d5d4d1e8b9e0b5a7c6d5e4f3a2b1c0d9e8f7a6b5c4d3e2f");
+    private static final Hash256 MERKLE_ROOT =
+            new Hash256("0x0000000000000000000000000000000000000000000000000000000000000000");
+    private static final Hash160 NEXT_CONSENSUS = new Hash160("0x7f8eee652d4bc959c3bd7e43b4e1eb48f0fdd6a3");
+
+    @Test
+    public void testDeserializeBlock() throws Exception {
+        byte[] data = serializeBlock(1234, 0);
+        Block block = NeoSerializableInterface.from(data, Block.class);
+
+        Header header = block.getHeader();
+        assertThat(header.getVersion(), is(0L));
+        assertThat(header.getPrevHash(), is(PREV_HASH));
+        assertThat(header.getMerkleRoot(), is(MERKLE_ROOT));
+        assertThat(header.getTimestamp(), is(1627896461306L));
+        assertThat(header.getNonce(), is(new BigInteger("9241370437574340102")));
+        assertThat(header.getPrimaryIndex(), is(3));
+        assertThat(header.getNextConsensus(), is(NEXT_CONSENSUS));
+        assertArrayEquals(new byte[]{0x01, 0x02}, header.getWitness().getInvocationScript().getScript());
+        assertThat(block.getIndex(), is(1234L));
+        assertThat(block.getTransactions(), is(empty()));
+    }
+
+    @Test
+    public void testBlockHashIsComputedFromUnsignedHeader() throws Exception {
+        byte[] data = serializeBlock(7, 0);
+        Block block = NeoSerializableInterface.from(data, Block.class);
+
+        byte[] unsignedHeader = Arrays.copyOf(data, Header.UNSIGNED_SIZE);
+        assertArrayEquals(unsignedHeader, block.getHeader().toArrayWithoutWitness());
+        assertThat(block.getHash(), is(new Hash256(reverseArray(sha256(unsignedHeader)))));
+    }
+
+    @Test
+    public void testSerializeBlock() throws Exception {
+        byte[] data = serializeBlock(42, 0);
+        Block block = Block.fromBase64(Base64.encode(data));
+
+        assertArrayEquals(data, block.toArray());
+        assertThat(block.getSize(), is(data.length));
+    }
+
+    @Test
+    public void testTooManyTransactions() throws Exception {
+        byte[] data = serializeBlock(1, Block.MAX_TRANSACTIONS_PER_BLOCK + 1);
+
+        assertThrows(DeserializationException.class, () -> NeoSerializableInterface.from(data, Block.class));
+    }
+
+    /**
+     * Serializes a block with the given index. Only the number of transactions is written, i.e., the block is only
+     * valid if it has no transactions.
+     */
+    public static byte[] serializeBlock(long index, long nrOfTransactions) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        BinaryWriter writer = new BinaryWriter(stream);
+        writer.writeUInt32(0);
+        writer.writeSerializableFixed(PREV_HASH);
+        writer.writeSerializableFixed(MERKLE_ROOT);
+        writer.writeInt64(1627896461306L);
+        writer.writeUInt64(new BigInteger("9241370437574340102"));
+        writer.writeUInt32(index);
+        writer.writeByte((byte) 3);
+        writer.writeSerializableFixed(NEXT_CONSENSUS);
+        writer.writeVarInt(1);
+        writer.writeSerializableFixed(new Witness(new byte[]{0x01, 0x02}, new byte[]{0x03}));
+        writer.writeVarInt(nrOfTransactions);
+        writer.flush();
+        return stream.toByteArray();
+    }
+
+}
@@ -0,0 +1,214 @@
+package io.neow3j.transaction;
+
+import io.neow3j.crypto.Sign;
+import io.neow3j.crypto.Sign.SignatureData;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.InvocationResult;
+import io.neow3j.protocol.core.response.NeoGetVersion;
+import io.neow3j.protocol.core.response.NeoInvokeFunction;
+import io.neow3j.protocol.core.stackitem.IntegerStackItem;
+import io.neow3j.protocol.core.stackitem.StackItem;
+import io.neow3j.script.OpCode;
+import io.neow3j.script.VerificationScript;
+import io.neow3j.transaction.NetworkFeeCalculator.PolicyValues;
+import io.neow3j.transaction.exceptions.TransactionConfigurationException;
+import io.neow3j.types.Hash256;
+import io.neow3j.types.NeoVMStateType;
+import io.neow3j.wallet.Account;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.neow3j.protocol.Neow3jConfig.defaultNeow3jConfig;
+import static io.neow3j.transaction.AccountSigner.calledByEntry;
+import static io.neow3j.transaction.Witness.createContractWitness;
+import static io.neow3j.wallet.Account.createMultiSigAccount;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class NetworkFeeCalculatorTest {
+
+    private static final long FEE_PER_BYTE = 1000;
+    private static final long EXEC_FEE_FACTOR = 30;
+    // The prices of PUSHDATA1 for the signature and public key and of the CheckSig syscall.
+    private static final long SINGLE_SIG_COST = 32784;
+    private static final byte[] SCRIPT = new byte[]{(byte) OpCode.PUSH1.getCode()};
+    private static final byte[] MESSAGE = new byte[]{0x01, 0x02};
+
+    private final Account a1 = Account.fromWIF("L3pLaHgKBf7ENNKPH1jfPM8FC9QhPCqwFyWguQ8CDB1G66p78wd6");
+    private final Account a2 = Account.fromWIF("KypPpzztxDj26DiCmTkbwQJT2TrgaNtw5Wp3K2nYiMvWu99Xv3rP");
+    private final Account a3 = Account.fromWIF("KxjePibw7BEdaS8diPeqgozFWevVx6tLE226jYU6tFF1HSYQ5z5u");
+
+    private final PolicyValues policyValues = new PolicyValues(FEE_PER_BYTE, EXEC_FEE_FACTOR * 10_000,
+            new EnumMap<>(TransactionAttributeType.class));
+
+    @Test
+    public void testSingleSig() {
+        Transaction unsigned = createTx(new ArrayList<>(), calledByEntry(a1));
+        unsigned.addWitness(new Witness(new byte[]{}, a1.getVerificationScript().getScript()));
+        Transaction signed = createTx(new ArrayList<>(), calledByEntry(a1));
+        signed.addWitness(Witness.create(MESSAGE, a1.getECKeyPair()));
+
+        long fee = NetworkFeeCalculator.calcNetworkFee(unsigned, policyValues);
+
+        assertThat(fee, is(SINGLE_SIG_COST * EXEC_FEE_FACTOR + signed.getSize() * FEE_PER_BYTE));
+    }
+
+    @Test
+    public void testMultiSig() {
+        Account multiSig = createMultiSigAccount(
+                asList(a1.getECKeyPair().getPublicKey(), a2.getECKeyPair().getPublicKey(),
+                        a3.getECKeyPair().getPublicKey()), 2);
+        VerificationScript verificationScript = multiSig.getVerificationScript();
+        Transaction unsigned = createTx(new ArrayList<>(), calledByEntry(multiSig));
+        unsigned.addWitness(new Witness(new byte[]{}, verificationScript.getScript()));
+        Transaction signed = createTx(new ArrayList<>(), calledByEntry(multiSig));
+        List<SignatureData> signatures = asList(
+                Sign.signMessage(MESSAGE, a1.getECKeyPair()),
+                Sign.signMessage(MESSAGE, a2.getECKeyPair()));
+        signed.addWitness(Witness.createMultiSigWitness(signatures, verificationScript));
+
+        long fee = NetworkFeeCalculator.calcNetworkFee(unsigned, policyValues);
+
+        // PUSHDATA1 for 2 signatures and 3 public keys, PUSH2, PUSH3 and 3 times CheckSig.
+        long cost = 8 * 5 + 1 + 1 + 32768 * 3;
+        assertThat(fee, is(cost * EXEC_FEE_FACTOR + signed.getSize() * FEE_PER_BYTE));
+    }
+
+    @Test
+    public void testPicoFeeFactorIsRoundedUp() {
+        Transaction unsigned = createTx(new ArrayList<>(), calledByEntry(a1));
+        unsigned.addWitness(new Witness(new byte[]{}, a1.getVerificationScript().getScript()));
+        // A fee factor of 30.0001.
+        PolicyValues values = new PolicyValues(0, 300_001, new EnumMap<>(TransactionAttributeType.class));
+
+        assertThat(NetworkFeeCalculator.calcNetworkFee(unsigned, values), is(SINGLE_SIG_COST * EXEC_FEE_FACTOR + 4));
+    }
+
+    @Test
+    public void testMultipleSigners() {
+        Account multiSig = createMultiSigAccount(
+                asList(a1.getECKeyPair().getPublicKey(), a2.getECKeyPair().getPublicKey(),
+                        a3.getECKeyPair().getPublicKey()), 2);
+        VerificationScript verificationScript = multiSig.getVerificationScript();
+        Transaction unsigned = createTx(new ArrayList<>(), calledByEntry(a1), calledByEntry(multiSig));
+        unsigned.addWitness(new Witness(new byte[]{}, a1.getVerificationScript().getScript()));
+        unsigned.addWitness(new Witness(new byte[]{}, verificationScript.getScript()));
+        Transaction signed = createTx(new ArrayList<>(), calledByEntry(a1), calledByEntry(multiSig));
+        signed.addWitness(Witness.create(MESSAGE, a1.getECKeyPair()));
+        signed.addWitness(Witness.createMultiSigWitness(asList(
+                Sign.signMessage(MESSAGE, a1.getECKeyPair()),
+                Sign.signMessage(MESSAGE, a2.getECKeyPair())), verificationScript));
+        // A fee factor of 30.0001.
+        PolicyValues values = new PolicyValues(FEE_PER_BYTE, 300_001, new EnumMap<>(TransactionAttributeType.class));
+
+        long fee = NetworkFeeCalculator.calcNetworkFee(unsigned, values);
+
+        // The execution fees of 32784 * 30.0001 and 98346 * 30.0001 are rounded up separately.
+        assertThat(fee, is(983_524L + 2_950_390L + signed.getSize() * FEE_PER_BYTE));
+    }
+
+    @Test
+    public void testAttributeFees() {
+        List<TransactionAttribute> attributes = asList(new ConflictsAttribute(Hash256.ZERO),
+                new NotValidBeforeAttribute(BigInteger.TEN));
+        Transaction unsigned = createTx(attributes, calledByEntry(a1), calledByEntry(a2));
+        unsigned.addWitness(new Witness(new byte[]{}, a1.getVerificationScript().getScript()));
+        unsigned.addWitness(new Witness(new byte[]{}, a2.getVerificationScript().getScript()));
+        Map<TransactionAttributeType, Long> attributeFees = new EnumMap<>(TransactionAttributeType.class);
+        attributeFees.put(TransactionAttributeType.CONFLICTS, 100L);
+        attributeFees.put(TransactionAttributeType.NOT_VALID_BEFORE, 7L);
+        PolicyValues values = new PolicyValues(0, 0, attributeFees);
+
+        // The conflicts fee is paid for each signer.
+        assertThat(NetworkFeeCalculator.calcNetworkFee(unsigned, values), is(2 * 100L + 7L));
+    }
+
+    @Test
+    public void testContractWitness() {
+        Transaction unsigned = createTx(new ArrayList<>(), calledByEntry(a1));
+        unsigned.addWitness(createContractWitness(new ArrayList<>()));
+
+        assertThrows(TransactionConfigurationException.class,
+                () -> NetworkFeeCalculator.calcNetworkFee(unsigned, policyValues));
+    }
+
+    @Test
+    public void testFetchesAndCachesPolicyValues() throws Exception {
+        Neow3jService service = mock(Neow3jService.class);
+        NeoGetVersion.NeoVersion.Protocol protocol = new NeoGetVersion.NeoVersion.Protocol();
+        protocol.setNetwork(768L);
+        protocol.setMilliSecondsPerBlock(1000L);
+        NeoGetVersion.NeoVersion version = new NeoGetVersion.NeoVersion();
+        version.setProtocol(protocol);
+        NeoGetVersion neoGetVersion = new NeoGetVersion();
+        neoGetVersion.setResult(version);
+        when(service.send(any(Request.class), eq(NeoGetVersion.class))).thenReturn(neoGetVersion);
+        when(service.sendBatch(any(BatchRequest.class))).thenAnswer(invocation -> {
+            BatchRequest batch = invocation.getArgument(0);
+            List<Response<?>> responses = new ArrayList<>();
+            for (Request<?, ?> request : batch.getRequests()) {
+                String function = (String) request.getParams().get(1);
+                switch (function) {
+                    case "getFeePerByte":
+                        responses.add(invokeResult(FEE_PER_BYTE));
+                        break;
+                    case "getExecFeeFactor":
+                        responses.add(invokeResult(EXEC_FEE_FACTOR));
+                        break;
+                    default:
+                        // The node predates the pico fee factor and the attribute fees.
+                        responses.add(invokeFault());
+                }
+            }
+            return new BatchResponse(batch.getRequests(), responses);
+        });
+        Neow3j neow3j = Neow3j.build(service, defaultNeow3jConfig().setLocalNetworkFee(true));
+        Transaction unsigned = createTx(new ArrayList<>(), calledByEntry(a1));
+        unsigned.addWitness(new Witness(new byte[]{}, a1.getVerificationScript().getScript()));
+
+        long expected = NetworkFeeCalculator.calcNetworkFee(unsigned, policyValues);
+        assertThat(neow3j.getNetworkFeeCalculator().calcNetworkFee(unsigned), is(expected));
+        assertThat(neow3j.getNetworkFeeCalculator().calcNetworkFee(unsigned), is(expected));
+        verify(service, times(1)).sendBatch(any(BatchRequest.class));
+    }
+
+    private Transaction createTx(List<TransactionAttribute> attributes, Signer... signers) {
+        return new Transaction(null, (byte) 0, 1L, 100L, asList(signers), 0, 0, attributes, SCRIPT,
+                new ArrayList<>());
+    }
+
+    private static NeoInvokeFunction invokeResult(long value) {
+        List<StackItem> stack = Collections.singletonList(new IntegerStackItem(BigInteger.valueOf(value)));
+        NeoInvokeFunction response = new NeoInvokeFunction();
+        response.setResult(new InvocationResult(null, NeoVMStateType.HALT, "0", null, null, null, stack, null, null,
+                null));
+        return response;
+    }
+
+    private static NeoInvokeFunction invokeFault() {
+        NeoInvokeFunction response = new NeoInvokeFunction();
+        response.setResult(new InvocationResult(null, NeoVMStateType.FAULT, "0", "Method not found", null, null,
+                new ArrayList<>(), null, null, null));
+        return response;
+    }
+
+}